@@ -4,5 +4,7 @@ plugins {
 
 dependencies {
     compileOnly(libs.bundles.minecraft)
+    compileOnly(libs.netty)
+    testImplementation(libs.bundles.minecraft)
 }
 
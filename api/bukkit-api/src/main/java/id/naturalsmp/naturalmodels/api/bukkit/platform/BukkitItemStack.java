@@ -50,5 +50,10 @@ public record BukkitItemStack(@NotNull ItemStack source) implements PlatformItem
     public @NotNull PlatformItemStack clone() {
         return BukkitAdapter.adapt(source.clone());
     }
+
+    @Override
+    public boolean isSimilar(@NotNull PlatformItemStack other) {
+        return other instanceof BukkitItemStack(var otherSource) && source.isSimilar(otherSource);
+    }
 }
 
@@ -8,9 +8,13 @@ package id.naturalsmp.naturalmodels.api;
 
 import id.naturalsmp.naturalmodels.api.config.DamageIndicatorConfig;
 import id.naturalsmp.naturalmodels.api.config.DebugConfig;
+import id.naturalsmp.naturalmodels.api.config.DeltaSuppressionConfig;
 import id.naturalsmp.naturalmodels.api.config.IndicatorConfig;
+import id.naturalsmp.naturalmodels.api.config.LevelOfDetailConfig;
 import id.naturalsmp.naturalmodels.api.config.ModuleConfig;
+import id.naturalsmp.naturalmodels.api.config.NametagConfig;
 import id.naturalsmp.naturalmodels.api.config.PackConfig;
+import id.naturalsmp.naturalmodels.api.config.TextureConfig;
 import id.naturalsmp.naturalmodels.api.mount.MountController;
 import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -231,6 +235,18 @@ public interface NaturalModelsConfig {
      */
     int packetBundlingSize();
 
+    /**
+     * Checks if model packets should be encoded once and shared between all viewers.
+     * <p>
+     * Shared bytes are written straight to the channel, bypassing the packet queue and packet listeners,
+     * so this is disabled by default. Packets with player-specific content are always sent to each viewer.
+     * </p>
+     *
+     * @return true if broadcast encoding is enabled, false otherwise
+     * @since 2.1.0
+     */
+    boolean packetBroadcast();
+
     /**
      * Checks if strict loading mode is enabled.
      * <p>
@@ -242,6 +258,17 @@ public interface NaturalModelsConfig {
      */
     boolean enableStrictLoading();
 
+    /**
+     * Checks if compiled blueprints should be cached on disk.
+     * <p>
+     * Cached models whose files have not changed are loaded without parsing them again on reload.
+     * </p>
+     *
+     * @return true if the blueprint cache is enabled, false otherwise
+     * @since 2.1.0
+     */
+    boolean blueprintCache();
+
     /**
      * Returns the damage indicator configuration.
      *
@@ -251,6 +278,66 @@ public interface NaturalModelsConfig {
     @NotNull
     DamageIndicatorConfig damageIndicator();
 
+    /**
+     * Returns the distance-based level of detail configuration.
+     *
+     * @return the level of detail config
+     * @since 2.1.0
+     */
+    @NotNull
+    LevelOfDetailConfig levelOfDetail();
+
+    /**
+     * Returns the delta suppression configuration of display transformations.
+     *
+     * @return the delta suppression config
+     * @since 2.1.0
+     */
+    @NotNull
+    DeltaSuppressionConfig deltaSuppression();
+
+    /**
+     * Returns the per-viewer update configuration of model nametags.
+     *
+     * @return the nametag config
+     * @since 2.1.0
+     */
+    @NotNull
+    NametagConfig nametag();
+
+    /**
+     * Returns the texture optimization configuration of the pack build.
+     *
+     * @return the texture config
+     * @since 2.1.0
+     */
+    @NotNull
+    TextureConfig texture();
+
+    /**
+     * Checks if hitboxes should be sent as client-side entities only.
+     * <p>
+     * Virtual hitboxes are not added to the world. Attacks and interactions are validated by a ray test
+     * against their bounding box, and a real entity is only created when the hitbox has to be mounted.
+     * </p>
+     *
+     * @return true if virtual hitboxes are enabled, false otherwise
+     * @since 2.1.0
+     */
+    boolean virtualHitBox();
+
+    /**
+     * Checks if downloaded skins and player profiles should be cached on disk.
+     * <p>
+     * Skins are stored by texture hash and checked against their texture URL,
+     * so a player's skin is only downloaded again when it changes.
+     * </p>
+     *
+     * @return true if the skin cache is enabled, false otherwise
+     * @since 2.1.0
+     */
+    boolean skinCache();
+
     /**
      * Enumerates the types of resource pack generation.
      *
@@ -11,6 +11,9 @@ import id.naturalsmp.naturalmodels.api.util.MathUtil;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Vector3f;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Arrays;
 
 import static id.naturalsmp.naturalmodels.api.util.MathUtil.isNotZero;
@@ -41,6 +44,62 @@ public record AnimationKeyframe(
         return new Builder(size, rotateGlobal);
     }
 
+    /**
+     * Reads a keyframe collection written by {@link #write(DataOutput)}.
+     *
+     * @param input the input
+     * @return the keyframe collection
+     * @throws IOException if an I/O error occurs
+     * @since 2.1.0
+     */
+    public static @NotNull AnimationKeyframe read(@NotNull DataInput input) throws IOException {
+        var size = input.readInt();
+        var array = new AnimationArray(size, input.readBoolean());
+        var progresses = new AnimationProgress[size];
+        for (int i = 0; i < size; i++) {
+            var time = input.readFloat();
+            array.times[i] = time;
+            if (!input.readBoolean()) {
+                progresses[i] = AnimationProgress.empty(time);
+                continue;
+            }
+            array.skipInterpolation[i] = input.readBoolean();
+            for (int j = i * 3, end = j + 3; j < end; j++) {
+                array.position[j] = input.readFloat();
+                array.scale[j] = input.readFloat();
+                array.rotation[j] = input.readFloat();
+            }
+            progresses[i] = new ArrayProgress(array, i);
+        }
+        return new AnimationKeyframe(progresses);
+    }
+
+    /**
+     * Writes this keyframe collection as its primitive arrays.
+     *
+     * @param output the output
+     * @throws IOException if an I/O error occurs
+     * @since 2.1.0
+     */
+    public void write(@NotNull DataOutput output) throws IOException {
+        output.writeInt(progresses.length);
+        output.writeBoolean(Arrays.stream(progresses).anyMatch(AnimationProgress::globalRotation));
+        for (AnimationProgress progress : progresses) {
+            output.writeFloat(progress.time());
+            if (!(progress instanceof ArrayProgress(var array, var index))) {
+                output.writeBoolean(false);
+                continue;
+            }
+            output.writeBoolean(true);
+            output.writeBoolean(array.skipInterpolation[index]);
+            for (int j = index * 3, end = j + 3; j < end; j++) {
+                output.writeFloat(array.position[j]);
+                output.writeFloat(array.scale[j]);
+                output.writeFloat(array.rotation[j]);
+            }
+        }
+    }
+
     private record AnimationArray(
         boolean rotateGlobal,
         boolean[] skipInterpolation,
@@ -10,6 +10,10 @@ import java.util.function.Predicate;
 
 /**
  * Represents an animation state.
+ * <p>
+ * A state is active when the entity has all of its {@link EntityFlags} and its predicate, if any, passes.
+ * A state without a predicate depends only on the flags, so it is re-evaluated only when they change.
+ * </p>
  */
 @Getter
 @Builder
@@ -17,16 +21,29 @@ public class AnimationState {
     private final @NotNull String name;
     private final @NotNull String animation;
     private final int priority;
-    private final @NotNull Predicate<BaseEntity> predicate;
+    private final int flags;
+    private final @Nullable Predicate<BaseEntity> predicate;
     private final @NotNull AnimationModifier modifier;
 
     /**
      * Checks if this state is active for the given entity.
-     * 
+     *
      * @param entity the entity
      * @return true if active
      */
     public boolean isActive(@NotNull BaseEntity entity) {
-        return predicate.test(entity);
+        return isActive(EntityFlags.of(entity), entity);
+    }
+
+    /**
+     * Checks if this state is active for the given entity flags.
+     *
+     * @param flags the entity flags
+     * @param entity the entity
+     * @return true if active
+     * @since 2.1.0
+     */
+    public boolean isActive(int flags, @NotNull BaseEntity entity) {
+        return EntityFlags.matches(flags, this.flags) && (predicate == null || predicate.test(entity));
     }
 }
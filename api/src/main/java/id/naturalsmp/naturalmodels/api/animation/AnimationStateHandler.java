@@ -20,6 +20,7 @@ import java.util.LinkedHashMap;
 import java.util.SequencedMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
 
 /**
@@ -111,12 +112,27 @@ public final class AnimationStateHandler<T extends Timed> {
      * @return keyframe has been shifted or not
      */
     public boolean tick(@NotNull Runnable ifEmpty) {
-        delay--;
+        return tick(1, ifEmpty);
+    }
+
+    /**
+     * Ticks this state handler by multiple frames at once.
+     * <p>
+     * Used by level of detail to skip frames while keeping keyframe timing in sync.
+     * </p>
+     * @param step frames to advance
+     * @param ifEmpty callback if animator is empty
+     * @return keyframe has been shifted or not
+     * @since 2.1.0
+     */
+    public boolean tick(int step, @NotNull Runnable ifEmpty) {
+        step = Math.max(step, 1);
+        delay -= step;
         if (animators.isEmpty()) {
             ifEmpty.run();
             return false;
         }
-        return shouldUpdateAnimation() && updateAnimation();
+        return shouldUpdateAnimation(step) && updateAnimation(step);
     }
 
     /**
@@ -128,11 +144,13 @@ public final class AnimationStateHandler<T extends Timed> {
         return frame == 0 ? 0 : Math.clamp((float) delay / frame, 0F, 1F);
     }
 
-    private boolean shouldUpdateAnimation() {
-        return forceUpdateAnimation.compareAndSet(true, false) || (afterKeyframe != null && keyframeFinished()) || delay % Tracker.MINECRAFT_TICK_MULTIPLIER == 0;
+    private boolean shouldUpdateAnimation(int step) {
+        return forceUpdateAnimation.compareAndSet(true, false)
+            || (afterKeyframe != null && keyframeFinished())
+            || Math.floorDiv(delay + step - 1, Tracker.MINECRAFT_TICK_MULTIPLIER) != Math.floorDiv(delay - 1, Tracker.MINECRAFT_TICK_MULTIPLIER);
     }
 
-    private boolean updateAnimation() {
+    private boolean updateAnimation(int step) {
         synchronized (animators) {
             var iterator = reversedView.iterator();
             while (iterator.hasNext()) {
@@ -151,7 +169,10 @@ public final class AnimationStateHandler<T extends Timed> {
                     }
                 } else if (keyframeFinished()) {
                     if (updateKeyframe(iterator, next)) {
-                        return setAfterKeyframe(next.next());
+                        var overshoot = Math.max(delay, 1 - step);
+                        if (!setAfterKeyframe(next.next())) return false;
+                        delay += overshoot;
+                        return true;
                     }
                 } else {
                     return false;
@@ -220,6 +241,26 @@ public final class AnimationStateHandler<T extends Timed> {
         forceUpdateAnimation.set(true);
     }
 
+    /**
+     * Restarts every animation with a new iterator, keeping its modifier and event handler.
+     * Animations without a new iterator are removed.
+     * @param mapper new iterator by animation name and modifier, or null to remove
+     */
+    public void rebindAnimations(@NotNull BiFunction<String, AnimationModifier, AnimationIterator<T>> mapper) {
+        synchronized (animators) {
+            var iterator = animators.entrySet().iterator();
+            while (iterator.hasNext()) {
+                var entry = iterator.next();
+                var old = entry.getValue();
+                var next = mapper.apply(entry.getKey(), old.modifier);
+                if (next == null) iterator.remove();
+                else entry.setValue(new TreeIterator(entry.getKey(), next, old.modifier, old.eventHandler));
+            }
+            currentIterator = null;
+        }
+        forceUpdateAnimation.set(true);
+    }
+
     /**
      * Remove animation
      * @param name name
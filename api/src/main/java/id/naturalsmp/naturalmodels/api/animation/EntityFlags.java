@@ -0,0 +1,89 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.animation;
+
+import id.naturalsmp.naturalmodels.api.entity.BaseEntity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Entity flags read by {@link StateController}, packed into one int.
+ *
+ * @since 2.1.0
+ */
+public final class EntityFlags {
+
+    /**
+     * No flag.
+     */
+    public static final int NONE = 0;
+    /**
+     * The entity is walking.
+     */
+    public static final int WALK = 1;
+    /**
+     * The entity is swimming.
+     */
+    public static final int SWIM = 1 << 1;
+    /**
+     * The entity is flying.
+     */
+    public static final int FLY = 1 << 2;
+    /**
+     * The entity is dead.
+     */
+    public static final int DEAD = 1 << 3;
+    /**
+     * The entity is on the ground.
+     */
+    public static final int GROUND = 1 << 4;
+
+    private EntityFlags() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Packs flags.
+     *
+     * @param walk walk
+     * @param swim swim
+     * @param fly fly
+     * @param dead dead
+     * @param ground ground
+     * @return flags
+     * @since 2.1.0
+     */
+    public static int of(boolean walk, boolean swim, boolean fly, boolean dead, boolean ground) {
+        return (walk ? WALK : NONE)
+            | (swim ? SWIM : NONE)
+            | (fly ? FLY : NONE)
+            | (dead ? DEAD : NONE)
+            | (ground ? GROUND : NONE);
+    }
+
+    /**
+     * Reads the flags of an entity, calling each property once.
+     *
+     * @param entity entity
+     * @return flags
+     * @since 2.1.0
+     */
+    public static int of(@NotNull BaseEntity entity) {
+        return of(entity.onWalk(), entity.swim(), entity.fly(), entity.dead(), entity.ground());
+    }
+
+    /**
+     * Checks whether every required flag is set.
+     *
+     * @param flags flags
+     * @param required required flags
+     * @return whether to match
+     * @since 2.1.0
+     */
+    public static boolean matches(int flags, int required) {
+        return (flags & required) == required;
+    }
+}
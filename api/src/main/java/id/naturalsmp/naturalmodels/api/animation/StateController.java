@@ -6,52 +6,92 @@ import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Arrays;
 
 /**
  * Manages animation states for a tracker.
+ * <p>
+ * States are kept in an array sorted by priority when they are added.
+ * The entity flags are sampled once per update, and the states are evaluated again only when
+ * the flags change or some state has its own predicate.
+ * </p>
  */
 @RequiredArgsConstructor
 public class StateController {
 
+    private static final AnimationState[] EMPTY = new AnimationState[0];
+
     private final @NotNull Tracker tracker;
-    private final List<AnimationState> states = new CopyOnWriteArrayList<>();
+    private volatile AnimationState[] states = EMPTY;
+    private volatile boolean predicated;
+    private volatile boolean dirty = true;
+    private int lastFlags;
     private @Nullable AnimationState currentState;
 
     /**
      * Adds an animation state.
-     * 
+     *
      * @param state the state
      */
-    public void addState(@NotNull AnimationState state) {
-        states.add(state);
-        states.sort(Comparator.comparingInt(AnimationState::getPriority).reversed());
+    public synchronized void addState(@NotNull AnimationState state) {
+        var old = states;
+        var index = 0;
+        while (index < old.length && old[index].getPriority() >= state.getPriority()) index++;
+        var array = new AnimationState[old.length + 1];
+        System.arraycopy(old, 0, array, 0, index);
+        array[index] = state;
+        System.arraycopy(old, index, array, index + 1, old.length - index);
+        set(array);
     }
 
     /**
      * Removes an animation state by name.
-     * 
+     *
      * @param name the state name
      */
-    public void removeState(@NotNull String name) {
-        states.removeIf(s -> s.getName().equalsIgnoreCase(name));
+    public synchronized void removeState(@NotNull String name) {
+        var old = states;
+        var array = Arrays.stream(old)
+                .filter(s -> !s.getName().equalsIgnoreCase(name))
+                .toArray(AnimationState[]::new);
+        if (array.length != old.length) set(array);
+    }
+
+    private void set(@NotNull AnimationState[] array) {
+        states = array;
+        predicated = Arrays.stream(array).anyMatch(s -> s.getPredicate() != null);
+        dirty = true;
     }
 
     /**
      * Updates the current state based on the entity behavior.
-     * 
+     *
      * @param entity the entity
      */
     public void update(@NotNull BaseEntity entity) {
-        AnimationState bestState = states.stream()
-                .filter(s -> s.isActive(entity))
-                .findFirst()
-                .orElse(null);
+        update(EntityFlags.of(entity), entity);
+    }
+
+    /**
+     * Updates the current state based on sampled entity flags.
+     *
+     * @param flags the entity flags of this tick
+     * @param entity the entity
+     * @since 2.1.0
+     */
+    public void update(int flags, @NotNull BaseEntity entity) {
+        if (!dirty && !predicated && flags == lastFlags) return;
+        dirty = false;
+        lastFlags = flags;
+        AnimationState bestState = null;
+        for (AnimationState state : states) {
+            if (state.isActive(flags, entity)) {
+                bestState = state;
+                break;
+            }
+        }
 
-        if (!Objects.equals(bestState, currentState)) {
+        if (bestState != currentState) {
             if (currentState != null) {
                 tracker.stopAnimation(currentState.getAnimation());
             }
@@ -6,7 +6,6 @@
  */
 package id.naturalsmp.naturalmodels.api.bone;
 
-import id.naturalsmp.naturalmodels.api.util.InterpolationUtil;
 import id.naturalsmp.naturalmodels.api.util.MathUtil;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.ApiStatus;
@@ -15,12 +14,17 @@ import org.jetbrains.annotations.Nullable;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Bone IK solver
+ * <p>
+ * Each chain keeps its joints in preallocated float arrays, so solving allocates nothing.
+ * A chain whose inputs are the same as the last frame reuses its last result instead of iterating again.
+ * </p>
  */
 @ApiStatus.Internal
 @RequiredArgsConstructor
@@ -31,6 +35,10 @@ public final class BoneIKSolver {
 
     private final Map<UUID, RenderedBone> boneMap;
     private final Map<RenderedBone, IKChain> locators = new LinkedHashMap<>();
+    private IKChain[] chains = new IKChain[0];
+
+    private final Vector3f destination = new Vector3f();
+    private final Quaternionf parentRotation = new Quaternionf();
 
     /**
      * Adds some external locator to this solver
@@ -46,7 +54,16 @@ public final class BoneIKSolver {
             .filter(bone -> !bone.flattenBones().contains(locator) && bone.flattenBones().contains(target))
             .toArray(RenderedBone[]::new);
         if (list.length < 2) return;
-        locators.put(locator, new IKChain(source, list, new IKCache(list.length)));
+        locators.put(locator, new IKChain(locator, source, list));
+        chains = locators.values().toArray(IKChain[]::new);
+    }
+
+    /**
+     * Checks this solver has no locator
+     * @return whether to be empty
+     */
+    public boolean isEmpty() {
+        return chains.length == 0;
     }
 
     /**
@@ -57,93 +74,223 @@ public final class BoneIKSolver {
     }
 
     /**
-     * Solves ik
+     * Solves all chains in one pass
      * @param uuid player uuid
      */
     public void solve(@Nullable UUID uuid) {
-        for (var entry : locators.entrySet()) {
-            var locator = entry.getKey();
-            var value = entry.getValue();
-            var root = value.first();
-            fabrik(
-                value.movements(uuid),
-                value.invertedParentRotation(uuid),
-                value.cache.buffer,
-                locator.state(uuid).after().position().get(value.cache.destination)
-                    .add(locator.root.group.getPosition())
-                    .sub(root.state(uuid).after().position())
-                    .sub(root.root.group.getPosition())
-            );
+        for (IKChain chain : chains) {
+            chain.solve(uuid);
         }
     }
 
-    private record IKChain(@NotNull RenderedBone source, @NotNull RenderedBone[] bones, @NotNull IKCache cache) {
-
-        private @NotNull RenderedBone first() {
-            return bones[0];
-        }
+    private final class IKChain {
+        private final RenderedBone locator;
+        private final RenderedBone source;
+        private final RenderedBone[] bones;
+        private final BoneMovement[] movements;
+        private final FabrikChain fabrik;
 
-        private @NotNull Quaternionf invertedParentRotation(@Nullable UUID uuid) {
-            return source.state(uuid).after().rotation().invert(cache.rotation);
+        private IKChain(@NotNull RenderedBone locator, @NotNull RenderedBone source, @NotNull RenderedBone[] bones) {
+            this.locator = locator;
+            this.source = source;
+            this.bones = bones;
+            movements = new BoneMovement[bones.length];
+            fabrik = new FabrikChain(bones.length);
         }
 
-        private @NotNull BoneMovement[] movements(@Nullable UUID uuid) {
-            var movements = cache.movements;
+        private void solve(@Nullable UUID uuid) {
             for (int i = 0; i < bones.length; i++) {
                 movements[i] = bones[i].state(uuid).after();
             }
-            return movements;
+            source.state(uuid).after().rotation().invert(parentRotation);
+            locator.state(uuid).after().position().get(destination)
+                .add(locator.root.group.getPosition())
+                .sub(movements[0].position())
+                .sub(bones[0].root.group.getPosition());
+            fabrik.solve(movements, destination, parentRotation);
         }
     }
 
-    private record IKCache(@NotNull BoneMovement[] movements, float[] buffer, @NotNull Vector3f destination, @NotNull Quaternionf rotation) {
-        private IKCache(int length) {
-            this(new BoneMovement[length], new float[length - 1], new Vector3f(), new Quaternionf());
+    /**
+     * FABRIK state of one chain, kept in preallocated float arrays.
+     */
+    static final class FabrikChain {
+        private static final int STRIDE = 7;
+
+        private final int last;
+        private final float[] x, y, z;
+        private final float[] lengths;
+        private final float[] current;
+        private final float[] input;
+        private final float[] output;
+        private final Vector3f direction = new Vector3f();
+        private final Vector3f vecCache = new Vector3f();
+        private final Quaternionf rotCache = new Quaternionf();
+        private boolean solved;
+
+        FabrikChain(int length) {
+            last = length - 1;
+            x = new float[length];
+            y = new float[length];
+            z = new float[length];
+            lengths = new float[last];
+            current = new float[length * STRIDE + 7];
+            input = new float[current.length];
+            output = new float[length * STRIDE];
+        }
+
+        /**
+         * Moves the joints toward the destination, or reuses the last result if nothing has changed.
+         * @param movements joints from the root of the chain
+         * @param destination destination of the last joint
+         * @param parentRotation inverted rotation of the source bone
+         */
+        void solve(@NotNull BoneMovement[] movements, @NotNull Vector3f destination, @NotNull Quaternionf parentRotation) {
+            capture(movements, destination, parentRotation);
+            var joints = output.length;
+            if (solved && Arrays.equals(current, joints, current.length, input, joints, input.length)) {
+                if (Arrays.equals(current, 0, joints, input, 0, joints)) {
+                    apply(movements);
+                    return;
+                }
+                // Bones not evaluated this frame still hold the last result.
+                if (Arrays.equals(current, 0, joints, output, 0, joints)) return;
+            }
+            System.arraycopy(current, 0, input, 0, current.length);
+            fabrik(movements, destination, parentRotation);
+            store(movements);
+            solved = true;
+        }
+
+        private void capture(@NotNull BoneMovement[] movements, @NotNull Vector3f destination, @NotNull Quaternionf parentRotation) {
+            for (int i = 0, o = 0; i < movements.length; i++, o += STRIDE) {
+                write(current, o, movements[i]);
+            }
+            var o = output.length;
+            current[o] = destination.x;
+            current[o + 1] = destination.y;
+            current[o + 2] = destination.z;
+            current[o + 3] = parentRotation.x;
+            current[o + 4] = parentRotation.y;
+            current[o + 5] = parentRotation.z;
+            current[o + 6] = parentRotation.w;
         }
-    }
 
-    private static void fabrik(@NotNull BoneMovement[] bones, @NotNull Quaternionf parentRot, float[] lengths, @NotNull Vector3f target) {
-        var first = bones[0].position();
-        var last = bones[bones.length - 1].position();
+        private void store(@NotNull BoneMovement[] movements) {
+            for (int i = 0, o = 0; i < movements.length; i++, o += STRIDE) {
+                write(output, o, movements[i]);
+            }
+        }
 
-        var vecCache = new Vector3f();
-        var rootPos = first.get(vecCache);
+        private void apply(@NotNull BoneMovement[] movements) {
+            for (int i = 0, o = 0; i < movements.length; i++, o += STRIDE) {
+                movements[i].position().set(output[o], output[o + 1], output[o + 2]);
+                movements[i].rotation().set(output[o + 3], output[o + 4], output[o + 5], output[o + 6]);
+            }
+        }
 
-        for (int i = 0; i < bones.length - 1; i++) {
-            var before = bones[i];
-            var after = bones[i + 1];
-            lengths[i] = before.position().distance(after.position());
+        private static void write(float[] array, int offset, @NotNull BoneMovement movement) {
+            var position = movement.position();
+            var rotation = movement.rotation();
+            array[offset] = position.x;
+            array[offset + 1] = position.y;
+            array[offset + 2] = position.z;
+            array[offset + 3] = rotation.x;
+            array[offset + 4] = rotation.y;
+            array[offset + 5] = rotation.z;
+            array[offset + 6] = rotation.w;
         }
-        for (int iter = 0; iter < MAX_IK_ITERATION; iter++) {
-            // Forward
-            last.set(target);
-            for (int i = bones.length - 2; i >= 0; i--) {
-                var current = bones[i].position();
-                var next = bones[i + 1].position();
-                var dist = current.distance(next);
-                if (dist < MathUtil.FLOAT_COMPARISON_EPSILON) continue;
-                InterpolationUtil.lerp(next, current, lengths[i] / dist, current);
+
+        private void fabrik(@NotNull BoneMovement[] movements, @NotNull Vector3f destination, @NotNull Quaternionf parentRotation) {
+            for (int i = 0; i < movements.length; i++) {
+                var position = movements[i].position();
+                x[i] = position.x;
+                y[i] = position.y;
+                z[i] = position.z;
+            }
+            var rootX = x[0];
+            var rootY = y[0];
+            var rootZ = z[0];
+            var targetX = destination.x;
+            var targetY = destination.y;
+            var targetZ = destination.z;
+
+            var total = 0F;
+            for (int i = 0; i < last; i++) {
+                total += lengths[i] = distance(i, i + 1);
+            }
+            var reach = distance(rootX, rootY, rootZ, targetX, targetY, targetZ);
+            if (reach > total && reach >= MathUtil.FLOAT_COMPARISON_EPSILON) {
+                // Unreachable: every iteration converges to a straight line toward the target.
+                var dirX = (targetX - rootX) / reach;
+                var dirY = (targetY - rootY) / reach;
+                var dirZ = (targetZ - rootZ) / reach;
+                var along = 0F;
+                for (int i = 0; i < last; i++) {
+                    along += lengths[i];
+                    x[i + 1] = rootX + dirX * along;
+                    y[i + 1] = rootY + dirY * along;
+                    z[i + 1] = rootZ + dirZ * along;
+                }
+            } else {
+                var error = Float.MAX_VALUE;
+                for (int iter = 0; iter < MAX_IK_ITERATION; iter++) {
+                    // Forward
+                    x[last] = targetX;
+                    y[last] = targetY;
+                    z[last] = targetZ;
+                    for (int i = last - 1; i >= 0; i--) {
+                        pull(i + 1, i, lengths[i]);
+                    }
+                    // Backward
+                    x[0] = rootX;
+                    y[0] = rootY;
+                    z[0] = rootZ;
+                    for (int i = 0; i < last; i++) {
+                        pull(i, i + 1, lengths[i]);
+                    }
+                    // Check
+                    var next = distanceSquared(x[last], y[last], z[last], targetX, targetY, targetZ);
+                    if (next < DISTANCE_THRESHOLD_SQ || error - next < DISTANCE_THRESHOLD_SQ) break;
+                    error = next;
+                }
             }
-            // Backward
-            first.set(rootPos);
-            for (int i = 0; i < bones.length - 1; i++) {
-                var current = bones[i].position();
-                var next = bones[i + 1].position();
-                var dist = current.distance(next);
-                if (dist < MathUtil.FLOAT_COMPARISON_EPSILON) continue;
-                InterpolationUtil.lerp(current, next, lengths[i] / dist, next);
+
+            for (int i = 0; i < movements.length; i++) {
+                movements[i].position().set(x[i], y[i], z[i]);
+            }
+            for (int i = 0; i < last; i++) {
+                var rotation = movements[i].rotation();
+                direction.set(x[i + 1] - x[i], y[i + 1] - y[i], z[i + 1] - z[i]).normalize();
+                rotation.set(MathUtil.fromToRotation(direction, vecCache, rotCache).mul(parentRotation).mul(rotation));
             }
-            // Check
-            if (last.distanceSquared(target) < DISTANCE_THRESHOLD_SQ) break;
         }
-        var rotCache = new Quaternionf();
-        for (int i = 0; i < bones.length - 1; i++) {
-            var current = bones[i];
-            var next = bones[i + 1];
 
-            var dir = next.position().sub(current.position(), vecCache);
-            current.rotation().set(MathUtil.fromToRotation(dir.normalize(), rotCache).mul(parentRot).mul(current.rotation()));
+        /**
+         * Moves a joint along its segment so that it is the given length away from the fixed joint.
+         */
+        private void pull(int from, int to, float length) {
+            var dist = distance(from, to);
+            if (dist < MathUtil.FLOAT_COMPARISON_EPSILON) return;
+            var alpha = length / dist;
+            x[to] = MathUtil.fma(x[to] - x[from], alpha, x[from]);
+            y[to] = MathUtil.fma(y[to] - y[from], alpha, y[from]);
+            z[to] = MathUtil.fma(z[to] - z[from], alpha, z[from]);
+        }
+
+        private float distance(int a, int b) {
+            return distance(x[a], y[a], z[a], x[b], y[b], z[b]);
         }
     }
-}
 
+    private static float distance(float x1, float y1, float z1, float x2, float y2, float z2) {
+        return (float) Math.sqrt(distanceSquared(x1, y1, z1, x2, y2, z2));
+    }
+
+    private static float distanceSquared(float x1, float y1, float z1, float x2, float y2, float z2) {
+        var dx = x2 - x1;
+        var dy = y2 - y1;
+        var dz = z2 - z1;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.bone;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.naturalsmp.naturalmodels.api.animation.AnimationProgress;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An evaluated bone movement shared by every tracker that renders the same bone at the same keyframe.
+ * <p>
+ * A bone movement without modifiers only depends on its own keyframe and its parent's movement,
+ * so instances are keyed by (parent instance, keyframe) inside the cache of each {@link id.naturalsmp.naturalmodels.api.data.renderer.RendererGroup}.
+ * Crowds of the same model playing the same animation evaluate each bone hierarchy only once.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public final class BoneMovementInstance {
+
+    private static final LongAdder HIT = new LongAdder();
+    private static final LongAdder MISS = new LongAdder();
+    private static final LongAdder BYPASS = new LongAdder();
+
+    private final BoneMovement movement;
+
+    private BoneMovementInstance(@NotNull BoneMovement movement) {
+        this.movement = movement;
+    }
+
+    /**
+     * Gets the shared movement. It must not be modified.
+     *
+     * @return movement
+     */
+    public @NotNull BoneMovement movement() {
+        return movement;
+    }
+
+    /**
+     * Records a bone evaluated by its private path.
+     */
+    static void bypass() {
+        BYPASS.increment();
+    }
+
+    /**
+     * Gets the current statistics of all caches.
+     *
+     * @return statistics
+     * @since 2.1.0
+     */
+    public static @NotNull Statistics statistics() {
+        return new Statistics(HIT.sum(), MISS.sum(), BYPASS.sum());
+    }
+
+    /**
+     * Instance cache statistics.
+     *
+     * @param hit the number of movements read from the cache
+     * @param miss the number of movements evaluated and stored in the cache
+     * @param bypass the number of movements evaluated privately (modifiers, IK or per-player state)
+     * @since 2.1.0
+     */
+    public record Statistics(long hit, long miss, long bypass) {
+        /**
+         * Gets the ratio of cache hits among all evaluated movements.
+         *
+         * @return hit rate between 0 and 1
+         */
+        public double hitRate() {
+            var total = hit + miss + bypass;
+            return total == 0 ? 0 : (double) hit / total;
+        }
+    }
+
+    /**
+     * A per-group cache of shared movements.
+     * <p>
+     * It is bounded, so keyframes which are no longer played are evicted in favor of new ones.
+     * </p>
+     */
+    public static final class Cache {
+
+        private static final int MAX_SIZE = 4096;
+
+        private final com.github.benmanes.caffeine.cache.Cache<Key, BoneMovementInstance> instances = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .build();
+
+        /**
+         * Gets or evaluates the shared movement of the given keyframe.
+         *
+         * @param parent parent instance or null if root
+         * @param keyframe keyframe
+         * @param evaluator movement evaluator
+         * @return instance
+         */
+        @NotNull BoneMovementInstance get(@Nullable BoneMovementInstance parent, @NotNull AnimationProgress keyframe, @NotNull Supplier<BoneMovement> evaluator) {
+            var key = new Key(parent, keyframe);
+            var get = instances.getIfPresent(key);
+            if (get != null) {
+                HIT.increment();
+                return get;
+            }
+            MISS.increment();
+            var created = new BoneMovementInstance(evaluator.get());
+            var previous = instances.asMap().putIfAbsent(key, created);
+            return previous != null ? previous : created;
+        }
+
+        /**
+         * Gets the estimated number of cached instances.
+         *
+         * @return size
+         */
+        public int size() {
+            return (int) instances.estimatedSize();
+        }
+    }
+
+    private record Key(@Nullable BoneMovementInstance parent, @NotNull AnimationProgress keyframe) {
+    }
+}
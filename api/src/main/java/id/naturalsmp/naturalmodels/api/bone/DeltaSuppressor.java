@@ -0,0 +1,124 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.bone;
+
+import id.naturalsmp.naturalmodels.api.NaturalModels;
+import id.naturalsmp.naturalmodels.api.nms.DisplayTransformer;
+import id.naturalsmp.naturalmodels.api.nms.PacketBundler;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Last sent transformation of a bone for one viewer group.
+ * <p>
+ * Transformations below the thresholds of {@link id.naturalsmp.naturalmodels.api.config.DeltaSuppressionConfig} are held back,
+ * so small changes accumulate against the last sent snapshot until they become visible.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public final class DeltaSuppressor {
+
+    private static final LongAdder SENT = new LongAdder();
+    private static final LongAdder SUPPRESSED = new LongAdder();
+    private static final LongAdder CATCH_UP = new LongAdder();
+
+    private final Vector3f position = new Vector3f(), scale = new Vector3f();
+    private final Quaternionf rotation = new Quaternionf();
+    private final Vector3f pendingPosition = new Vector3f(), pendingScale = new Vector3f();
+    private final Quaternionf pendingRotation = new Quaternionf();
+    private int pendingDuration;
+    private boolean sent, pending;
+
+    /**
+     * Gets the current statistics of all bones.
+     *
+     * @return statistics
+     * @since 2.1.0
+     */
+    public static @NotNull Statistics statistics() {
+        return new Statistics(SENT.sum(), SUPPRESSED.sum(), CATCH_UP.sum());
+    }
+
+    /**
+     * Checks whether a transformation should be sent, and records it as the last sent one if so.
+     *
+     * @param duration interpolation duration
+     * @param position position
+     * @param scale scale
+     * @param rotation rotation
+     * @return whether to send
+     */
+    public boolean test(int duration, @NotNull Vector3f position, @NotNull Vector3f scale, @NotNull Quaternionf rotation) {
+        if (sent && NaturalModels.config().deltaSuppression().isSimilar(this.position, position, this.scale, scale, this.rotation, rotation)) {
+            pendingPosition.set(position);
+            pendingScale.set(scale);
+            pendingRotation.set(rotation);
+            pendingDuration = duration;
+            pending = true;
+            SUPPRESSED.increment();
+            return false;
+        }
+        this.position.set(position);
+        this.scale.set(scale);
+        this.rotation.set(rotation);
+        sent = true;
+        pending = false;
+        SENT.increment();
+        return true;
+    }
+
+    /**
+     * Checks whether a suppressed transformation is waiting to be sent.
+     *
+     * @return whether to be pending
+     */
+    public boolean pending() {
+        return pending;
+    }
+
+    /**
+     * Sends the latest suppressed transformation.
+     *
+     * @param transformer transformer
+     * @param bundler bundler
+     */
+    public void catchUp(@NotNull DisplayTransformer transformer, @NotNull PacketBundler bundler) {
+        if (!pending) return;
+        pending = false;
+        position.set(pendingPosition);
+        scale.set(pendingScale);
+        rotation.set(pendingRotation);
+        CATCH_UP.increment();
+        transformer.transform(pendingDuration, pendingPosition, pendingScale, pendingRotation, bundler);
+    }
+
+    /**
+     * Delta suppression statistics.
+     *
+     * @param sent the number of transformations sent
+     * @param suppressed the number of transformations held back
+     * @param catchUp the number of held back transformations sent after the bone stopped moving
+     * @since 2.1.0
+     */
+    public record Statistics(long sent, long suppressed, long catchUp) {
+        /**
+         * Gets the ratio of suppressed transformations among all transformations.
+         *
+         * @return suppressed ratio between 0 and 1
+         */
+        public double suppressedRatio() {
+            var total = sent + suppressed;
+            return total == 0 ? 0 : (double) (suppressed - catchUp) / total;
+        }
+    }
+}
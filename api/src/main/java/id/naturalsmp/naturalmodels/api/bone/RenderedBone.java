@@ -6,8 +6,6 @@
  */
 package id.naturalsmp.naturalmodels.api.bone;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.animation.*;
 import id.naturalsmp.naturalmodels.api.attachment.BoneAttachment;
@@ -18,7 +16,6 @@ import id.naturalsmp.naturalmodels.api.data.renderer.RenderSource;
 import id.naturalsmp.naturalmodels.api.data.renderer.RendererGroup;
 import id.naturalsmp.naturalmodels.api.entity.BaseEntity;
 import id.naturalsmp.naturalmodels.api.nms.*;
-import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack;
 import id.naturalsmp.naturalmodels.api.platform.PlatformLocation;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
 import id.naturalsmp.naturalmodels.api.tracker.ModelRotation;
@@ -56,7 +53,7 @@ public final class RenderedBone implements BoneEventHandler {
 
     @Getter
     @NotNull
-    final RendererGroup group;
+    volatile RendererGroup group;
     private final BoneMovement defaultFrame;
     @Getter
     private volatile BoneRenderContext renderContext;
@@ -75,7 +72,6 @@ public final class RenderedBone implements BoneEventHandler {
     @NotNull
     final Map<BoneName, RenderedBone> children;
 
-    private final Int2ObjectMap<PlatformItemStack> tintCacheMap = new Int2ObjectOpenHashMap<>();
     @Getter
     private final boolean dummyBone;
     private final Object itemLock = new Object();
@@ -111,6 +107,9 @@ public final class RenderedBone implements BoneEventHandler {
     private Vector3f lastModifiedPosition = new Vector3f();
     private Function<Quaternionf, Quaternionf> rotationModifier = r -> r;
     private Quaternionf lastModifiedRotation = new Quaternionf();
+    private volatile boolean instancing = true;
+    private volatile boolean deltaSuppression = true;
+    private volatile int lodInterval = 1;
 
     /**
      * Creates entity.
@@ -160,6 +159,61 @@ public final class RenderedBone implements BoneEventHandler {
         }
     }
 
+    /**
+     * Checks whether this bone and its children can display a reloaded group without being respawned.
+     * @param group reloaded group
+     * @return whether to be compatible
+     */
+    @ApiStatus.Internal
+    public boolean compatible(@NotNull RendererGroup group) {
+        var groupChildren = group.getChildren();
+        if (!this.group.compatible(group) || children.size() != groupChildren.size()) return false;
+        for (var entry : children.entrySet()) {
+            var child = groupChildren.get(entry.getKey());
+            if (child == null || !entry.getValue().compatible(child)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Binds this bone and its children to a reloaded group, keeping the display entity.
+     * The group must be {@link #compatible(RendererGroup)}.
+     * @param group reloaded group
+     * @return whether any displayed item has changed
+     */
+    @ApiStatus.Internal
+    public boolean rebind(@NotNull RendererGroup group) {
+        var previous = this.group;
+        this.group = group;
+        var item = group.getItemStack();
+        var changed = !previous.getItemStack().itemStack().isSimilar(item.itemStack())
+            && itemStack(b -> true, itemMapper.apply(renderContext, item));
+        var groupChildren = group.getChildren();
+        for (var entry : children.entrySet()) {
+            if (entry.getValue().rebind(groupChildren.get(entry.getKey()))) changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Restarts the running animations of this bone with the keyframes of reloaded animations.
+     * Animations which no longer exist are stopped.
+     * @param animations reloaded animations
+     */
+    @ApiStatus.Internal
+    public void rebindAnimations(@NotNull Map<String, BlueprintAnimation> animations) {
+        globalState.rebindAnimations(animations);
+        perPlayerState.values().forEach(state -> state.rebindAnimations(animations));
+    }
+
+    /**
+     * Makes this bone always evaluate its movement privately instead of reading shared instances.
+     */
+    @ApiStatus.Internal
+    public void disableInstancing() {
+        instancing = false;
+    }
+
     private @NotNull BoneStateHandler state(@Nullable PlatformPlayer player) {
         return state(player != null ? player.uuid() : null);
     }
@@ -299,7 +353,6 @@ public final class RenderedBone implements BoneEventHandler {
                 this.itemStack = itemStack;
                 if (display != null)
                     display.invisible(itemStack.isAir());
-                tintCacheMap.clear();
                 return applyItem();
             }
         }
@@ -317,6 +370,7 @@ public final class RenderedBone implements BoneEventHandler {
             @NotNull Function<Quaternionf, Quaternionf> function) {
         if (predicate.test(this)) {
             rotationModifier = rotationModifier.andThen(function);
+            instancing = false;
             return true;
         }
         return false;
@@ -333,6 +387,7 @@ public final class RenderedBone implements BoneEventHandler {
             @NotNull Function<Vector3f, Vector3f> function) {
         if (predicate.test(this)) {
             positionModifier = positionModifier.andThen(function);
+            instancing = false;
             return true;
         }
         return false;
@@ -348,12 +403,20 @@ public final class RenderedBone implements BoneEventHandler {
     }
 
     public boolean tick() {
-        return globalState.tick();
+        return tick(1);
+    }
+
+    public boolean tick(int step) {
+        return globalState.tick(step);
     }
 
     public boolean tick(@NotNull UUID uuid) {
+        return tick(uuid, 1);
+    }
+
+    public boolean tick(@NotNull UUID uuid, int step) {
         var get = perPlayerState.get(uuid);
-        return get != null && get.tick();
+        return get != null && get.tick(step);
     }
 
     public void dirtyUpdate(@NotNull PacketBundler bundler) {
@@ -378,6 +441,38 @@ public final class RenderedBone implements BoneEventHandler {
         state(uuid).sendTransformation(bundler);
     }
 
+    /**
+     * Sends the transformation held back by delta suppression if this bone has stopped moving.
+     *
+     * @param uuid player uuid, or null for the global state
+     * @param bundler bundler
+     * @return whether a transformation has been sent
+     */
+    public boolean flushTransformation(@Nullable UUID uuid, @NotNull PacketBundler bundler) {
+        var state = uuid == null ? globalState : perPlayerState.get(uuid);
+        return state != null && state.flushTransformation(bundler);
+    }
+
+    /**
+     * Sets whether to hold back transformations below the delta suppression thresholds.
+     *
+     * @param deltaSuppression whether to suppress small transformations
+     */
+    @ApiStatus.Internal
+    public void deltaSuppression(boolean deltaSuppression) {
+        this.deltaSuppression = deltaSuppression;
+    }
+
+    /**
+     * Sets the level of detail interval, which is the shortest interpolation duration of transformations.
+     *
+     * @param interval the interval in Minecraft ticks between animation updates
+     */
+    @ApiStatus.Internal
+    public void levelOfDetailInterval(int interval) {
+        lodInterval = Math.max(interval, 1);
+    }
+
     public void forceTransformation(@NotNull PacketBundler bundler) {
         var d = globalState.transformer;
         if (d != null)
@@ -388,6 +483,17 @@ public final class RenderedBone implements BoneEventHandler {
         return globalState.interpolationDuration();
     }
 
+    /**
+     * Checks whether a player has its own state of this bone.
+     *
+     * @param uuid player uuid
+     * @return whether a per-player state exists
+     * @since 2.1.0
+     */
+    public boolean hasPerPlayerState(@NotNull UUID uuid) {
+        return perPlayerState.containsKey(uuid);
+    }
+
     public @NotNull Vector3f worldPosition() {
         return worldPosition(EMPTY_VECTOR);
     }
@@ -454,7 +560,7 @@ public final class RenderedBone implements BoneEventHandler {
 
     private void applyItem(@NotNull ModelDisplay targetDisplay) {
         targetDisplay.item(itemStack.isAir() ? itemStack.itemStack()
-                : tintCacheMap.computeIfAbsent(tint, i -> NaturalModels.nms().tint(itemStack.itemStack(), i)));
+                : TintedItemCache.tint(itemStack.itemStack(), tint));
     }
 
     public void teleport(@NotNull PlatformLocation location, @NotNull PacketBundler bundler) {
@@ -524,6 +630,21 @@ public final class RenderedBone implements BoneEventHandler {
         attachments.clear();
     }
 
+    /**
+     * Removes model's display for a player
+     * 
+     * @param player  player
+     * @param bundler packet bundler
+     */
+    public void remove(@NotNull PlatformPlayer player, @NotNull PacketBundler bundler) {
+        if (display != null)
+            display.remove(bundler);
+        if (nametag != null)
+            nametag.remove(player, bundler);
+        attachments.forEach(BoneAttachment::remove);
+        attachments.clear();
+    }
+
     public @NotNull Stream<RenderedBone> flatten() {
         return flattenBones().stream();
     }
@@ -647,11 +768,14 @@ public final class RenderedBone implements BoneEventHandler {
         private final AnimationStateHandler<AnimationProgress> state;
         private final BoneMovement beforeTransform = new BoneMovement(), afterTransform = new BoneMovement();
         private BoneMovement currentTransform;
+        private volatile BoneMovementInstance instance;
         private final DisplayTransformer transformer = display != null ? display.createTransformer() : null;
+        private final DeltaSuppressor suppressor = transformer != null ? new DeltaSuppressor() : null;
 
         // Flags
         private boolean firstTick = true;
         private boolean skipInterpolation = false;
+        private int idleFrames = 0;
         private final AtomicBoolean updateAfterTransform = new AtomicBoolean();
 
         // Caches
@@ -671,6 +795,17 @@ public final class RenderedBone implements BoneEventHandler {
                             || (parent != null && parent.state(uuid).skipInterpolation));
         }
 
+        private void rebindAnimations(@NotNull Map<String, BlueprintAnimation> animations) {
+            state.rebindAnimations((name, modifier) -> {
+                var animation = animations.get(name);
+                if (animation == null)
+                    return null;
+                var get = animation.animator().get(name());
+                var type = modifier.type(animation.loop());
+                return get != null ? get.iterator(type) : animation.emptyIterator(type);
+            });
+        }
+
         private @NotNull BoneMovement before() {
             return beforeTransform;
         }
@@ -685,8 +820,31 @@ public final class RenderedBone implements BoneEventHandler {
             if (!updateAfterTransform.compareAndSet(true, false))
                 return afterTransform;
             var keyframe = state.afterKeyframe(AnimationProgress.EMPTY);
-            var preventModifierUpdate = interpolationDuration() < 1;
-            var def = keyframe.animate(defaultFrame, movementCache);
+            if (uuid == null && instancing) {
+                var shared = instance = instance(keyframe);
+                if (shared != null)
+                    return lock.accessToWriteLock(() -> afterTransform.set(shared.movement()));
+            } else
+                instance = null;
+            BoneMovementInstance.bypass();
+            var def = animate(keyframe, movementCache, interpolationDuration() < 1);
+            return lock.accessToWriteLock(() -> afterTransform.set(def));
+        }
+
+        private @Nullable BoneMovementInstance instance(@NotNull AnimationProgress keyframe) {
+            BoneMovementInstance parentInstance = null;
+            if (parent != null) {
+                var parentState = parent.globalState;
+                parentState.after();
+                parentInstance = parentState.instance;
+                if (parentInstance == null)
+                    return null;
+            }
+            return group.getInstanceCache().get(parentInstance, keyframe, () -> animate(keyframe, new BoneMovement(), true));
+        }
+
+        private @NotNull BoneMovement animate(@NotNull AnimationProgress keyframe, @NotNull BoneMovement dest, boolean preventModifierUpdate) {
+            var def = keyframe.animate(defaultFrame, dest);
             if (parent != null) {
                 var p = parent.state(uuid).after();
                 MathUtil.fma(
@@ -704,11 +862,11 @@ public final class RenderedBone implements BoneEventHandler {
                 def.position().add(modifiedPosition(preventModifierUpdate));
                 def.rotation().mul(modifiedRotation(preventModifierUpdate));
             }
-            return lock.accessToWriteLock(() -> afterTransform.set(def));
+            return def;
         }
 
-        private boolean tick() {
-            var result = state.tick(() -> {
+        private boolean tick(int step) {
+            var result = state.tick(step, () -> {
                 if (uuid != null) {
                     perPlayerState.remove(uuid);
                     consumer.accept(uuid);
@@ -719,6 +877,7 @@ public final class RenderedBone implements BoneEventHandler {
                 currentTransform = null;
             }
             firstTick = false;
+            idleFrames = result ? 0 : idleFrames + step;
             return result;
         }
 
@@ -730,7 +889,7 @@ public final class RenderedBone implements BoneEventHandler {
             if (skipInterpolation)
                 return 0;
             var frame = state.frame() / (float) Tracker.MINECRAFT_TICK_MULTIPLIER;
-            return Math.round(frame + MathUtil.FLOAT_COMPARISON_EPSILON);
+            return Math.max(Math.round(frame + MathUtil.FLOAT_COMPARISON_EPSILON), lodInterval);
         }
 
         private void sendTransformation(@NotNull PacketBundler bundler) {
@@ -741,20 +900,28 @@ public final class RenderedBone implements BoneEventHandler {
                 return;
             currentTransform = boneMovement;
             var mul = scale.getAsFloat();
-            transformer.transform(
-                    interpolationDuration(),
-                    MathUtil.fma(
-                            itemStack.offset().rotate(boneMovement.rotation(), positionCache)
-                                    .add(boneMovement.position())
-                                    .add(root.group.getPosition()),
-                            mul,
-                            itemStack.position()).add(defaultPosition.get()),
-                    boneMovement.scale()
-                            .mul(itemStack.scale(), scaleCache)
-                            .mul(mul)
-                            .max(EMPTY_VECTOR),
-                    boneMovement.rotation(),
-                    bundler);
+            var duration = interpolationDuration();
+            var position = MathUtil.fma(
+                    itemStack.offset().rotate(boneMovement.rotation(), positionCache)
+                            .add(boneMovement.position())
+                            .add(root.group.getPosition()),
+                    mul,
+                    itemStack.position()).add(defaultPosition.get());
+            var boneScale = boneMovement.scale()
+                    .mul(itemStack.scale(), scaleCache)
+                    .mul(mul)
+                    .max(EMPTY_VECTOR);
+            if (deltaSuppression && !suppressor.test(duration, position, boneScale, boneMovement.rotation()))
+                return;
+            transformer.transform(duration, position, boneScale, boneMovement.rotation(), bundler);
+        }
+
+        private boolean flushTransformation(@NotNull PacketBundler bundler) {
+            // A bone still playing an animation shifts its keyframe at least once per Minecraft tick.
+            if (idleFrames <= Tracker.MINECRAFT_TICK_MULTIPLIER || suppressor == null || !suppressor.pending())
+                return false;
+            suppressor.catchUp(transformer, bundler);
+            return true;
         }
 
         private @NotNull Vector3f worldPosition(@NotNull Vector3f localOffset, @NotNull Vector3f globalOffset) {
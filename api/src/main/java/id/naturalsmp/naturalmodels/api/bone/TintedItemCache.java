@@ -0,0 +1,118 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.bone;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.naturalsmp.naturalmodels.api.NaturalModels;
+import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack;
+import it.unimi.dsi.fastutil.ints.Int2ReferenceMap;
+import it.unimi.dsi.fastutil.ints.Int2ReferenceOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A global cache of tinted items shared by every bone of every tracker.
+ * <p>
+ * Items are interned by (base item, tint), so a crowd of the same model flashing the same damage tint
+ * creates a single tinted copy instead of one per bone.
+ * Base items are compared by identity, because hashing an item stack by value walks all of its components.
+ * Bones of the same model share their base item, and a bone replaces its base item instead of modifying it.
+ * The cache is bounded, its keys are weakly held and its values are softly held, so the GC can reclaim them.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public final class TintedItemCache {
+
+    private static final int MAX_SIZE = 4096;
+
+    private static final LongAdder HIT = new LongAdder();
+    private static final LongAdder MISS = new LongAdder();
+    private static final LongAdder EVICTION = new LongAdder();
+
+    private static final Cache<PlatformItemStack, Int2ReferenceMap<PlatformItemStack>> CACHE = Caffeine.newBuilder()
+        .maximumSize(MAX_SIZE)
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .weakKeys()
+        .softValues()
+        .removalListener((key, value, cause) -> {
+            if (cause.wasEvicted()) EVICTION.increment();
+        })
+        .build();
+
+    private TintedItemCache() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Gets or creates the tinted copy of the given item.
+     *
+     * @param itemStack base item
+     * @param tint rgb tint
+     * @return tinted item. It must not be modified.
+     * @since 2.1.0
+     */
+    public static @NotNull PlatformItemStack tint(@NotNull PlatformItemStack itemStack, int tint) {
+        var tints = CACHE.get(itemStack, i -> new Int2ReferenceOpenHashMap<>(2));
+        synchronized (tints) {
+            var get = tints.get(tint);
+            if (get != null) {
+                HIT.increment();
+                return get;
+            }
+            MISS.increment();
+            var created = NaturalModels.nms().tint(itemStack, tint);
+            tints.put(tint, created);
+            return created;
+        }
+    }
+
+    /**
+     * Clears all cached items.
+     *
+     * @since 2.1.0
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Gets the current statistics of this cache.
+     *
+     * @return statistics
+     * @since 2.1.0
+     */
+    public static @NotNull Statistics statistics() {
+        return new Statistics(HIT.sum(), MISS.sum(), EVICTION.sum(), CACHE.estimatedSize());
+    }
+
+    /**
+     * Tinted item cache statistics.
+     *
+     * @param hit the number of tinted items read from the cache
+     * @param miss the number of tinted items created
+     * @param eviction the number of base items evicted or reclaimed by the GC, with all of their tinted items
+     * @param size the estimated number of cached base items
+     * @since 2.1.0
+     */
+    public record Statistics(long hit, long miss, long eviction, long size) {
+        /**
+         * Gets the ratio of cache hits among all lookups.
+         *
+         * @return hit rate between 0 and 1
+         */
+        public double hitRate() {
+            var total = hit + miss;
+            return total == 0 ? 0 : (double) hit / total;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.config;
+
+import id.naturalsmp.naturalmodels.api.util.MathUtil;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Delta suppression config of display transformations.
+ * <p>
+ * A transformation is not sent while it differs from the last sent one by less than every threshold.
+ * The latest suppressed transformation is sent once the bone stops moving.
+ * </p>
+ *
+ * @param enabled whether the feature is enabled
+ * @param position the position threshold in blocks
+ * @param scale the scale threshold of each axis
+ * @param rotation the rotation threshold in degrees
+ * @since 2.1.0
+ */
+public record DeltaSuppressionConfig(
+    boolean enabled,
+    float position,
+    float scale,
+    float rotation
+) {
+    /**
+     * Default configuration.
+     */
+    public static final DeltaSuppressionConfig DEFAULT = new DeltaSuppressionConfig(true, 0.002F, 0.002F, 0.25F);
+
+    /**
+     * Checks whether a transformation is visually the same as the last sent one.
+     *
+     * @param lastPosition last sent position
+     * @param position position
+     * @param lastScale last sent scale
+     * @param scale scale
+     * @param lastRotation last sent rotation
+     * @param rotation rotation
+     * @return whether the change is below every threshold
+     * @since 2.1.0
+     */
+    public boolean isSimilar(
+        @NotNull Vector3f lastPosition,
+        @NotNull Vector3f position,
+        @NotNull Vector3f lastScale,
+        @NotNull Vector3f scale,
+        @NotNull Quaternionf lastRotation,
+        @NotNull Quaternionf rotation
+    ) {
+        return enabled
+            && lastPosition.distanceSquared(position) < this.position * this.position
+            && MathUtil.isSimilar(lastScale, scale, this.scale)
+            && Math.abs(lastRotation.dot(rotation)) > Math.cos(Math.toRadians(this.rotation) * 0.5);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.config;
+
+/**
+ * Distance-based level of detail config.
+ * <p>
+ * Distances are fractions of the max sight, so the bands scale with the server's view distance.
+ * Intervals are measured in Minecraft ticks, and the interpolation duration of each transformation
+ * is multiplied by the interval, so far models send fewer packets but still move smoothly.
+ * </p>
+ *
+ * @param enabled whether the feature is enabled
+ * @param nearDistance viewers closer than this fraction of max sight get full-rate updates
+ * @param farDistance viewers farther than this fraction of max sight fall into the far band
+ * @param mediumInterval the tick interval between animation updates in the medium band
+ * @param farInterval the tick interval between animation updates in the far band
+ * @param freezeBehind whether to freeze animations of models that are behind every viewer
+ * @since 2.1.0
+ */
+public record LevelOfDetailConfig(
+    boolean enabled,
+    double nearDistance,
+    double farDistance,
+    int mediumInterval,
+    int farInterval,
+    boolean freezeBehind
+) {
+    /**
+     * Default configuration.
+     */
+    public static final LevelOfDetailConfig DEFAULT = new LevelOfDetailConfig(true, 0.25, 0.6, 2, 5, true);
+
+    /**
+     * Creates config
+     */
+    public LevelOfDetailConfig {
+        mediumInterval = Math.max(mediumInterval, 1);
+        farInterval = Math.max(farInterval, mediumInterval);
+    }
+
+    /**
+     * Gets the tick interval for the given distance of the nearest viewer.
+     *
+     * @param distance the distance of the nearest viewer
+     * @param maxSight the max sight
+     * @return the tick interval
+     * @since 2.1.0
+     */
+    public int interval(double distance, double maxSight) {
+        if (!enabled || distance <= maxSight * nearDistance) return 1;
+        return distance <= maxSight * farDistance ? mediumInterval : farInterval;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.config;
+
+/**
+ * Per-viewer update config of model nametags.
+ * <p>
+ * A position sync is sent to a viewer only when the nametag has moved past the threshold since the last one,
+ * and the distance to each viewer is checked again only every interval.
+ * </p>
+ *
+ * @param positionThreshold the minimum movement in blocks to send a position sync
+ * @param visibilityInterval the interval in ticks between visibility checks
+ * @since 2.1.0
+ */
+public record NametagConfig(
+    float positionThreshold,
+    int visibilityInterval
+) {
+    /**
+     * Default configuration.
+     */
+    public static final NametagConfig DEFAULT = new NametagConfig(0.01F, 5);
+
+    /**
+     * Checks whether the visibility of a viewer should be checked at this tick.
+     * Viewers are spread across the interval by their hash.
+     *
+     * @param tick current tick, or a negative value to always check
+     * @param hash viewer hash
+     * @return whether to check visibility
+     * @since 2.1.0
+     */
+    public boolean shouldCheckVisibility(long tick, int hash) {
+        return tick < 0 || visibilityInterval <= 1 || Math.floorMod(tick + hash, visibilityInterval) == 0;
+    }
+}
@@ -7,25 +7,60 @@
 package id.naturalsmp.naturalmodels.api.config;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Locale;
 import java.util.function.Predicate;
+import java.util.zip.Deflater;
 
 /**
  * Pack config
  * @param generateModernModel generate modern model
  * @param generateLegacyModel generate legacy model
  * @param useObfuscation use obfuscation
+ * @param compressionLevel deflate level of zipped entries (0-9)
+ * @param compressionStrategy deflate strategy of zipped entries
  */
 public record PackConfig(
     boolean generateModernModel,
     boolean generateLegacyModel,
-    boolean useObfuscation
+    boolean useObfuscation,
+    int compressionLevel,
+    @NotNull CompressionStrategy compressionStrategy
 ) {
     /**
      * Default config
      */
     public static final PackConfig DEFAULT = new PackConfig(true, true, false);
 
+    /**
+     * Creates config
+     */
+    public PackConfig {
+        compressionLevel = Math.clamp(compressionLevel, Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Creates config with default compression
+     * @param generateModernModel generate modern model
+     * @param generateLegacyModel generate legacy model
+     * @param useObfuscation use obfuscation
+     */
+    public PackConfig(boolean generateModernModel, boolean generateLegacyModel, boolean useObfuscation) {
+        this(generateModernModel, generateLegacyModel, useObfuscation, Deflater.BEST_COMPRESSION, CompressionStrategy.DEFAULT);
+    }
+
+    /**
+     * Creates a copy of this config with the given compression
+     * @param level deflate level
+     * @param strategy deflate strategy
+     * @return new config
+     * @since 2.1.0
+     */
+    public @NotNull PackConfig compression(int level, @NotNull CompressionStrategy strategy) {
+        return new PackConfig(generateModernModel, generateLegacyModel, useObfuscation, level, strategy);
+    }
+
     /**
      * Creates config from YAML
      * @param predicate predicate
@@ -38,5 +73,52 @@ public record PackConfig(
             predicate.test("use-obfuscation")
         );
     }
-}
 
+    /**
+     * Deflate strategy
+     * @since 2.1.0
+     */
+    public enum CompressionStrategy {
+        /**
+         * Default strategy
+         */
+        DEFAULT(Deflater.DEFAULT_STRATEGY),
+        /**
+         * Filtered strategy
+         */
+        FILTERED(Deflater.FILTERED),
+        /**
+         * Huffman only strategy
+         */
+        HUFFMAN_ONLY(Deflater.HUFFMAN_ONLY)
+        ;
+
+        private final int value;
+
+        CompressionStrategy(int value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets the deflater strategy value
+         * @return strategy value
+         */
+        public int value() {
+            return value;
+        }
+
+        /**
+         * Finds strategy by name
+         * @param name name
+         * @return strategy or default if not found
+         */
+        public static @NotNull CompressionStrategy of(@Nullable String name) {
+            if (name == null) return DEFAULT;
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                return DEFAULT;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.config;
+
+/**
+ * Texture optimization config of the pack build.
+ *
+ * @param deduplicate whether textures with the same pixels are written once
+ * @param optimize whether PNGs are losslessly re-encoded when it makes them smaller
+ * @param atlas whether small textures of a model are packed into one atlas
+ * @param atlasTextureSize the maximum width and height of a texture to pack into an atlas
+ * @param atlasMaxSize the maximum width and height of an atlas
+ * @since 2.1.0
+ */
+public record TextureConfig(
+    boolean deduplicate,
+    boolean optimize,
+    boolean atlas,
+    int atlasTextureSize,
+    int atlasMaxSize
+) {
+    /**
+     * Default configuration.
+     */
+    public static final TextureConfig DEFAULT = new TextureConfig(true, true, false, 32, 512);
+}
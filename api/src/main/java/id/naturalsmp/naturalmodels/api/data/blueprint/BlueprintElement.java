@@ -10,6 +10,7 @@ import com.google.gson.JsonObject;
 import id.naturalsmp.naturalmodels.api.bone.BoneName;
 import id.naturalsmp.naturalmodels.api.data.Float3;
 import id.naturalsmp.naturalmodels.api.data.raw.ModelFace;
+import id.naturalsmp.naturalmodels.api.data.raw.ModelUV;
 import id.naturalsmp.naturalmodels.api.pack.PackObfuscator;
 import id.naturalsmp.naturalmodels.api.util.MathUtil;
 import id.naturalsmp.naturalmodels.api.util.PackUtil;
@@ -21,6 +22,7 @@ import org.joml.Quaternionf;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static id.naturalsmp.naturalmodels.api.util.CollectionUtil.*;
@@ -35,6 +37,17 @@ import static id.naturalsmp.naturalmodels.api.util.CollectionUtil.*;
  */
 public sealed interface BlueprintElement {
 
+    /**
+     * Creates a copy of this element with every UV mapping of its cubes replaced.
+     *
+     * @param mapper the UV mapper
+     * @return the mapped element
+     * @since 2.1.0
+     */
+    default @NotNull BlueprintElement mapUV(@NotNull UnaryOperator<ModelUV> mapper) {
+        return this;
+    }
+
     /**
      * Represents an element that acts as a bone in the model's armature.
      *
@@ -119,6 +132,11 @@ public sealed interface BlueprintElement {
             return origin.invertXZ();
         }
 
+        @Override
+        public @NotNull Group mapUV(@NotNull UnaryOperator<ModelUV> mapper) {
+            return new Group(uuid, name, origin, rotation, mapToList(children, child -> child.mapUV(mapper)), visibility);
+        }
+
         private @NotNull String jsonName(@NotNull ModelBlueprint parent) {
             return PackUtil.toPackName(parent.name() + "_" + name.rawName());
         }
@@ -335,6 +353,11 @@ public sealed interface BlueprintElement {
         boolean visibility
     ) implements BlueprintElement {
 
+        @Override
+        public @NotNull Cube mapUV(@NotNull UnaryOperator<ModelUV> mapper) {
+            return faces == null ? this : new Cube(name, from, to, inflate, rotation, origin, faces.map(mapper), visibility);
+        }
+
         private @NotNull Float3 identifierDegree() {
             return MathUtil.identifier(rotation());
         }
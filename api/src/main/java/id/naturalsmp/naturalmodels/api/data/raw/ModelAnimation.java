@@ -6,7 +6,6 @@
  */
 package id.naturalsmp.naturalmodels.api.data.raw;
 
-import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.animation.AnimationIterator;
 import id.naturalsmp.naturalmodels.api.animation.AnimationProgress;
 import id.naturalsmp.naturalmodels.api.animation.VectorPoint;
@@ -15,10 +14,7 @@ import id.naturalsmp.naturalmodels.api.data.blueprint.AnimationGenerator;
 import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintAnimation;
 import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintAnimator;
 import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintElement;
-import id.naturalsmp.naturalmodels.api.script.AnimationScript;
 import id.naturalsmp.naturalmodels.api.script.BlueprintScript;
-import id.naturalsmp.naturalmodels.api.script.TimeScript;
-import id.naturalsmp.naturalmodels.api.util.InterpolationUtil;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -90,30 +86,14 @@ public record ModelAnimation(
     }
 
     private @Nullable BlueprintScript toScript(@NotNull ModelAnimator animator, @NotNull ModelPlaceholder placeholder) {
-        var get = animator.stream()
-            .filter(f -> f.point().hasScript())
-            .map(d -> AnimationScript.of(Arrays.stream(placeholder.parseVariable(d.point().script()).split("\n"))
-                .map(NaturalModels.platform().scriptManager()::build)
-                .filter(Objects::nonNull)
-                .toList()
-            ).time(d.time()))
-            .toList();
-        if (get.isEmpty()) return null;
-        var list = new ArrayList<TimeScript>(get.size() + 2);
-        if (get.getFirst().time() > 0) list.add(TimeScript.EMPTY);
-        var before = 0F;
-        for (TimeScript timeScript : get) {
-            var t = timeScript.time();
-            list.add(timeScript.time(InterpolationUtil.roundTime(t - before)));
-            before = t;
-        }
-        var len = InterpolationUtil.roundTime(length() - before);
-        if (len > 0) list.add(AnimationScript.EMPTY.time(len));
-        return new BlueprintScript(
+        return BlueprintScript.build(
             name(),
             loop(),
             length(),
-            list
+            animator.stream()
+                .filter(f -> f.point().hasScript())
+                .map(d -> new BlueprintScript.Source(d.time(), placeholder.parseVariable(d.point().script())))
+                .toList()
         );
     }
 
@@ -11,6 +11,8 @@ import id.naturalsmp.naturalmodels.api.data.blueprint.ModelBlueprint;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 /**
  * Represents the UV mappings for all six faces of a cube element.
  *
@@ -53,6 +55,24 @@ public record ModelFace(
         return object;
     }
 
+    /**
+     * Creates a copy of these faces with every UV mapping replaced.
+     *
+     * @param mapper the UV mapper
+     * @return the mapped faces
+     * @since 2.1.0
+     */
+    public @NotNull ModelFace map(@NotNull UnaryOperator<ModelUV> mapper) {
+        return new ModelFace(
+            mapper.apply(north),
+            mapper.apply(east),
+            mapper.apply(south),
+            mapper.apply(west),
+            mapper.apply(up),
+            mapper.apply(down)
+        );
+    }
+
     /**
      * Checks if any face has a texture defined.
      *
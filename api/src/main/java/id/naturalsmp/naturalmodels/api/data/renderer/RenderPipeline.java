@@ -13,6 +13,7 @@ import id.naturalsmp.naturalmodels.api.bone.*;
 import id.naturalsmp.naturalmodels.api.nms.HitBox;
 import id.naturalsmp.naturalmodels.api.nms.PacketBundler;
 import id.naturalsmp.naturalmodels.api.nms.PlayerChannelHandler;
+import id.naturalsmp.naturalmodels.api.nms.VirtualHitBox;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
 import id.naturalsmp.naturalmodels.api.tracker.ModelRotation;
 import id.naturalsmp.naturalmodels.api.util.FunctionUtil;
@@ -46,7 +47,7 @@ import static id.naturalsmp.naturalmodels.api.util.CollectionUtil.associate;
 public final class RenderPipeline implements BoneEventHandler {
 
     @Getter
-    private final ModelRenderer parent;
+    private volatile ModelRenderer parent;
     @Getter
     private final RenderSource<?> source;
 
@@ -99,6 +100,56 @@ public final class RenderPipeline implements BoneEventHandler {
             .peek(bone -> bone.locator(ikSolver))
             .filter(rb -> rb.getDisplay() != null)
             .count();
+        if (!ikSolver.isEmpty()) flattenBoneMap.values().forEach(RenderedBone::disableInstancing);
+    }
+
+    /**
+     * Binds this pipeline to a reloaded renderer of the same model, keeping every display entity.
+     * <p>
+     * It fails if the bone tree of the renderer has changed, in which case the model should be respawned.
+     * Running animations are restarted with the keyframes of the renderer.
+     * </p>
+     *
+     * @param renderer the reloaded renderer
+     * @return the result
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public @NotNull RebindResult rebind(@NotNull ModelRenderer renderer) {
+        var groups = renderer.rendererGroups();
+        if (parent.type() != renderer.type() || boneMap.size() != groups.size()) return RebindResult.INCOMPATIBLE;
+        for (var entry : boneMap.entrySet()) {
+            var group = groups.get(entry.getKey());
+            if (group == null || !entry.getValue().compatible(group)) return RebindResult.INCOMPATIBLE;
+        }
+        parent = renderer;
+        var changed = false;
+        for (var entry : boneMap.entrySet()) {
+            if (entry.getValue().rebind(groups.get(entry.getKey()))) changed = true;
+        }
+        var animations = renderer.animations();
+        flattenBoneMap.values().forEach(bone -> bone.rebindAnimations(animations));
+        return changed ? RebindResult.REBOUND : RebindResult.KEPT;
+    }
+
+    /**
+     * The result of {@link #rebind(ModelRenderer)}.
+     *
+     * @since 2.1.0
+     */
+    public enum RebindResult {
+        /**
+         * The bone tree and the displayed items are the same.
+         */
+        KEPT,
+        /**
+         * The bone tree is the same, and some displayed items have been updated in place.
+         */
+        REBOUND,
+        /**
+         * The bone tree has changed.
+         */
+        INCOMPATIBLE
     }
 
     /**
@@ -249,7 +300,7 @@ public final class RenderPipeline implements BoneEventHandler {
         hitboxes().forEach(HitBox::removeHitBox);
         var bundler = createBundler();
         remove0(bundler);
-        if (bundler.isNotEmpty()) allPlayer().forEach(bundler::send);
+        if (bundler.isNotEmpty()) bundler.broadcast(allPlayer().toList());
         playerMap.clear();
     }
 
@@ -275,12 +326,24 @@ public final class RenderPipeline implements BoneEventHandler {
      * @since 1.15.2
      */
     public boolean tick(@NotNull PacketBundler bundler) {
-        var match = matchTree(RenderedBone::tick);
+        return tick(1, bundler);
+    }
+
+    /**
+     * Ticks the model by multiple frames at once, updating animations and IK.
+     *
+     * @param step the number of frames to advance
+     * @param bundler the packet bundler to use
+     * @return true if any updates occurred
+     * @since 2.1.0
+     */
+    public boolean tick(int step, @NotNull PacketBundler bundler) {
+        var match = matchTree(b -> b.tick(step));
         if (match) {
             ikSolver.solve();
             iterateTree(b -> b.sendTransformation(null, bundler));
         }
-        return match;
+        return matchTree(b -> b.flushTransformation(null, bundler)) || match;
     }
 
     /**
@@ -297,7 +360,7 @@ public final class RenderPipeline implements BoneEventHandler {
             ikSolver.solve(uuid);
             iterateTree(b -> b.sendTransformation(uuid, bundler));
         }
-        return match;
+        return matchTree(b -> b.flushTransformation(uuid, bundler)) || match;
     }
 
     /**
@@ -413,7 +476,11 @@ public final class RenderPipeline implements BoneEventHandler {
     public boolean remove(@NotNull PlatformPlayer player) {
         if (playerMap.remove(player.uuid()) == null) return false;
         var bundler = createBundler();
-        remove0(bundler);
+        despawnPacketHandler.accept(bundler);
+        iterateTree(b -> b.remove(player, bundler));
+        hitboxes().forEach(hitBox -> {
+            if (hitBox instanceof VirtualHitBox virtual) virtual.remove(player, bundler);
+        });
         bundler.send(player);
         return true;
     }
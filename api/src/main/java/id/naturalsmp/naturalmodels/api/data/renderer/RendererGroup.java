@@ -17,12 +17,14 @@ import id.naturalsmp.naturalmodels.api.util.MathUtil;
 import id.naturalsmp.naturalmodels.api.util.TransformedItemStack;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.joml.Vector3f;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -53,6 +55,9 @@ public final class RendererGroup {
     @Getter
     private final @NotNull MountController mountController;
 
+    @Getter
+    private final @NotNull BoneMovementInstance.Cache instanceCache = new BoneMovementInstance.Cache();
+
     /**
      * Creates group instance.
      * @param scale scale
@@ -142,6 +147,36 @@ public final class RendererGroup {
         return itemStack.copy();
     }
 
+    /**
+     * Checks whether a bone rendered from this group can display the other group without being respawned.
+     * The display item and children are not compared.
+     * @param other other group
+     * @return whether to be compatible
+     */
+    @ApiStatus.Internal
+    public boolean compatible(@NotNull RendererGroup other) {
+        return name().equals(other.name())
+            && uuid().equals(other.uuid())
+            && parent.visibility() == other.parent.visibility()
+            && ikEquals(parent, other.parent)
+            && position.equals(other.position)
+            && rotation.equals(other.rotation)
+            && Objects.equals(hitBox, other.hitBox)
+            && itemStack.isAir() == other.itemStack.isAir()
+            && itemStack.position().equals(other.itemStack.position())
+            && itemStack.offset().equals(other.itemStack.offset())
+            && itemStack.scale().equals(other.itemStack.scale());
+    }
+
+    private static boolean ikEquals(@NotNull BlueprintElement.Bone bone, @NotNull BlueprintElement.Bone other) {
+        if (bone instanceof BlueprintElement.NullObject nullObject) {
+            return other instanceof BlueprintElement.NullObject otherObject
+                && Objects.equals(nullObject.ikTarget(), otherObject.ikTarget())
+                && Objects.equals(nullObject.ikSource(), otherObject.ikSource());
+        }
+        return !(other instanceof BlueprintElement.NullObject);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
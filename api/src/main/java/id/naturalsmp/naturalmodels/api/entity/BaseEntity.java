@@ -14,6 +14,7 @@ import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
 import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry;
 import id.naturalsmp.naturalmodels.api.util.TransformedItemStack;
 import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
@@ -182,6 +183,29 @@ public interface BaseEntity extends Identifiable {
     @NotNull
     Vector3f passengerPosition(@NotNull Vector3f dest);
 
+    /**
+     * Gets the last snapshot of this entity published by the server thread.
+     * <p>
+     * If no snapshot has been published yet, e.g. on Spigot, it reads the live entity at most once per tick.
+     * </p>
+     *
+     * @return snapshot
+     * @since 2.1.0
+     */
+    default @NotNull EntitySnapshot snapshot() {
+        return EntitySnapshot.capture(this);
+    }
+
+    /**
+     * Publishes a new snapshot of this entity.
+     * It should be called on the thread that owns the entity.
+     *
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    default void captureSnapshot() {
+    }
+
     /**
      * Gets tracked player set
      * 
@@ -0,0 +1,85 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.entity;
+
+import id.naturalsmp.naturalmodels.api.animation.EntityFlags;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable properties of an entity, sampled together on the thread that owns the entity.
+ * <p>
+ * Trackers read a snapshot instead of the live entity, so they never race with the server thread
+ * and never see a half-updated entity.
+ * </p>
+ *
+ * @param headYaw head yaw
+ * @param bodyYaw body yaw
+ * @param pitch pitch
+ * @param scale scale
+ * @param damageTick damage tick
+ * @param walkSpeed walk speed
+ * @param onWalk whether the entity is walking
+ * @param invisible whether the entity is invisible
+ * @param glow whether the entity is glowing
+ * @param ground whether the entity is on the ground
+ * @param fly whether the entity is flying
+ * @param swim whether the entity is swimming
+ * @param dead whether the entity is dead
+ * @see BaseEntity#snapshot()
+ * @since 2.1.0
+ */
+public record EntitySnapshot(
+    float headYaw,
+    float bodyYaw,
+    float pitch,
+    double scale,
+    float damageTick,
+    float walkSpeed,
+    boolean onWalk,
+    boolean invisible,
+    boolean glow,
+    boolean ground,
+    boolean fly,
+    boolean swim,
+    boolean dead
+) {
+    /**
+     * Reads every property of an entity.
+     * It should be called on the thread that owns the entity.
+     *
+     * @param entity entity
+     * @return snapshot
+     * @since 2.1.0
+     */
+    public static @NotNull EntitySnapshot capture(@NotNull BaseEntity entity) {
+        return new EntitySnapshot(
+            entity.headYaw(),
+            entity.bodyYaw(),
+            entity.pitch(),
+            entity.scale(),
+            entity.damageTick(),
+            entity.walkSpeed(),
+            entity.onWalk(),
+            entity.invisible(),
+            entity.glow(),
+            entity.ground(),
+            entity.fly(),
+            entity.swim(),
+            entity.dead()
+        );
+    }
+
+    /**
+     * Gets the entity flags of this snapshot.
+     *
+     * @return flags
+     * @since 2.1.0
+     */
+    public int flags() {
+        return EntityFlags.of(onWalk, swim, fly, dead, ground);
+    }
+}
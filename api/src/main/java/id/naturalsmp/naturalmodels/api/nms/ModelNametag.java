@@ -47,20 +47,54 @@ public interface ModelNametag {
      */
     void teleport(@NotNull PlatformLocation location);
 
+    /**
+     * Sets the client-side interpolation duration of position changes.
+     *
+     * @param duration the duration in ticks
+     * @since 2.1.0
+     */
+    void moveDuration(int duration);
+
     /**
      * Sends the nametag packet to a specific player.
      *
      * @param player the target player
      * @since 1.15.2
      */
-    void send(@NotNull PlatformPlayer player);
+    default void send(@NotNull PlatformPlayer player) {
+        send(player, -1);
+    }
+
+    /**
+     * Sends the nametag packet to a specific player in a tracker tick.
+     * <p>
+     * The position and the dirty text are computed once per tick and shared by every viewer
+     * without its own bone state. A negative tick computes them for this call only.
+     * </p>
+     *
+     * @param player the target player
+     * @param tick the current tick
+     * @since 2.1.0
+     */
+    void send(@NotNull PlatformPlayer player, long tick);
 
     /**
-     * Removes the nametag.
+     * Removes the nametag for every player.
      *
      * @param bundler the packet bundler to use
      * @since 1.15.2
      */
     void remove(@NotNull PacketBundler bundler);
+
+    /**
+     * Removes the nametag for a specific player, keeping it for the other viewers.
+     *
+     * @param player the player who stops viewing
+     * @param bundler the packet bundler to use
+     * @since 2.1.0
+     */
+    default void remove(@NotNull PlatformPlayer player, @NotNull PacketBundler bundler) {
+        remove(bundler);
+    }
 }
 
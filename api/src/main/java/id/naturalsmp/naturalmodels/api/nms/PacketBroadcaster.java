@@ -0,0 +1,190 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.nms;
+
+import id.naturalsmp.naturalmodels.api.NaturalModels;
+import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler;
+import id.naturalsmp.naturalmodels.api.util.LogUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Shared implementation of {@link PacketBundler#broadcast(List)}.
+ * <p>
+ * Bundles are encoded once and the same bytes are written to every play channel.
+ * This skips the packet queue and packet listeners of the server, so it is only used when
+ * {@link id.naturalsmp.naturalmodels.api.NaturalModelsConfig#packetBroadcast()} is enabled
+ * and no packet has player-specific content.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class PacketBroadcaster {
+    /**
+     * No initializer
+     */
+    private PacketBroadcaster() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Version-specific part of the broadcast.
+     * @param <P> packet type
+     */
+    public interface Adapter<P> {
+        /**
+         * Gets the channel of the player if it is in the play protocol.
+         * @param player player
+         * @return active play channel or null
+         */
+        @Nullable Channel playChannel(@NotNull PlatformPlayer player);
+
+        /**
+         * Gets the play codec of the channel.
+         * @param channel play channel
+         * @return encoder of one packet
+         */
+        @NotNull BiConsumer<ByteBuf, P> codec(@NotNull Channel channel);
+
+        /**
+         * Gets the packet written around each bundle.
+         * @return delimiter packet
+         */
+        @NotNull P delimiter();
+
+        /**
+         * Checks if the packet is encoded the same for every player.
+         * Packets with components or items may be rendered for each player, so they must return false.
+         * @param packet packet
+         * @return whether the packet can be shared
+         */
+        boolean isShared(@NotNull P packet);
+
+        /**
+         * Sends the bundles to one player through its connection.
+         * @param player player
+         */
+        void fallback(@NotNull PlatformPlayer player);
+    }
+
+    /**
+     * Sends bundles to all players.
+     * @param players players
+     * @param bundles non-empty bundles
+     * @param adapter adapter
+     * @param <P> packet type
+     */
+    public static <P> void broadcast(
+        @NotNull List<PlatformPlayer> players,
+        @NotNull List<? extends Iterable<? extends P>> bundles,
+        @NotNull Adapter<P> adapter
+    ) {
+        if (players.size() < 2 || !NaturalModels.config().packetBroadcast() || !isShared(bundles, adapter)) {
+            players.forEach(adapter::fallback);
+            return;
+        }
+        var viewers = new ArrayList<PlatformPlayer>(players.size());
+        var targets = new ArrayList<Channel>(players.size());
+        for (PlatformPlayer player : players) {
+            var channel = adapter.playChannel(player);
+            if (channel == null) adapter.fallback(player);
+            else {
+                viewers.add(player);
+                targets.add(channel);
+            }
+        }
+        if (targets.isEmpty()) return;
+        List<ByteBuf> frames;
+        try {
+            frames = encode(bundles, adapter.delimiter(), adapter.codec(targets.get(0)));
+        } catch (Throwable e) {
+            LogUtil.handleException("Unable to encode model packets.", e);
+            viewers.forEach(adapter::fallback);
+            return;
+        }
+        var bytes = 0L;
+        for (ByteBuf frame : frames) {
+            bytes += frame.readableBytes();
+        }
+        ModelProfiler.bytesSent(bytes * targets.size());
+        try {
+            for (Channel channel : targets) {
+                var duplicates = new ArrayList<ByteBuf>(frames.size());
+                for (ByteBuf frame : frames) {
+                    duplicates.add(frame.retainedDuplicate());
+                }
+                var eventLoop = channel.eventLoop();
+                if (eventLoop.inEventLoop()) write(channel, duplicates);
+                else eventLoop.execute(() -> write(channel, duplicates));
+            }
+        } finally {
+            frames.forEach(ByteBuf::release);
+        }
+    }
+
+    private static <P> boolean isShared(@NotNull List<? extends Iterable<? extends P>> bundles, @NotNull Adapter<P> adapter) {
+        for (Iterable<? extends P> bundle : bundles) {
+            for (P packet : bundle) {
+                if (!adapter.isShared(packet)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static <P> @NotNull List<ByteBuf> encode(
+        @NotNull List<? extends Iterable<? extends P>> bundles,
+        @NotNull P delimiter,
+        @NotNull BiConsumer<ByteBuf, P> codec
+    ) {
+        var frames = new ArrayList<ByteBuf>();
+        try {
+            for (Iterable<? extends P> bundle : bundles) {
+                var iterator = bundle.iterator();
+                if (!iterator.hasNext()) continue;
+                frames.add(encode(codec, delimiter));
+                while (iterator.hasNext()) {
+                    frames.add(encode(codec, iterator.next()));
+                }
+                frames.add(encode(codec, delimiter));
+            }
+        } catch (Throwable e) {
+            frames.forEach(ByteBuf::release);
+            throw e;
+        }
+        return frames;
+    }
+
+    private static <P> @NotNull ByteBuf encode(@NotNull BiConsumer<ByteBuf, P> codec, @NotNull P packet) {
+        var buffer = Unpooled.buffer();
+        try {
+            codec.accept(buffer, packet);
+        } catch (Throwable e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer;
+    }
+
+    private static void write(@NotNull Channel channel, @NotNull List<ByteBuf> frames) {
+        if (!channel.isActive()) {
+            frames.forEach(ByteBuf::release);
+            return;
+        }
+        for (ByteBuf frame : frames) {
+            channel.write(frame, channel.voidPromise());
+        }
+        channel.flush();
+    }
+}
@@ -9,6 +9,8 @@ package id.naturalsmp.naturalmodels.api.nms;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Collects multiple packets to be sent together to a player.
  * <p>
@@ -87,4 +89,19 @@ public interface PacketBundler {
      * @since 1.15.2
      */
     void send(@NotNull PlatformPlayer player, @NotNull Runnable onSuccess);
+
+    /**
+     * Sends all collected packets to every specified player.
+     * <p>
+     * Implementations may encode the packets once and share the encoded bytes between players.
+     * </p>
+     *
+     * @param players the target players
+     * @since 2.1.0
+     */
+    default void broadcast(@NotNull List<PlatformPlayer> players) {
+        for (PlatformPlayer player : players) {
+            send(player);
+        }
+    }
 }
@@ -8,6 +8,7 @@ package id.naturalsmp.naturalmodels.api.nms;
 
 import id.naturalsmp.naturalmodels.api.entity.BasePlayer;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
+import id.naturalsmp.naturalmodels.api.tracker.EntityIdSet;
 import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -59,6 +60,17 @@ public interface PlayerChannelHandler extends Identifiable, AutoCloseable {
      */
     void sendEntityData(@NotNull EntityTrackerRegistry registry);
 
+    /**
+     * Returns the ids of modelled entities currently viewed by this player.
+     * <p>
+     * Outbound packets about any other entity can skip registry lookups.
+     * </p>
+     *
+     * @return the modelled entity id set
+     * @since 2.1.0
+     */
+    @NotNull EntityIdSet modelledEntityIds();
+
     /**
      * Closes the channel handler, cleaning up resources.
      *
@@ -0,0 +1,49 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.nms;
+
+import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a hitbox which only exists on the client.
+ * <p>
+ * It is not added to the world, so the server does not tick or track it.
+ * The tracker moves it and sends its interaction entity to each viewer instead.
+ * It becomes a real entity once it has to be mounted.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public interface VirtualHitBox extends HitBox {
+
+    /**
+     * Moves this hitbox to its bone. Called once per tick.
+     *
+     * @since 2.1.0
+     */
+    void sync();
+
+    /**
+     * Sends the interaction entity of this hitbox to a specific player.
+     *
+     * @param player the target player
+     * @since 2.1.0
+     */
+    void send(@NotNull PlatformPlayer player);
+
+    /**
+     * Removes the interaction entity of this hitbox for a specific player.
+     *
+     * @param player the target player
+     * @param bundler the packet bundler to use
+     * @since 2.1.0
+     */
+    void remove(@NotNull PlatformPlayer player, @NotNull PacketBundler bundler);
+}
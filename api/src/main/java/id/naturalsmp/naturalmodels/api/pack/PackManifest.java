@@ -0,0 +1,125 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.pack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * A content hash of every entry in a built pack.
+ * <p>
+ * Generators keep the manifest of the previous build to find which entries have changed,
+ * and the pack hash is derived from the entry hashes instead of the whole pack content.
+ * </p>
+ *
+ * @param entries the content hash of each entry, keyed and sorted by path
+ * @since 2.1.0
+ */
+public record PackManifest(@NotNull @Unmodifiable Map<String, String> entries) {
+
+    /**
+     * Empty manifest.
+     * @since 2.1.0
+     */
+    public static final PackManifest EMPTY = new PackManifest(Collections.emptyMap());
+
+    /**
+     * Creates manifest
+     * @param entries entries
+     */
+    public PackManifest {
+        entries = Collections.unmodifiableSortedMap(new TreeMap<>(entries));
+    }
+
+    /**
+     * Reads a manifest written by {@link #write(File)}.
+     *
+     * @param file the manifest file
+     * @return the manifest, or {@link #EMPTY} if the file does not exist or cannot be read
+     * @since 2.1.0
+     */
+    public static @NotNull PackManifest read(@NotNull File file) {
+        if (!file.isFile()) return EMPTY;
+        try {
+            var map = new TreeMap<String, String>();
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                var index = line.indexOf(' ');
+                if (index > 0) map.put(line.substring(index + 1), line.substring(0, index));
+            }
+            return new PackManifest(map);
+        } catch (IOException e) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Writes this manifest to the given file.
+     *
+     * @param file the manifest file
+     * @throws IOException if an I/O error occurs
+     * @since 2.1.0
+     */
+    public void write(@NotNull File file) throws IOException {
+        var builder = new StringBuilder(entries.size() * 96);
+        entries.forEach((path, hash) -> builder.append(hash).append(' ').append(path).append('\n'));
+        Files.writeString(file.toPath(), builder, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if the entry of the given path has a different hash in this manifest.
+     *
+     * @param path the entry path
+     * @param hash the current content hash
+     * @return true if the entry is missing or has a different hash
+     * @since 2.1.0
+     */
+    public boolean changed(@NotNull PackPath path, @NotNull String hash) {
+        return !hash.equals(entries.get(path.path()));
+    }
+
+    /**
+     * Computes the hash of the whole pack from the entry hashes.
+     *
+     * @return the pack hash
+     * @since 2.1.0
+     */
+    public @NotNull UUID hash() {
+        var sha = sha256();
+        entries.forEach((path, hash) -> {
+            sha.update(path.getBytes(StandardCharsets.UTF_8));
+            sha.update(hash.getBytes(StandardCharsets.UTF_8));
+        });
+        return UUID.nameUUIDFromBytes(sha.digest());
+    }
+
+    /**
+     * Computes the content hash of a single entry.
+     *
+     * @param bytes the entry content
+     * @return the hex-encoded hash
+     * @since 2.1.0
+     */
+    public static @NotNull String hash(byte[] bytes) {
+        return HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    private static @NotNull MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
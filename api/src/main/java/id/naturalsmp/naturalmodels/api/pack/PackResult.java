@@ -13,8 +13,8 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.File;
-import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
  * <p>
  * This class holds the generated pack metadata, the output directory, and the collection of generated resources (assets and overlays).
  * It also provides methods to calculate the pack hash and check for changes.
+ * The content hash of each entry is computed when it is added, so hashing runs in parallel with the build.
  * </p>
  *
  * @since 1.15.2
@@ -33,11 +34,13 @@ public final class PackResult {
     private final Map<PackOverlay, Set<PackByte>> overlays = new TreeMap<>();
     private final Set<PackByte> assets = new TreeSet<>();
     private final Set<PackByte> assetsView = Collections.unmodifiableSet(assets);
+    private final Map<String, String> entryHashes = new ConcurrentHashMap<>();
 
     private final long creationTime = System.currentTimeMillis();
     private boolean frozen = false;
     private boolean changed = false;
     private UUID uuid;
+    private PackManifest manifest;
 
     /**
      * Adds a resource to the result.
@@ -50,6 +53,7 @@ public final class PackResult {
     @ApiStatus.Internal
     public void set(@Nullable PackOverlay overlay, @NotNull PackByte packByte) {
         if (frozen) throw new IllegalStateException("result is frozen.");
+        entryHashes.put(packByte.path().path(), PackManifest.hash(packByte.bytes()));
         if (overlay == null) {
             synchronized (assets) {
                 assets.add(packByte);
@@ -116,6 +120,9 @@ public final class PackResult {
 
     /**
      * Calculates and returns the SHA-256 hash of the pack content as a UUID.
+     * <p>
+     * The hash is derived from the entry hashes of {@link #manifest()}.
+     * </p>
      *
      * @return the hash UUID
      * @since 1.15.2
@@ -124,13 +131,33 @@ public final class PackResult {
         if (uuid != null) return uuid;
         synchronized (this) {
             if (uuid != null) return uuid;
-            try {
-                var sha = MessageDigest.getInstance("SHA-256");
-                stream().map(PackByte::bytes).forEach(sha::update);
-                return uuid = UUID.nameUUIDFromBytes(sha.digest());
-            } catch (Exception e) {
-                return uuid = UUID.randomUUID();
-            }
+            return uuid = manifest().hash();
+        }
+    }
+
+    /**
+     * Returns the content hash of the given entry.
+     *
+     * @param path the entry path
+     * @return the hex-encoded hash, or null if the entry does not exist
+     * @since 2.1.0
+     */
+    public @Nullable String hash(@NotNull PackPath path) {
+        return entryHashes.get(path.path());
+    }
+
+    /**
+     * Returns the manifest of every entry in this result.
+     *
+     * @return the manifest
+     * @since 2.1.0
+     */
+    public @NotNull PackManifest manifest() {
+        if (manifest != null) return manifest;
+        if (!frozen) return new PackManifest(entryHashes);
+        synchronized (this) {
+            if (manifest != null) return manifest;
+            return manifest = new PackManifest(entryHashes);
         }
     }
 
@@ -54,5 +54,16 @@ public interface PlatformItemStack {
      * @since 2.0.0
      */
     @NotNull PlatformItemStack clone();
+
+    /**
+     * Checks if the other item stack has the same item and components, ignoring the amount.
+     *
+     * @param other the other item stack
+     * @return true if similar
+     * @since 2.1.0
+     */
+    default boolean isSimilar(@NotNull PlatformItemStack other) {
+        return equals(other);
+    }
 }
 
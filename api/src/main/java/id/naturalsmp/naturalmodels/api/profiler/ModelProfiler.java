@@ -0,0 +1,295 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.profiler;
+
+import id.naturalsmp.naturalmodels.api.bone.BoneMovementInstance;
+import id.naturalsmp.naturalmodels.api.bone.DeltaSuppressor;
+import id.naturalsmp.naturalmodels.api.bone.TintedItemCache;
+import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry;
+import id.naturalsmp.naturalmodels.api.tracker.TrackerTickEngine;
+import id.naturalsmp.naturalmodels.api.util.LogUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Always-on counters of the model engine.
+ * <p>
+ * Counters only ever grow, so recording costs a single {@link LongAdder} update.
+ * A profile is taken by comparing two {@link Snapshot}s, and is handed to every registered {@link ProfileExporter}.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class ModelProfiler {
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final LongAdder CHANNEL_NANOS = new LongAdder();
+    private static final LongAdder CHANNEL_PACKETS = new LongAdder();
+    private static final LongAdder BROADCAST_BYTES = new LongAdder();
+    private static final Map<String, Supplier<?>> STATISTICS = new ConcurrentSkipListMap<>();
+    private static final List<ProfileExporter> EXPORTERS = new CopyOnWriteArrayList<>();
+
+    static {
+        addStatistics("bone-movement-instance", BoneMovementInstance::statistics);
+        addStatistics("delta-suppression", DeltaSuppressor::statistics);
+        addStatistics("tinted-item-cache", TintedItemCache::statistics);
+        addStatistics("tracker-tick-engine", () -> TrackerTickEngine.global().statistics());
+    }
+
+    private ModelProfiler() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Gets the counters of a model.
+     *
+     * @param model model name
+     * @return entry
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static @NotNull Entry entry(@NotNull String model) {
+        return ENTRIES.computeIfAbsent(model, Entry::new);
+    }
+
+    /**
+     * Records a packet handled by a player channel.
+     *
+     * @param nanos handling time in nanoseconds
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static void channelHandled(long nanos) {
+        CHANNEL_NANOS.add(nanos);
+        CHANNEL_PACKETS.increment();
+    }
+
+    /**
+     * Records bytes encoded once and written to several players.
+     *
+     * @param bytes total written bytes
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static void bytesSent(long bytes) {
+        BROADCAST_BYTES.add(bytes);
+    }
+
+    /**
+     * Adds a statistics source included in each report.
+     * The supplied value is exported as is, so it should be a record or a simple data class.
+     *
+     * @param name name
+     * @param supplier statistics supplier
+     * @since 2.1.0
+     */
+    public static void addStatistics(@NotNull String name, @NotNull Supplier<?> supplier) {
+        STATISTICS.put(name, supplier);
+    }
+
+    /**
+     * Adds an exporter.
+     *
+     * @param exporter exporter
+     * @since 2.1.0
+     */
+    public static void addExporter(@NotNull ProfileExporter exporter) {
+        EXPORTERS.add(exporter);
+    }
+
+    /**
+     * Removes an exporter.
+     *
+     * @param exporter exporter
+     * @return whether the exporter was registered
+     * @since 2.1.0
+     */
+    public static boolean removeExporter(@NotNull ProfileExporter exporter) {
+        return EXPORTERS.remove(exporter);
+    }
+
+    /**
+     * Takes a snapshot of all counters.
+     *
+     * @return snapshot
+     * @since 2.1.0
+     */
+    public static @NotNull Snapshot snapshot() {
+        var models = new HashMap<String, ModelCost>(ENTRIES.size());
+        for (Entry entry : ENTRIES.values()) {
+            models.put(entry.model, entry.sample());
+        }
+        var movement = BoneMovementInstance.statistics();
+        return new Snapshot(
+            System.nanoTime(),
+            models,
+            movement.hit() + movement.miss() + movement.bypass(),
+            CHANNEL_NANOS.sum(),
+            CHANNEL_PACKETS.sum(),
+            BROADCAST_BYTES.sum()
+        );
+    }
+
+    /**
+     * Exports a report to every registered exporter.
+     *
+     * @param report report
+     * @since 2.1.0
+     */
+    public static void export(@NotNull ProfileReport report) {
+        for (ProfileExporter exporter : EXPORTERS) {
+            try {
+                exporter.export(report);
+            } catch (Exception e) {
+                LogUtil.handleException("Unable to export the profile: " + exporter.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Counters of one model, shared by all its trackers.
+     *
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static final class Entry {
+        private final String model;
+        private final AtomicInteger trackers = new AtomicInteger();
+        private final LongAdder tickNanos = new LongAdder();
+        private final LongAdder ticks = new LongAdder();
+        private final LongAdder packets = new LongAdder();
+
+        private Entry(@NotNull String model) {
+            this.model = model;
+        }
+
+        /**
+         * Records a created tracker.
+         */
+        public void open() {
+            trackers.incrementAndGet();
+        }
+
+        /**
+         * Records a closed tracker.
+         */
+        public void close() {
+            trackers.decrementAndGet();
+        }
+
+        /**
+         * Records a tracker tick.
+         *
+         * @param nanos tick time in nanoseconds
+         */
+        public void tick(long nanos) {
+            tickNanos.add(nanos);
+            ticks.increment();
+        }
+
+        /**
+         * Records sent packets.
+         *
+         * @param count packet count multiplied by receivers
+         */
+        public void packets(long count) {
+            if (count > 0) packets.add(count);
+        }
+
+        private @NotNull ModelCost sample() {
+            return new ModelCost(model, trackers.get(), tickNanos.sum(), ticks.sum(), packets.sum());
+        }
+    }
+
+    /**
+     * Counters of a model.
+     *
+     * @param model model name
+     * @param trackers the number of open trackers
+     * @param tickNanos tick time in nanoseconds
+     * @param ticks the number of tracker ticks
+     * @param packets the number of packets sent, counted once per receiver
+     * @since 2.1.0
+     */
+    public record ModelCost(@NotNull String model, int trackers, long tickNanos, long ticks, long packets) {
+        /**
+         * Gets the average time of one tracker tick.
+         *
+         * @return average tick time in nanoseconds
+         */
+        public long averageTickNanos() {
+            return ticks == 0 ? 0 : tickNanos / ticks;
+        }
+    }
+
+    /**
+     * A snapshot of all counters.
+     *
+     * @param nanoTime the time this snapshot was taken at
+     * @param models the counters of each model
+     * @param animationEvaluations the number of evaluated bone movements
+     * @param channelHandleNanos the time spent by player channels handling outgoing packets
+     * @param channelPackets the number of outgoing packets handled by player channels
+     * @param broadcastBytes the bytes written by broadcasts
+     * @since 2.1.0
+     */
+    public record Snapshot(
+        long nanoTime,
+        @NotNull @Unmodifiable Map<String, ModelCost> models,
+        long animationEvaluations,
+        long channelHandleNanos,
+        long channelPackets,
+        long broadcastBytes
+    ) {
+        /**
+         * Creates a report of what happened since a previous snapshot.
+         *
+         * @param previous previous snapshot
+         * @param top the maximum number of models in the report
+         * @return report
+         * @since 2.1.0
+         */
+        public @NotNull ProfileReport since(@NotNull Snapshot previous, int top) {
+            var costs = new ArrayList<ModelCost>(models.size());
+            for (ModelCost cost : models.values()) {
+                var before = previous.models.get(cost.model);
+                costs.add(before == null ? cost : new ModelCost(
+                    cost.model,
+                    cost.trackers,
+                    cost.tickNanos - before.tickNanos,
+                    cost.ticks - before.ticks,
+                    cost.packets - before.packets
+                ));
+            }
+            costs.removeIf(cost -> cost.ticks == 0 && cost.trackers == 0);
+            costs.sort(Comparator.comparingLong(ModelCost::tickNanos).reversed());
+            var statistics = new LinkedHashMap<String, Object>();
+            STATISTICS.forEach((name, supplier) -> statistics.put(name, supplier.get()));
+            return new ProfileReport(
+                System.currentTimeMillis(),
+                (nanoTime - previous.nanoTime) / 1_000_000,
+                List.copyOf(costs.subList(0, Math.min(top, costs.size()))),
+                animationEvaluations - previous.animationEvaluations,
+                channelHandleNanos - previous.channelHandleNanos,
+                channelPackets - previous.channelPackets,
+                broadcastBytes - previous.broadcastBytes,
+                EntityTrackerRegistry.registries().size(),
+                costs.stream().mapToInt(ModelCost::trackers).sum(),
+                Collections.unmodifiableMap(statistics)
+            );
+        }
+    }
+}
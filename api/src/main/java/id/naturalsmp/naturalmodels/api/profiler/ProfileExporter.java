@@ -0,0 +1,35 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exports profile reports, e.g. to a file or a metrics service.
+ *
+ * @see ModelProfiler#addExporter(ProfileExporter)
+ * @since 2.1.0
+ */
+public interface ProfileExporter {
+
+    /**
+     * Gets the name of this exporter.
+     *
+     * @return name
+     * @since 2.1.0
+     */
+    @NotNull String name();
+
+    /**
+     * Exports a report. It is called off the main thread.
+     *
+     * @param report report
+     * @throws Exception if exporting fails
+     * @since 2.1.0
+     */
+    void export(@NotNull ProfileReport report) throws Exception;
+}
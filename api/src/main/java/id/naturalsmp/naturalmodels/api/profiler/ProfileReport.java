@@ -0,0 +1,42 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.profiler;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a profile over a time window.
+ *
+ * @param timestamp the epoch millis when the profile ended
+ * @param durationMillis the length of the time window
+ * @param models the most expensive models by tick time, in descending order
+ * @param animationEvaluations the number of evaluated bone movements
+ * @param channelHandleNanos the time spent by player channels handling outgoing packets
+ * @param channelPackets the number of outgoing packets handled by player channels
+ * @param broadcastBytes the bytes written by broadcasts
+ * @param registries the number of entity tracker registries
+ * @param trackers the number of open trackers
+ * @param statistics other statistics by name
+ * @since 2.1.0
+ */
+public record ProfileReport(
+    long timestamp,
+    long durationMillis,
+    @NotNull @Unmodifiable List<ModelProfiler.ModelCost> models,
+    long animationEvaluations,
+    long channelHandleNanos,
+    long channelPackets,
+    long broadcastBytes,
+    int registries,
+    int trackers,
+    @NotNull @Unmodifiable Map<String, Object> statistics
+) {
+}
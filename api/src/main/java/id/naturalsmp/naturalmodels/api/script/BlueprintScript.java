@@ -6,14 +6,21 @@
  */
 package id.naturalsmp.naturalmodels.api.script;
 
+import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.animation.AnimationIterator;
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier;
 import id.naturalsmp.naturalmodels.api.animation.TimedStorage;
 import id.naturalsmp.naturalmodels.api.data.raw.ModelAnimation;
+import id.naturalsmp.naturalmodels.api.util.InterpolationUtil;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A script data of blueprint.
@@ -21,9 +28,10 @@ import java.util.List;
  * @param type type
  * @param length playtime
  * @param scripts scripts
+ * @param sources the raw sources the scripts were built from
  */
 @ApiStatus.Internal
-public record BlueprintScript(@NotNull String name, @NotNull AnimationIterator.Type type, float length, @NotNull List<TimeScript> scripts) {
+public record BlueprintScript(@NotNull String name, @NotNull AnimationIterator.Type type, float length, @NotNull List<TimeScript> scripts, @NotNull List<Source> sources) {
 
     /**
      * Creates empty script
@@ -31,11 +39,61 @@ public record BlueprintScript(@NotNull String name, @NotNull AnimationIterator.T
      * @return empty script
      */
     public static @NotNull BlueprintScript fromEmpty(@NotNull ModelAnimation animation) {
+        return fromEmpty(animation.name(), animation.loop(), animation.length());
+    }
+
+    /**
+     * Creates empty script
+     * @param name script name
+     * @param type type
+     * @param length playtime
+     * @return empty script
+     * @since 2.1.0
+     */
+    public static @NotNull BlueprintScript fromEmpty(@NotNull String name, @NotNull AnimationIterator.Type type, float length) {
         return new BlueprintScript(
-            animation.name(),
-            animation.loop(),
-            animation.length(),
-            List.of(TimeScript.EMPTY, AnimationScript.EMPTY.time(animation.length()))
+            name,
+            type,
+            length,
+            List.of(TimeScript.EMPTY, AnimationScript.EMPTY.time(length)),
+            Collections.emptyList()
+        );
+    }
+
+    /**
+     * Builds script from raw sources
+     * @param name script name
+     * @param type type
+     * @param length playtime
+     * @param sources sources sorted by time
+     * @return script or null if no script is built
+     * @since 2.1.0
+     */
+    public static @Nullable BlueprintScript build(@NotNull String name, @NotNull AnimationIterator.Type type, float length, @NotNull List<Source> sources) {
+        var get = sources.stream()
+            .map(source -> AnimationScript.of(Arrays.stream(source.script().split("\n"))
+                .map(NaturalModels.platform().scriptManager()::build)
+                .filter(Objects::nonNull)
+                .toList()
+            ).time(source.time()))
+            .toList();
+        if (get.isEmpty()) return null;
+        var list = new ArrayList<TimeScript>(get.size() + 2);
+        if (get.getFirst().time() > 0) list.add(TimeScript.EMPTY);
+        var before = 0F;
+        for (TimeScript timeScript : get) {
+            var t = timeScript.time();
+            list.add(timeScript.time(InterpolationUtil.roundTime(t - before)));
+            before = t;
+        }
+        var len = InterpolationUtil.roundTime(length - before);
+        if (len > 0) list.add(AnimationScript.EMPTY.time(len));
+        return new BlueprintScript(
+            name,
+            type,
+            length,
+            list,
+            List.copyOf(sources)
         );
     }
 
@@ -47,5 +105,13 @@ public record BlueprintScript(@NotNull String name, @NotNull AnimationIterator.T
     public @NotNull AnimationIterator<TimeScript> iterator(@NotNull AnimationModifier modifier) {
         return modifier.type(type).create(TimedStorage.listOf(scripts));
     }
-}
 
+    /**
+     * A raw script source
+     * @param time keyframe time
+     * @param script script lines with placeholders applied
+     * @since 2.1.0
+     */
+    public record Source(float time, @NotNull String script) {
+    }
+}
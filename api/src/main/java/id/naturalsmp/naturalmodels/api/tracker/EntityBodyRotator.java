@@ -8,6 +8,7 @@ package id.naturalsmp.naturalmodels.api.tracker;
 
 import com.google.gson.annotations.SerializedName;
 import id.naturalsmp.naturalmodels.api.entity.BaseEntity;
+import id.naturalsmp.naturalmodels.api.entity.EntitySnapshot;
 import id.naturalsmp.naturalmodels.api.util.FunctionUtil;
 import id.naturalsmp.naturalmodels.api.util.MathUtil;
 import id.naturalsmp.naturalmodels.api.util.lazy.LazyFloatProvider;
@@ -16,6 +17,9 @@ import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Vector3f;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -74,19 +78,23 @@ public final class EntityBodyRotator {
         );
         this.provider = new LazyFloatProvider(entity.bodyYaw(), () -> rotationDuration * MathUtil.MINECRAFT_TICK_MILLS);
         headSupplier = LazyFloatProvider.ofVector(Tracker.TRACKER_TICK_INTERVAL, () -> 4 * MathUtil.MINECRAFT_TICK_MILLS, () -> {
-            var value = bodyRotation().y() - entity.headYaw();
+            var snapshot = entity.snapshot();
+            var value = bodyRotation().y() - snapshot.headYaw();
             if (value > 180) value -= 360;
             else if (value < -180) value += 360;
             return new Vector3f(
-                clampHead(entity.pitch()),
+                clampHead(snapshot.pitch()),
                 clampHead(value),
                 0
             );
         });
-        bodySupplier = FunctionUtil.throttleTick(() -> new ModelRotation(
-            entity.pitch(),
-            bodyRotation0()
-        ));
+        bodySupplier = FunctionUtil.throttleTick(() -> {
+            var snapshot = entity.snapshot();
+            return new ModelRotation(
+                snapshot.pitch(),
+                bodyRotation0(snapshot)
+            );
+        });
         reset();
     }
 
@@ -112,14 +120,14 @@ public final class EntityBodyRotator {
         return rotationLock.get() ? rotation : (rotation = bodySupplier.get());
     }
 
-    private float bodyRotation0() {
-        if (playerMode) return entity.headYaw();
-        if (registry.hasControllingPassenger()) return entity.bodyYaw();
-        var headYaw = entity.headYaw();
+    private float bodyRotation0(@NotNull EntitySnapshot snapshot) {
+        if (playerMode) return snapshot.headYaw();
+        if (registry.hasControllingPassenger()) return snapshot.bodyYaw();
+        var headYaw = snapshot.headYaw();
         if (MathUtil.isSimilar(headYaw, rotation.y(), MathUtil.DEGREES_TO_PACKED_BYTE)) tick = 0;
-        if (entity.onWalk()) {
+        if (snapshot.onWalk()) {
             tick = 0;
-            return stableBodyYaw();
+            return stableBodyYaw(snapshot);
         } else if (++tick > rotationDelay) {
             var providedYaw = provider.updateAndGet(headYaw);
             return clampBody(providedYaw, headYaw);
@@ -128,9 +136,9 @@ public final class EntityBodyRotator {
         return rotation.y();
     }
 
-    private float stableBodyYaw() {
-        var yaw = entity.bodyYaw();
-        var headYaw = entity.headYaw();
+    private float stableBodyYaw(@NotNull EntitySnapshot snapshot) {
+        var yaw = snapshot.bodyYaw();
+        var headYaw = snapshot.headYaw();
         var minStable = correctYaw(headYaw - stable);
         var maxStable = correctYaw(headYaw + stable);
         return Math.clamp(yaw, Math.min(minStable, maxStable), Math.max(minStable, maxStable));
@@ -216,6 +224,46 @@ public final class EntityBodyRotator {
         @SerializedName("rotation_delay")
         private int rotationDelay;
 
+        /**
+         * Writes this data to a binary output.
+         *
+         * @param output the output
+         * @throws IOException if an I/O error occurs
+         */
+        void write(@NotNull DataOutput output) throws IOException {
+            output.writeByte((headUneven ? 1 : 0) | (bodyUneven ? 2 : 0) | (playerMode ? 4 : 0));
+            output.writeFloat(minBody);
+            output.writeFloat(maxBody);
+            output.writeFloat(minHead);
+            output.writeFloat(maxHead);
+            output.writeFloat(stable);
+            TrackerDataCodec.writeVarInt(output, rotationDuration);
+            TrackerDataCodec.writeVarInt(output, rotationDelay);
+        }
+
+        /**
+         * Reads data written by {@link #write(DataOutput)}.
+         *
+         * @param input the input
+         * @return the data
+         * @throws IOException if an I/O error occurs
+         */
+        static @NotNull RotatorData read(@NotNull DataInput input) throws IOException {
+            var flags = input.readUnsignedByte();
+            return new RotatorData(
+                (flags & 1) != 0,
+                (flags & 2) != 0,
+                (flags & 4) != 0,
+                input.readFloat(),
+                input.readFloat(),
+                input.readFloat(),
+                input.readFloat(),
+                input.readFloat(),
+                TrackerDataCodec.readVarInt(input),
+                TrackerDataCodec.readVarInt(input)
+            );
+        }
+
         private void set(@NotNull EntityBodyRotator rotator) {
             rotator.headUneven = headUneven;
             rotator.bodyUneven = bodyUneven;
@@ -0,0 +1,122 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.tracker;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A paged bitset of entity ids.
+ * <p>
+ * Reads never lock and are cheap enough to run for every outbound packet: one page lookup and one bit test.
+ * Writes lock and flip a single bit, so they do not depend on the size of the set.
+ * Ids are grouped in pages of 4096, and a page is dropped once it becomes empty, so the set stays small
+ * while the server's entity counter keeps growing.
+ * </p>
+ * <p>
+ * Ids must not be negative, like the ids given by the server's entity counter.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public final class EntityIdSet {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int PAGE_WORDS = 1 << (PAGE_SHIFT - 6);
+
+    private volatile AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(0);
+    private int[] pageSizes = new int[0];
+    private volatile int size;
+
+    /**
+     * Checks if this set contains the given id.
+     *
+     * @param id entity id
+     * @return whether to contain
+     */
+    public boolean contains(int id) {
+        if (id < 0) return false;
+        var current = pages;
+        var index = id >>> PAGE_SHIFT;
+        if (index >= current.length()) return false;
+        var page = current.get(index);
+        return page != null && (page.get((id & PAGE_MASK) >>> 6) & (1L << id)) != 0;
+    }
+
+    /**
+     * Adds the given id.
+     *
+     * @param id entity id
+     * @return whether to be added
+     * @throws IllegalArgumentException if the id is negative
+     */
+    public synchronized boolean add(int id) {
+        if (id < 0) throw new IllegalArgumentException("Negative entity id: " + id);
+        var index = id >>> PAGE_SHIFT;
+        var current = grow(index + 1);
+        var page = current.get(index);
+        if (page == null) {
+            page = new AtomicLongArray(PAGE_WORDS);
+            current.set(index, page);
+        }
+        var word = (id & PAGE_MASK) >>> 6;
+        var bits = page.get(word);
+        var bit = 1L << id;
+        if ((bits & bit) != 0) return false;
+        page.set(word, bits | bit);
+        pageSizes[index]++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the given id.
+     *
+     * @param id entity id
+     * @return whether to be removed
+     */
+    public synchronized boolean remove(int id) {
+        if (!contains(id)) return false;
+        var current = pages;
+        var index = id >>> PAGE_SHIFT;
+        var page = current.get(index);
+        var word = (id & PAGE_MASK) >>> 6;
+        page.set(word, page.get(word) & ~(1L << id));
+        if (--pageSizes[index] == 0) current.set(index, null);
+        size--;
+        return true;
+    }
+
+    /**
+     * Gets the size of this set.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    private @NotNull AtomicReferenceArray<AtomicLongArray> grow(int length) {
+        var current = pages;
+        if (current.length() >= length) return current;
+        var newLength = Math.max(length, current.length() * 2);
+        var grown = new AtomicReferenceArray<AtomicLongArray>(newLength);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        var sizes = new int[newLength];
+        System.arraycopy(pageSizes, 0, sizes, 0, pageSizes.length);
+        pageSizes = sizes;
+        pages = grown;
+        return grown;
+    }
+}
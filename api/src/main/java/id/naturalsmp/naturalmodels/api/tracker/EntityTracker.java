@@ -10,6 +10,7 @@ import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.animation.AnimationIterator;
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier;
 import id.naturalsmp.naturalmodels.api.animation.AnimationState;
+import id.naturalsmp.naturalmodels.api.animation.EntityFlags;
 import id.naturalsmp.naturalmodels.api.bone.BoneTags;
 import id.naturalsmp.naturalmodels.api.bone.RenderedBone;
 import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
@@ -126,9 +127,9 @@ public class EntityTracker extends Tracker {
         pipeline.addRotationModifier(HEAD_PREDICATE, headRotator);
         pipeline.addRotationModifier(HEAD_WITH_CHILDREN_PREDICATE, headRotator);
 
-        var damageTickProvider = FunctionUtil.throttleTickFloat(entity::damageTick);
-        var walkSpeedSupplier = FunctionUtil.throttleTickFloat(entity::walkSpeed);
-        var walkSupplier = FunctionUtil.throttleTickBoolean(() -> entity.onWalk()
+        var damageTickProvider = FunctionUtil.throttleTickFloat(() -> entity.snapshot().damageTick());
+        var walkSpeedSupplier = FunctionUtil.throttleTickFloat(() -> entity.snapshot().walkSpeed());
+        var walkSupplier = FunctionUtil.throttleTickBoolean(() -> entity.snapshot().onWalk()
                 || damageTickProvider.getAsFloat() > 0.25 || pipeline.bones().stream().anyMatch(e -> {
                     var hitBox = e.getHitBox();
                     return hitBox != null && hitBox.onWalk();
@@ -138,7 +139,6 @@ public class EntityTracker extends Tracker {
                 .name("idle")
                 .animation("idle")
                 .priority(0)
-                .predicate(e -> true)
                 .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
                 .build());
 
@@ -146,7 +146,7 @@ public class EntityTracker extends Tracker {
                 .name("walk")
                 .animation("walk")
                 .priority(10)
-                .predicate(e -> walkSupplier.getAsBoolean())
+                .flags(EntityFlags.WALK)
                 .modifier(
                         AnimationModifier.builder().type(AnimationIterator.Type.LOOP).speed(walkSpeedSupplier).build())
                 .build());
@@ -155,7 +155,7 @@ public class EntityTracker extends Tracker {
                 .name("swim")
                 .animation("swim")
                 .priority(20)
-                .predicate(BaseEntity::swim)
+                .flags(EntityFlags.SWIM)
                 .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
                 .build());
 
@@ -163,7 +163,7 @@ public class EntityTracker extends Tracker {
                 .name("fly")
                 .animation("fly")
                 .priority(30)
-                .predicate(BaseEntity::fly)
+                .flags(EntityFlags.FLY)
                 .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
                 .build());
 
@@ -171,11 +171,19 @@ public class EntityTracker extends Tracker {
                 .name("death")
                 .animation("death")
                 .priority(100)
-                .predicate(BaseEntity::dead)
+                .flags(EntityFlags.DEAD)
                 .modifier(AnimationModifier.builder().type(AnimationIterator.Type.PLAY_ONCE).build())
                 .build());
 
-        tick((t, s) -> stateController.update(entity));
+        tick((t, s) -> {
+            var snapshot = entity.snapshot();
+            stateController.update(EntityFlags.of(
+                    walkSupplier.getAsBoolean(),
+                    snapshot.swim(),
+                    snapshot.fly(),
+                    snapshot.dead(),
+                    snapshot.ground()), entity);
+        });
 
         animate("spawn", AnimationModifier.DEFAULT_WITH_PLAY_ONCE);
         createNametag(CREATE_NAMETAG_PREDICATE, (bone, tag) -> {
@@ -210,9 +218,14 @@ public class EntityTracker extends Tracker {
         EventUtil.call(CreateEntityTrackerEvent.class, () -> new CreateEntityTrackerEvent(this));
     }
 
+    @Override
+    protected int shardKey() {
+        return registry.id();
+    }
+
     @Override
     public @NotNull ModelRotation rotation() {
-        return registry.entity().dead() ? pipeline.getRotation() : super.rotation();
+        return registry.entity().snapshot().dead() ? pipeline.getRotation() : super.rotation();
     }
 
     /**
@@ -307,7 +320,7 @@ public class EntityTracker extends Tracker {
 
     @Override
     public void despawn() {
-        if (registry.entity().dead()) {
+        if (registry.entity().snapshot().dead()) {
             close(CloseReason.DESPAWN);
             return;
         }
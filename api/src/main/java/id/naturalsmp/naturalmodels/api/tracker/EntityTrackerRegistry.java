@@ -8,15 +8,11 @@ package id.naturalsmp.naturalmodels.api.tracker;
 
 import com.google.common.collect.ImmutableList;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import it.unimi.dsi.fastutil.ints.Int2ReferenceMap;
 import it.unimi.dsi.fastutil.ints.Int2ReferenceOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ReferenceMap;
-import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.bone.RenderedBone;
 import id.naturalsmp.naturalmodels.api.config.DebugConfig;
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
 import id.naturalsmp.naturalmodels.api.entity.BaseEntity;
 import id.naturalsmp.naturalmodels.api.entity.BasePlayer;
 import id.naturalsmp.naturalmodels.api.nms.HitBox;
@@ -27,7 +23,6 @@ import id.naturalsmp.naturalmodels.api.platform.PlatformEntity;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
 import id.naturalsmp.naturalmodels.api.util.CollectionUtil;
 import id.naturalsmp.naturalmodels.api.util.LogUtil;
-import id.naturalsmp.naturalmodels.api.util.lock.DuplexLock;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.jetbrains.annotations.ApiStatus;
@@ -56,9 +51,10 @@ import java.util.stream.Stream;
 @ToString(onlyExplicitlyIncluded = true)
 public final class EntityTrackerRegistry {
 
-    private static final Object2ReferenceMap<UUID, EntityTrackerRegistry> UUID_REGISTRY_MAP = new Object2ReferenceOpenHashMap<>();
-    private static final Int2ReferenceMap<EntityTrackerRegistry> ID_REGISTRY_MAP = new Int2ReferenceOpenHashMap<>();
-    private static final DuplexLock REGISTRY_LOCK = new DuplexLock();
+    private static final Map<UUID, EntityTrackerRegistry> UUID_REGISTRY_MAP = new ConcurrentHashMap<>();
+    private static volatile Int2ReferenceOpenHashMap<EntityTrackerRegistry> idRegistrySnapshot = new Int2ReferenceOpenHashMap<>();
+    private static final Object REGISTRY_LOCK = new Object();
+    private static final EntityIdSet HIT_BOX_IDS = new EntityIdSet();
 
     @ToString.Include
     private final AtomicBoolean closed = new AtomicBoolean();
@@ -82,7 +78,7 @@ public final class EntityTrackerRegistry {
      * @since 1.15.2
      */
     public static @Nullable EntityTrackerRegistry registry(@NotNull UUID uuid) {
-        return REGISTRY_LOCK.accessToReadLock(() -> UUID_REGISTRY_MAP.get(uuid));
+        return UUID_REGISTRY_MAP.get(uuid);
     }
 
     /**
@@ -93,7 +89,21 @@ public final class EntityTrackerRegistry {
      * @since 1.15.2
      */
     public static @Nullable EntityTrackerRegistry registry(int id) {
-        return REGISTRY_LOCK.accessToReadLock(() -> ID_REGISTRY_MAP.get(id));
+        return idRegistrySnapshot.get(id);
+    }
+
+    /**
+     * Returns the ids of all live hitbox entities.
+     * <p>
+     * Packet handlers use it to skip entity lookups for packets that cannot concern a hitbox.
+     * </p>
+     *
+     * @return the hitbox id set
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static @NotNull EntityIdSet hitBoxIds() {
+        return HIT_BOX_IDS;
     }
 
     /**
@@ -126,7 +136,20 @@ public final class EntityTrackerRegistry {
      * @since 1.15.2
      */
     public static @NotNull @Unmodifiable List<EntityTrackerRegistry> registries() {
-        return REGISTRY_LOCK.accessToReadLock(() -> ImmutableList.copyOf(UUID_REGISTRY_MAP.values()));
+        return ImmutableList.copyOf(UUID_REGISTRY_MAP.values());
+    }
+
+    /**
+     * Publishes a snapshot of every modelled entity in one pass.
+     * It is called by the platform at the end of each server tick.
+     *
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public static void captureSnapshots() {
+        for (EntityTrackerRegistry registry : UUID_REGISTRY_MAP.values()) {
+            registry.entity.captureSnapshot();
+        }
     }
 
     /**
@@ -146,22 +169,17 @@ public final class EntityTrackerRegistry {
             var get2 = registry(uuid);
             if (get2 != null) return get2;
             registry = new EntityTrackerRegistry(entity);
-            REGISTRY_LOCK.accessToWriteLock(() -> {
+            synchronized (REGISTRY_LOCK) {
+                var copy = idRegistrySnapshot.clone();
+                copy.put(registry.id, registry);
+                idRegistrySnapshot = copy;
                 UUID_REGISTRY_MAP.put(registry.uuid, registry);
-                ID_REGISTRY_MAP.put(registry.id, registry);
-                return null;
-            });
+            }
         }
         registry.initialLoad();
         return registry;
     }
 
-    private static @NotNull Collection<JsonElement> deserialize(@Nullable String raw) {
-        if (raw == null) return Collections.emptyList();
-        var json = JsonParser.parseString(raw);
-        return json.isJsonArray() ? json.getAsJsonArray().asList() : Collections.singletonList(json);
-    }
-
     private EntityTrackerRegistry(@NotNull BaseEntity entity) {
         this.entity = entity;
         this.uuid = entity.uuid();
@@ -344,38 +362,111 @@ public final class EntityTrackerRegistry {
      */
     public boolean close(@NotNull Tracker.CloseReason reason) {
         if (!closed.compareAndSet(false, true)) return false;
-        viewedPlayer().forEach(value -> value.sendEntityData(this));
+        viewedPlayer().forEach(value -> {
+            value.sendEntityData(this);
+            unregisterEntityId(value);
+        });
         viewedPlayerMap.clear();
         for (EntityTracker value : trackers()) {
             value.close(reason);
         }
         if (!reason.shouldBeSave()) runSync(() -> entity.modelData(null));
-        REGISTRY_LOCK.accessToWriteLock(() -> {
+        synchronized (REGISTRY_LOCK) {
             UUID_REGISTRY_MAP.remove(uuid);
-            ID_REGISTRY_MAP.remove(id);
-            if (entity instanceof BasePlayer player) player.updateInventory();
-            return null;
-        });
+            var copy = idRegistrySnapshot.clone();
+            copy.remove(id);
+            idRegistrySnapshot = copy;
+        }
+        if (entity instanceof BasePlayer player) player.updateInventory();
         LogUtil.debug(DebugConfig.DebugOption.TRACKER, () -> uuid + "'s tracker registry has been removed. (" + UUID_REGISTRY_MAP.size() + ")");
         return true;
     }
 
     /**
-     * Reloads the registry, refreshing all trackers.
+     * Reloads the registry after the models are reloaded.
+     * <p>
+     * A tracker whose bone tree is unchanged is bound to the reloaded renderer in place and keeps its display entities and animations.
+     * Other trackers are closed and created again from their {@link TrackerData}.
+     * </p>
      *
+     * @return the number of kept, rebound and respawned trackers
      * @since 1.15.2
      */
-    public void reload() {
-        closed.set(true);
-        var data = new ArrayList<TrackerData>(trackerMap.size());
+    public @NotNull ReloadResult reload() {
+        int kept = 0, rebound = 0;
+        var data = new ArrayList<TrackerData>();
+        var respawn = new ArrayList<EntityTracker>();
         for (EntityTracker value : trackers()) {
             if (!value.canBeSaved()) continue;
-            data.add(value.asTrackerData());
-            value.close();
+            var renderer = NaturalModels.modelOrNull(value.name());
+            switch (renderer != null ? value.rebind(renderer) : RenderPipeline.RebindResult.INCOMPATIBLE) {
+                case KEPT -> kept++;
+                case REBOUND -> rebound++;
+                case INCOMPATIBLE -> {
+                    data.add(value.asTrackerData());
+                    respawn.add(value);
+                }
+            }
+        }
+        if (!respawn.isEmpty()) {
+            closed.set(true);
+            for (EntityTracker value : respawn) {
+                value.close();
+                trackerMap.remove(value.name(), value);
+            }
+            closed.set(false);
+            load(data.stream());
+        }
+        return new ReloadResult(kept, rebound, respawn.size());
+    }
+
+    /**
+     * Reloads all registries.
+     *
+     * @return the sum of each result
+     * @see #reload()
+     * @since 2.1.0
+     */
+    public static @NotNull ReloadResult reloadAll() {
+        var result = ReloadResult.EMPTY;
+        for (EntityTrackerRegistry registry : registries()) {
+            result = result.plus(registry.reload());
+        }
+        return result;
+    }
+
+    /**
+     * The result of a registry reload.
+     *
+     * @param kept the number of trackers whose renderer is unchanged
+     * @param rebound the number of trackers bound to a changed renderer in place
+     * @param respawned the number of trackers closed and created again
+     * @since 2.1.0
+     */
+    public record ReloadResult(int kept, int rebound, int respawned) {
+        /**
+         * Empty result
+         */
+        public static final ReloadResult EMPTY = new ReloadResult(0, 0, 0);
+
+        /**
+         * Adds other result.
+         *
+         * @param other other result
+         * @return sum
+         */
+        public @NotNull ReloadResult plus(@NotNull ReloadResult other) {
+            return new ReloadResult(kept + other.kept, rebound + other.rebound, respawned + other.respawned);
+        }
+
+        /**
+         * Gets the number of reloaded trackers.
+         *
+         * @return total
+         */
+        public int total() {
+            return kept + rebound + respawned;
         }
-        trackerMap.clear();
-        closed.set(false);
-        load(data.stream());
     }
 
     /**
@@ -417,13 +508,14 @@ public final class EntityTrackerRegistry {
 
     /**
      * Loads trackers from the entity's persistent data.
+     * <p>
+     * Both the binary format and the legacy JSON format are read. Legacy data is rewritten in the binary format by the following save.
+     * </p>
      *
      * @since 1.15.2
      */
     public void load() {
-        load(deserialize(entity.modelData())
-            .stream()
-            .map(TrackerData::deserialize));
+        load(TrackerDataCodec.decode(entity.modelData()).stream());
     }
 
     /**
@@ -432,8 +524,14 @@ public final class EntityTrackerRegistry {
      * @since 1.15.2
      */
     public void save() {
-        var data = serialize();
-        if (!data.isEmpty()) runSync(() -> entity.modelData(data.toString()));
+        var data = trackers().stream()
+            .filter(EntityTracker::canBeSaved)
+            .map(EntityTracker::asTrackerData)
+            .toList();
+        if (!data.isEmpty()) {
+            var encoded = TrackerDataCodec.encode(data);
+            runSync(() -> entity.modelData(encoded));
+        }
     }
 
     private void runSync(@NotNull Runnable runnable) {
@@ -515,6 +613,7 @@ public final class EntityTrackerRegistry {
             .player(player.uuid());
         if (handler == null) return false;
         var cache = registerPlayer(handler);
+        handler.modelledEntityIds().add(entity.id());
         if (trackerMap.isEmpty()) return false;
         var bundler = NaturalModels.nms().createBundler(10);
         for (EntityTracker value : trackers()) {
@@ -531,6 +630,12 @@ public final class EntityTrackerRegistry {
         return viewedPlayerMap.computeIfAbsent(handler.uuid(), u -> new PlayerChannelCache(handler));
     }
 
+    private void unregisterEntityId(@NotNull PlayerChannelHandler handler) {
+        var ids = handler.modelledEntityIds();
+        ids.remove(id);
+        ids.remove(entity.id());
+    }
+
     /**
      * Returns a stream of all players viewing this registry.
      *
@@ -553,6 +658,7 @@ public final class EntityTrackerRegistry {
         if (cache == null) return false;
         var handler = cache.channelHandler;
         handler.sendEntityData(this);
+        unregisterEntityId(handler);
         for (EntityTracker value : trackers()) {
             if (!value.forRemoval() && value.isSpawned(player)) value.remove(handler.player());
         }
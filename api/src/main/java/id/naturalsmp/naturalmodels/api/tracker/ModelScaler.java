@@ -169,7 +169,7 @@ public sealed interface ModelScaler {
          * Getter using entity scale.
          * @since 1.15.2
          */
-        Getter ENTITY = t -> t instanceof EntityTracker entityTracker ? (float) entityTracker.registry().entity().scale() : 1F;
+        Getter ENTITY = t -> t instanceof EntityTracker entityTracker ? (float) entityTracker.registry().entity().snapshot().scale() : 1F;
 
         /**
          * Calculates the scale.
@@ -6,6 +6,7 @@
  */
 package id.naturalsmp.naturalmodels.api.tracker;
 
+import id.naturalsmp.naturalmodels.api.NaturalModels;
 import id.naturalsmp.naturalmodels.api.animation.*;
 import id.naturalsmp.naturalmodels.api.bone.BoneName;
 import id.naturalsmp.naturalmodels.api.bone.BoneTags;
@@ -20,6 +21,7 @@ import id.naturalsmp.naturalmodels.api.event.*;
 import id.naturalsmp.naturalmodels.api.nms.*;
 import id.naturalsmp.naturalmodels.api.platform.PlatformLocation;
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer;
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler;
 import id.naturalsmp.naturalmodels.api.script.TimeScript;
 import id.naturalsmp.naturalmodels.api.util.EntityUtil;
 import id.naturalsmp.naturalmodels.api.util.EventUtil;
@@ -56,21 +58,6 @@ import java.util.stream.Stream;
  */
 public abstract class Tracker implements AutoCloseable {
 
-    private static final ScheduledExecutorService EXECUTOR = Executors
-            .newScheduledThreadPool(Runtime.getRuntime().availableProcessors() * 2, new ThreadFactory() {
-
-                private final AtomicInteger integer = new AtomicInteger();
-
-                @Override
-                public Thread newThread(@NotNull Runnable r) {
-                    var thread = new Thread(r);
-                    thread.setDaemon(true);
-                    thread.setName("NaturalModels-Worker-" + integer.getAndIncrement());
-                    thread.setUncaughtExceptionHandler(
-                            (t, e) -> LogUtil.handleException("Exception has occurred in " + t.getName(), e));
-                    return thread;
-                }
-            });
     /**
      * The interval in milliseconds between tracker ticks.
      * 
@@ -87,6 +74,10 @@ public abstract class Tracker implements AutoCloseable {
     @Getter
     protected final RenderPipeline pipeline;
     private long frame = 0;
+    private long totalFrame = 0; //Not reset on shutdown, so per-tick caches never see a tick twice
+    private long animatedFrame = 0;
+    private volatile int lodInterval = 1;
+    private volatile boolean lodFrozen = false;
     private final Queue<Runnable> queuedTask = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean tickPause = new AtomicBoolean();
     private final AtomicBoolean isClosed = new AtomicBoolean();
@@ -95,6 +86,7 @@ public abstract class Tracker implements AutoCloseable {
     protected final TrackerModifier modifier;
     private final Runnable updater;
     private final BundlerSet bundlerSet;
+    private final ModelProfiler.Entry profile;
     private final AnimationStateHandler<TimeScript> scriptProcessor = new AnimationStateHandler<>(
             TimeScript.EMPTY,
             (b, a) -> {
@@ -105,7 +97,7 @@ public abstract class Tracker implements AutoCloseable {
                 } else
                     b.accept(this);
             });
-    private volatile ScheduledFuture<?> task;
+    private volatile TrackerTickEngine.Ticket task;
     protected ModelRotator rotator = ModelRotator.YAW;
     protected ModelScaler scaler = ModelScaler.entity();
     private Supplier<ModelRotation> rotationSupplier = () -> ModelRotation.EMPTY;
@@ -113,10 +105,17 @@ public abstract class Tracker implements AutoCloseable {
             () -> new CloseTrackerEvent(t, r));
 
     private ScheduledPacketHandler handler = (t, s) -> {
-        if (!tickPause.get()) {
-            scriptProcessor.tick();
-            t.pipeline.tick(s.getViewBundler());
+        if (tickPause.get()) return;
+        if (lodFrozen) {
+            animatedFrame = frame;
+            return;
         }
+        var step = (int) Math.min(frame - animatedFrame, Integer.MAX_VALUE);
+        if (lodInterval > 1 && step > 0 && step < lodInterval * MINECRAFT_TICK_MULTIPLIER) return;
+        animatedFrame = frame;
+        step = Math.max(step, 1);
+        scriptProcessor.tick(step, () -> {});
+        t.pipeline.tick(step, s.getViewBundler());
     };
     private BiConsumer<Tracker, PlatformPlayer> perPlayerHandler = null;
 
@@ -137,7 +136,10 @@ public abstract class Tracker implements AutoCloseable {
         this.pipeline = pipeline;
         this.modifier = modifier;
         bundlerSet = new BundlerSet();
+        profile = ModelProfiler.entry(name());
+        profile.open();
         updater = () -> {
+            var start = System.nanoTime();
             try {
                 if (frame % MINECRAFT_TICK_MULTIPLIER == 0) {
                     Runnable task;
@@ -149,6 +151,7 @@ public abstract class Tracker implements AutoCloseable {
             } catch (Throwable throwable) {
                 LogUtil.handleException("Ticking this tracker has been failed: " + name(), throwable);
             }
+            profile.tick(System.nanoTime() - start);
         };
         if (modifier.sightTrace())
             pipeline.viewFilter(p -> EntityUtil.canSee(p.eyeLocation(), location()));
@@ -156,16 +159,28 @@ public abstract class Tracker implements AutoCloseable {
             if (readyForForceUpdate.compareAndSet(true, false))
                 t.pipeline.iterateTree(b -> b.dirtyUpdate(s.dataBundler));
         });
+        if (modifier.levelOfDetail())
+            tick((t, s) -> t.updateLevelOfDetail());
+        if (!modifier.deltaSuppression())
+            pipeline.iterateTree(b -> b.deltaSuppression(false));
         tick((t, s) -> pipeline.rotate(
                 t.rotation(),
                 s.tickBundler));
-        tick((t, s) -> pipeline.iterateTree(bone -> bone.attachments().forEach(a -> a.update(bone, null))));
+        tick((t, s) -> pipeline.iterateTree(bone -> {
+            if (bone.getHitBox() instanceof VirtualHitBox virtual)
+                virtual.sync();
+            bone.attachments().forEach(a -> a.update(bone, null));
+        }));
         tick((t, s) -> {
             var perPlayer = perPlayerHandler;
             pipeline.nonHidePlayer().forEach(p -> {
                 if (perPlayer != null)
                     perPlayer.accept(t, p);
-                pipeline.iterateTree(bone -> bone.attachments().forEach(a -> a.update(bone, p.uuid())));
+                pipeline.iterateTree(bone -> {
+                    if (bone.getHitBox() instanceof VirtualHitBox virtual)
+                        virtual.send(p);
+                    bone.attachments().forEach(a -> a.update(bone, p.uuid()));
+                });
             });
         });
         pipeline.spawnPacketHandler(p -> start());
@@ -204,14 +219,15 @@ public abstract class Tracker implements AutoCloseable {
             if (isScheduled())
                 return;
             updater.run();
-            task = EXECUTOR.scheduleAtFixedRate(() -> {
+            task = TrackerTickEngine.global().register(shardKey(), name(), () -> {
                 if (playerCount() == 0 && !forRemoval.get()) {
                     shutdown();
                     return;
                 }
                 frame++;
+                totalFrame++;
                 updater.run();
-            }, TRACKER_TICK_INTERVAL, TRACKER_TICK_INTERVAL, TimeUnit.MILLISECONDS);
+            });
             LogUtil.debug(DebugConfig.DebugOption.TRACKER,
                     () -> getClass().getSimpleName() + " scheduler started: " + name());
         }
@@ -223,14 +239,68 @@ public abstract class Tracker implements AutoCloseable {
         synchronized (this) {
             if (!isScheduled())
                 return;
-            task.cancel(true);
+            task.cancel();
             task = null;
             frame = 0;
+            animatedFrame = 0;
             LogUtil.debug(DebugConfig.DebugOption.TRACKER,
                     () -> getClass().getSimpleName() + " scheduler shutdown: " + name());
         }
     }
 
+    private void updateLevelOfDetail() {
+        var config = NaturalModels.config().levelOfDetail();
+        if (!config.enabled()) {
+            levelOfDetailInterval(1);
+            lodFrozen = false;
+            return;
+        }
+        var location = location();
+        var nearest = Double.MAX_VALUE;
+        var viewed = false;
+        var visible = false;
+        var iterator = pipeline.allPlayer().iterator();
+        while (iterator.hasNext()) {
+            var eye = iterator.next().eyeLocation();
+            viewed = true;
+            nearest = Math.min(nearest, EntityUtil.distance(eye, location));
+            if (!visible && !EntityUtil.isBehind(eye, location)) visible = true;
+        }
+        lodFrozen = viewed && config.freezeBehind() && !visible;
+        levelOfDetailInterval(viewed ? config.interval(nearest, NaturalModels.config().maxSight()) : 1);
+    }
+
+    private void levelOfDetailInterval(int interval) {
+        if (lodInterval == interval) return;
+        lodInterval = interval;
+        pipeline.iterateTree(b -> b.levelOfDetailInterval(interval));
+    }
+
+    /**
+     * Returns the current interval in Minecraft ticks between animation updates chosen by level of detail.
+     *
+     * @return the tick interval, or 0 if animations are frozen
+     * @since 2.1.0
+     */
+    public int levelOfDetailInterval() {
+        return lodFrozen ? 0 : lodInterval;
+    }
+
+    /**
+     * Returns the key used to assign this tracker to a {@link TrackerTickEngine} shard.
+     * <p>
+     * Trackers sharing the same key are ticked by the same shard in registration order.
+     * By default, the key is derived from the chunk of the current location.
+     * </p>
+     *
+     * @return the shard key
+     * @since 2.1.0
+     */
+    protected int shardKey() {
+        var location = location();
+        return 31 * ((int) Math.floor(location.x()) >> 4) + ((int) Math.floor(location.z()) >> 4);
+    }
+
     /**
      * Returns the current rotation of the model.
      *
@@ -396,6 +466,7 @@ public abstract class Tracker implements AutoCloseable {
 
     protected void close(@NotNull CloseReason reason) {
         if (isClosed.compareAndSet(false, true)) {
+            profile.close();
             closeEventHandler.accept(this, reason);
             shutdown();
             pipeline.despawn();
@@ -786,7 +857,7 @@ public abstract class Tracker implements AutoCloseable {
                         && entity.entity().uuid().equals(player.uuid()))
                     return;
                 tag.teleport(tracker.location());
-                tag.send(player);
+                tag.send(player, totalFrame / MINECRAFT_TICK_MULTIPLIER);
             });
         }), predicate);
     }
@@ -975,6 +1046,25 @@ public abstract class Tracker implements AutoCloseable {
         return pipeline.getParent();
     }
 
+    /**
+     * Binds this tracker to a reloaded renderer of the same model without respawning it.
+     *
+     * @param renderer the reloaded renderer
+     * @return the result
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public @NotNull RenderPipeline.RebindResult rebind(@NotNull ModelRenderer renderer) {
+        var result = pipeline.rebind(renderer);
+        if (result == RenderPipeline.RebindResult.INCOMPATIBLE) return result;
+        scriptProcessor.rebindAnimations((name, modifier) -> renderer.animation(name)
+                .map(animation -> animation.script(modifier))
+                .map(script -> script.iterator(modifier))
+                .orElse(null));
+        if (result == RenderPipeline.RebindResult.REBOUND) forceUpdate(true);
+        return result;
+    }
+
     /**
      * Marks the tracker for removal.
      *
@@ -1074,19 +1164,23 @@ public abstract class Tracker implements AutoCloseable {
 
         private void globalSend() {
             if (tickBundler.isNotEmpty()) {
-                pipeline.allPlayer().forEach(tickBundler::send);
+                broadcast(tickBundler, pipeline.allPlayer().toList());
                 tickBundler = pipeline.createBundler();
             }
             if (dataBundler.isNotEmpty()) {
-                pipeline.nonHidePlayer().forEach(dataBundler::send);
+                broadcast(dataBundler, pipeline.nonHidePlayer().toList());
                 dataBundler = pipeline.createLazyBundler();
             }
             if (viewBundler.isNotEmpty()) {
-                pipeline.viewedPlayer().filter(p -> !perPlayerViewBundler.containsKey(p.uuid()))
-                        .forEach(viewBundler::send);
+                broadcast(viewBundler, pipeline.viewedPlayer().filter(p -> !perPlayerViewBundler.containsKey(p.uuid())).toList());
                 viewBundler = pipeline.createParallelBundler();
             }
         }
+
+        private void broadcast(@NotNull PacketBundler bundler, @NotNull List<PlatformPlayer> players) {
+            profile.packets((long) bundler.size() * players.size());
+            bundler.broadcast(players);
+        }
     }
 
     @RequiredArgsConstructor
@@ -1121,7 +1215,10 @@ public abstract class Tracker implements AutoCloseable {
 
         private void send() {
             if (pipeline.tick(uuid, bundler) && bundler.isNotEmpty()) {
-                channel().ifPresent(handler -> bundler.send(handler.player()));
+                channel().ifPresent(handler -> {
+                    profile.packets(bundler.size());
+                    bundler.send(handler.player());
+                });
                 bundler = pipeline.createParallelBundler();
             }
         }
@@ -0,0 +1,335 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.tracker;
+
+import com.google.gson.*;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Binary codec of the tracker data stored in an entity.
+ * <p>
+ * Data is written as a versioned binary blob with varints, a string table and a bitset of the modifier and hide option flags,
+ * then stored as a Base64 string behind {@link #PREFIX}.
+ * Data without the prefix is read as the legacy JSON format, and is migrated the next time the entity is saved.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@ApiStatus.Internal
+public final class TrackerDataCodec {
+
+    /**
+     * The prefix of binary data. JSON data never starts with it.
+     */
+    public static final String PREFIX = "#";
+
+    private static final int VERSION = 2;
+    private static final int LEGACY_FLAG_VERSION = 1;
+
+    private static final int SIGHT_TRACE = 1;
+    private static final int DAMAGE_ANIMATION = 1 << 1;
+    private static final int DAMAGE_TINT = 1 << 2;
+    private static final int LEVEL_OF_DETAIL = 1 << 3;
+    private static final int HIDE_EQUIPMENT = 1 << 4;
+    private static final int HIDE_FIRE = 1 << 5;
+    private static final int HIDE_VISIBILITY = 1 << 6;
+    private static final int HIDE_GLOWING = 1 << 7;
+    private static final int DELTA_SUPPRESSION = 1 << 8;
+
+    private static final int JSON_NULL = 0;
+    private static final int JSON_TRUE = 1;
+    private static final int JSON_FALSE = 2;
+    private static final int JSON_LONG = 3;
+    private static final int JSON_DOUBLE = 4;
+    private static final int JSON_STRING = 5;
+    private static final int JSON_ARRAY = 6;
+    private static final int JSON_OBJECT = 7;
+
+    private TrackerDataCodec() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Encodes tracker data.
+     *
+     * @param data the tracker data
+     * @return the encoded string
+     * @since 2.1.0
+     */
+    public static @NotNull String encode(@NotNull Collection<TrackerData> data) {
+        return PREFIX + Base64.getEncoder().withoutPadding().encodeToString(encodeToBytes(data));
+    }
+
+    /**
+     * Encodes tracker data to the binary format, without Base64.
+     *
+     * @param data the tracker data
+     * @return the encoded bytes
+     * @since 2.1.0
+     */
+    public static byte[] encodeToBytes(@NotNull Collection<TrackerData> data) {
+        var bytes = new ByteArrayOutputStream(32 * data.size() + 4);
+        try (var output = new DataOutputStream(bytes)) {
+            var writer = new Writer(output);
+            output.writeByte(VERSION);
+            writeVarInt(output, data.size());
+            for (TrackerData trackerData : data) {
+                writer.write(trackerData);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes tracker data written by {@link #encode(Collection)} or by the legacy JSON format.
+     *
+     * @param raw the encoded string
+     * @return the tracker data
+     * @since 2.1.0
+     */
+    public static @NotNull List<TrackerData> decode(@Nullable String raw) {
+        if (raw == null || raw.isEmpty()) return Collections.emptyList();
+        if (raw.startsWith(PREFIX)) return decodeFromBytes(Base64.getDecoder().decode(raw.substring(PREFIX.length())));
+        var json = JsonParser.parseString(raw);
+        if (!json.isJsonArray()) return Collections.singletonList(TrackerData.deserialize(json));
+        var array = json.getAsJsonArray();
+        var list = new ArrayList<TrackerData>(array.size());
+        for (JsonElement element : array) {
+            list.add(TrackerData.deserialize(element));
+        }
+        return list;
+    }
+
+    /**
+     * Decodes tracker data from the binary format, without Base64.
+     *
+     * @param bytes the encoded bytes
+     * @return the tracker data
+     * @since 2.1.0
+     */
+    public static @NotNull List<TrackerData> decodeFromBytes(byte[] bytes) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            var version = input.readUnsignedByte();
+            if (version != VERSION && version != LEGACY_FLAG_VERSION) throw new IOException("Unsupported tracker data version: " + version);
+            var reader = new Reader(input, version);
+            var size = readVarInt(input);
+            var list = new ArrayList<TrackerData>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(reader.read());
+            }
+            return list;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void writeVarInt(@NotNull DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    static int readVarInt(@NotNull DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            var b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("VarInt is too big.");
+    }
+
+    private static void writeVarLong(@NotNull DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(@NotNull DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            var b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("VarLong is too big.");
+    }
+
+    private record Writer(@NotNull DataOutputStream output, @NotNull Map<String, Integer> strings) {
+
+        private Writer(@NotNull DataOutputStream output) {
+            this(output, new HashMap<>());
+        }
+
+        private void write(@NotNull TrackerData data) throws IOException {
+            var modifier = data.modifier();
+            var hideOption = data.hideOption();
+            var flags = (modifier.sightTrace() ? SIGHT_TRACE : 0)
+                | (modifier.damageAnimation() ? DAMAGE_ANIMATION : 0)
+                | (modifier.damageTint() ? DAMAGE_TINT : 0)
+                | (modifier.levelOfDetail() ? LEVEL_OF_DETAIL : 0)
+                | (hideOption.equipment() ? HIDE_EQUIPMENT : 0)
+                | (hideOption.fire() ? HIDE_FIRE : 0)
+                | (hideOption.visibility() ? HIDE_VISIBILITY : 0)
+                | (hideOption.glowing() ? HIDE_GLOWING : 0)
+                | (modifier.deltaSuppression() ? DELTA_SUPPRESSION : 0);
+            writeString(data.id());
+            writeVarInt(output, flags);
+            writeJson(data.scaler().serialize());
+            writeJson(data.rotator().serialize());
+            data.bodyRotator().write(output);
+            var markForSpawn = data.markForSpawn();
+            writeVarInt(output, markForSpawn.size());
+            for (UUID uuid : markForSpawn) {
+                output.writeLong(uuid.getMostSignificantBits());
+                output.writeLong(uuid.getLeastSignificantBits());
+            }
+        }
+
+        private void writeString(@NotNull String value) throws IOException {
+            var index = strings.get(value);
+            if (index != null) {
+                writeVarInt(output, index << 1 | 1);
+                return;
+            }
+            strings.put(value, strings.size());
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(output, bytes.length << 1);
+            output.write(bytes);
+        }
+
+        private void writeJson(@NotNull JsonElement element) throws IOException {
+            switch (element) {
+                case JsonObject object -> {
+                    output.writeByte(JSON_OBJECT);
+                    writeVarInt(output, object.size());
+                    for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                        writeString(entry.getKey());
+                        writeJson(entry.getValue());
+                    }
+                }
+                case JsonArray array -> {
+                    output.writeByte(JSON_ARRAY);
+                    writeVarInt(output, array.size());
+                    for (JsonElement e : array) {
+                        writeJson(e);
+                    }
+                }
+                case JsonPrimitive primitive when primitive.isBoolean() -> output.writeByte(primitive.getAsBoolean() ? JSON_TRUE : JSON_FALSE);
+                case JsonPrimitive primitive when primitive.isNumber() -> {
+                    var value = primitive.getAsDouble();
+                    var longValue = (long) value;
+                    if (longValue == value) {
+                        output.writeByte(JSON_LONG);
+                        writeVarLong(output, longValue << 1 ^ longValue >> 63);
+                    } else {
+                        output.writeByte(JSON_DOUBLE);
+                        output.writeDouble(value);
+                    }
+                }
+                case JsonPrimitive primitive -> {
+                    output.writeByte(JSON_STRING);
+                    writeString(primitive.getAsString());
+                }
+                default -> output.writeByte(JSON_NULL);
+            }
+        }
+    }
+
+    private record Reader(@NotNull DataInputStream input, int version, @NotNull List<String> strings) {
+
+        private Reader(@NotNull DataInputStream input, int version) {
+            this(input, version, new ArrayList<>());
+        }
+
+        private @NotNull TrackerData read() throws IOException {
+            var id = readString();
+            // Version 1 stored the flags in one byte, before delta suppression existed.
+            var flags = version == LEGACY_FLAG_VERSION ? input.readUnsignedByte() | DELTA_SUPPRESSION : readVarInt(input);
+            var scaler = readJson();
+            var rotator = readJson();
+            var bodyRotator = EntityBodyRotator.RotatorData.read(input);
+            var size = readVarInt(input);
+            var markForSpawn = HashSet.<UUID>newHashSet(size);
+            for (int i = 0; i < size; i++) {
+                markForSpawn.add(new UUID(input.readLong(), input.readLong()));
+            }
+            return new TrackerData(
+                id,
+                scaler instanceof JsonObject object ? ModelScaler.deserialize(object) : null,
+                rotator instanceof JsonObject object ? ModelRotator.deserialize(object) : null,
+                new TrackerModifier(
+                    (flags & SIGHT_TRACE) != 0,
+                    (flags & DAMAGE_ANIMATION) != 0,
+                    (flags & DAMAGE_TINT) != 0,
+                    (flags & LEVEL_OF_DETAIL) != 0,
+                    (flags & DELTA_SUPPRESSION) != 0
+                ),
+                bodyRotator,
+                new EntityHideOption(
+                    (flags & HIDE_EQUIPMENT) != 0,
+                    (flags & HIDE_FIRE) != 0,
+                    (flags & HIDE_VISIBILITY) != 0,
+                    (flags & HIDE_GLOWING) != 0
+                ),
+                markForSpawn
+            );
+        }
+
+        private @NotNull String readString() throws IOException {
+            var header = readVarInt(input);
+            if ((header & 1) != 0) return strings.get(header >>> 1);
+            var bytes = new byte[header >>> 1];
+            input.readFully(bytes);
+            var value = new String(bytes, StandardCharsets.UTF_8).intern();
+            strings.add(value);
+            return value;
+        }
+
+        private @NotNull JsonElement readJson() throws IOException {
+            return switch (input.readUnsignedByte()) {
+                case JSON_TRUE -> new JsonPrimitive(true);
+                case JSON_FALSE -> new JsonPrimitive(false);
+                case JSON_LONG -> {
+                    var value = readVarLong(input);
+                    yield new JsonPrimitive(value >>> 1 ^ -(value & 1));
+                }
+                case JSON_DOUBLE -> new JsonPrimitive(input.readDouble());
+                case JSON_STRING -> new JsonPrimitive(readString());
+                case JSON_ARRAY -> {
+                    var size = readVarInt(input);
+                    var array = new JsonArray(size);
+                    for (int i = 0; i < size; i++) {
+                        array.add(readJson());
+                    }
+                    yield array;
+                }
+                case JSON_OBJECT -> {
+                    var size = readVarInt(input);
+                    var object = new JsonObject();
+                    for (int i = 0; i < size; i++) {
+                        object.add(readString(), readJson());
+                    }
+                    yield object;
+                }
+                default -> JsonNull.INSTANCE;
+            };
+        }
+    }
+}
@@ -6,6 +6,7 @@
  */
 package id.naturalsmp.naturalmodels.api.tracker;
 
+import com.google.gson.JsonObject;
 import com.google.gson.annotations.SerializedName;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,29 +14,81 @@ import org.jetbrains.annotations.NotNull;
  * Configuration options for a {@link Tracker}.
  * <p>
  * This record controls various behaviors such as visibility checks (sight trace),
- * automatic damage animations, and damage tinting effects.
+ * automatic damage animations, damage tinting effects, distance-based level of detail
+ * and delta suppression of display transformations.
  * </p>
  *
  * @param sightTrace whether to perform sight tracing for visibility
  * @param damageAnimation whether to play automatic damage animations
  * @param damageTint whether to apply a red tint when damaged
+ * @param levelOfDetail whether to lower the animation rate for far or unseen models
+ * @param deltaSuppression whether to hold back transformations too small to see
  * @since 1.15.2
  */
 public record TrackerModifier(
     @SerializedName("sight-trace") boolean sightTrace,
     @SerializedName("damage-animation") boolean damageAnimation,
-    @SerializedName("damage-tint") boolean damageTint
+    @SerializedName("damage-tint") boolean damageTint,
+    @SerializedName("level-of-detail") boolean levelOfDetail,
+    @SerializedName("delta-suppression") boolean deltaSuppression
 ) {
     /**
      * The default modifier configuration (all enabled).
      * @since 1.15.2
      */
     public static final TrackerModifier DEFAULT = new TrackerModifier(
+        true,
+        true,
         true,
         true,
         true
     );
 
+    /**
+     * Creates a modifier with level of detail and delta suppression enabled.
+     *
+     * @param sightTrace whether to perform sight tracing for visibility
+     * @param damageAnimation whether to play automatic damage animations
+     * @param damageTint whether to apply a red tint when damaged
+     * @since 1.15.2
+     */
+    public TrackerModifier(boolean sightTrace, boolean damageAnimation, boolean damageTint) {
+        this(sightTrace, damageAnimation, damageTint, true);
+    }
+
+    /**
+     * Creates a modifier with delta suppression enabled.
+     *
+     * @param sightTrace whether to perform sight tracing for visibility
+     * @param damageAnimation whether to play automatic damage animations
+     * @param damageTint whether to apply a red tint when damaged
+     * @param levelOfDetail whether to lower the animation rate for far or unseen models
+     * @since 2.1.0
+     */
+    public TrackerModifier(boolean sightTrace, boolean damageAnimation, boolean damageTint, boolean levelOfDetail) {
+        this(sightTrace, damageAnimation, damageTint, levelOfDetail, true);
+    }
+
+    /**
+     * Deserializes a modifier from a JSON object.
+     * <p>
+     * Missing options fall back to {@link #DEFAULT}, so data saved by older versions keeps working.
+     * </p>
+     *
+     * @param object the JSON object
+     * @return the modifier
+     * @since 2.1.0
+     */
+    public static @NotNull TrackerModifier deserialize(@NotNull JsonObject object) {
+        var builder = builder();
+        if (object.has("sight-trace")) builder.sightTrace(object.get("sight-trace").getAsBoolean());
+        if (object.has("damage-animation")) builder.damageAnimation(object.get("damage-animation").getAsBoolean());
+        if (object.has("damage-tint")) builder.damageTint(object.get("damage-tint").getAsBoolean());
+        if (object.has("level-of-detail")) builder.levelOfDetail(object.get("level-of-detail").getAsBoolean());
+        if (object.has("delta-suppression")) builder.deltaSuppression(object.get("delta-suppression").getAsBoolean());
+        return builder.build();
+    }
+
     /**
      * Creates a new builder initialized with default values.
      *
@@ -65,6 +118,8 @@ public record TrackerModifier(
         private boolean sightTrace;
         private boolean damageAnimation;
         private boolean damageTint;
+        private boolean levelOfDetail;
+        private boolean deltaSuppression;
 
         /**
          * Private initializer
@@ -74,6 +129,8 @@ public record TrackerModifier(
             this.sightTrace = modifier.sightTrace;
             this.damageAnimation = modifier.damageAnimation;
             this.damageTint = modifier.damageTint;
+            this.levelOfDetail = modifier.levelOfDetail;
+            this.deltaSuppression = modifier.deltaSuppression;
         }
 
         /**
@@ -112,6 +169,30 @@ public record TrackerModifier(
             return this;
         }
 
+        /**
+         * Sets whether to use distance-based level of detail.
+         *
+         * @param levelOfDetail true to enable level of detail
+         * @return this builder
+         * @since 2.1.0
+         */
+        public @NotNull Builder levelOfDetail(boolean levelOfDetail) {
+            this.levelOfDetail = levelOfDetail;
+            return this;
+        }
+
+        /**
+         * Sets whether to hold back display transformations too small to see.
+         *
+         * @param deltaSuppression true to enable delta suppression
+         * @return this builder
+         * @since 2.1.0
+         */
+        public @NotNull Builder deltaSuppression(boolean deltaSuppression) {
+            this.deltaSuppression = deltaSuppression;
+            return this;
+        }
+
         /**
          * Builds the {@link TrackerModifier}.
          *
@@ -122,7 +203,9 @@ public record TrackerModifier(
             return new TrackerModifier(
                 sightTrace,
                 damageAnimation,
-                damageTint
+                damageTint,
+                levelOfDetail,
+                deltaSuppression
             );
         }
     }
@@ -0,0 +1,262 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.tracker;
+
+import id.naturalsmp.naturalmodels.api.config.DebugConfig;
+import id.naturalsmp.naturalmodels.api.util.LogUtil;
+import it.unimi.dsi.fastutil.HashCommon;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A central tick engine that drives every running {@link Tracker}.
+ * <p>
+ * Instead of scheduling one periodic task per tracker, the engine owns a fixed set of shards.
+ * Each shard has a single worker thread that ticks all of its trackers in one batched loop per
+ * {@link Tracker#TRACKER_TICK_INTERVAL} frame, so trackers on the same shard always advance together.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class TrackerTickEngine {
+
+    private static final TrackerTickEngine GLOBAL = new TrackerTickEngine(Runtime.getRuntime().availableProcessors());
+
+    private final Shard[] shards;
+
+    /**
+     * Returns the engine used by all trackers.
+     *
+     * @return the global engine
+     * @since 2.1.0
+     */
+    public static @NotNull TrackerTickEngine global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Creates a new tick engine.
+     *
+     * @param shardCount the number of shards
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public TrackerTickEngine(int shardCount) {
+        if (shardCount <= 0) throw new RuntimeException("shard count cannot be <= 0");
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return the shard count
+     * @since 2.1.0
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Registers a periodic task to the shard selected by the given key.
+     *
+     * @param key the shard key (e.g. entity id or region hash)
+     * @param name the task name shown when the task overruns a frame
+     * @param task the task to run every frame
+     * @return the ticket used to cancel the task
+     * @since 2.1.0
+     */
+    @ApiStatus.Internal
+    public @NotNull Ticket register(int key, @NotNull String name, @NotNull Runnable task) {
+        var shard = shards[Math.floorMod(HashCommon.mix(key), shards.length)];
+        var ticket = new Ticket(shard, name, task);
+        shard.register(ticket);
+        return ticket;
+    }
+
+    /**
+     * Returns the statistics of all shards.
+     *
+     * @return the shard statistics
+     * @since 2.1.0
+     */
+    public @NotNull @Unmodifiable List<ShardStatistics> statistics() {
+        return Arrays.stream(shards)
+            .map(Shard::statistics)
+            .toList();
+    }
+
+    /**
+     * A handle of a task registered to the engine.
+     *
+     * @since 2.1.0
+     */
+    public static final class Ticket {
+        private final Shard shard;
+        private final String name;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        private Ticket(@NotNull Shard shard, @NotNull String name, @NotNull Runnable task) {
+            this.shard = shard;
+            this.name = name;
+            this.task = task;
+        }
+
+        /**
+         * Cancels this task. It will be removed from its shard on the next frame.
+         *
+         * @since 2.1.0
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Checks if this task has been cancelled.
+         *
+         * @return true if cancelled
+         * @since 2.1.0
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns the index of the shard that runs this task.
+         *
+         * @return the shard index
+         * @since 2.1.0
+         */
+        public int shard() {
+            return shard.index;
+        }
+    }
+
+    /**
+     * A snapshot of shard statistics.
+     *
+     * @param index the shard index
+     * @param trackerCount the number of trackers ticked by the shard
+     * @param frameCount the number of frames the shard has run
+     * @param lastTickNanos the time taken by the last frame in nanoseconds
+     * @param averageTickNanos the moving average of frame time in nanoseconds
+     * @param maxTickNanos the longest frame time in nanoseconds
+     * @param overrunCount the number of frames that took longer than the tick interval
+     * @since 2.1.0
+     */
+    public record ShardStatistics(
+        int index,
+        int trackerCount,
+        long frameCount,
+        long lastTickNanos,
+        long averageTickNanos,
+        long maxTickNanos,
+        long overrunCount
+    ) {
+    }
+
+    private static final class Shard {
+
+        private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(Tracker.TRACKER_TICK_INTERVAL);
+
+        private final int index;
+        private final Queue<Ticket> pending = new ConcurrentLinkedQueue<>();
+        private Ticket[] active = new Ticket[16];
+        private int activeSize;
+        private final AtomicInteger trackerCount = new AtomicInteger();
+        private final AtomicLong frameCount = new AtomicLong();
+        private final AtomicLong overrunCount = new AtomicLong();
+        private volatile long lastTickNanos, averageTickNanos, maxTickNanos;
+        private volatile ScheduledExecutorService executor;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        private void register(@NotNull Ticket ticket) {
+            pending.add(ticket);
+            trackerCount.incrementAndGet();
+            if (executor == null) start();
+        }
+
+        private synchronized void start() {
+            if (executor != null) return;
+            var service = Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setName("NaturalModels-Worker-" + index);
+                thread.setUncaughtExceptionHandler((t, e) -> LogUtil.handleException("Exception has occurred in " + t.getName(), e));
+                return thread;
+            });
+            service.scheduleAtFixedRate(this::tick, Tracker.TRACKER_TICK_INTERVAL, Tracker.TRACKER_TICK_INTERVAL, TimeUnit.MILLISECONDS);
+            executor = service;
+        }
+
+        private void tick() {
+            var start = System.nanoTime();
+            Ticket ticket;
+            while ((ticket = pending.poll()) != null) {
+                if (activeSize == active.length) active = Arrays.copyOf(active, activeSize << 1);
+                active[activeSize++] = ticket;
+            }
+            var kept = 0;
+            var taskStart = System.nanoTime();
+            for (int i = 0; i < activeSize; i++) {
+                var next = active[i];
+                if (next.cancelled) {
+                    trackerCount.decrementAndGet();
+                    continue;
+                }
+                active[kept++] = next;
+                try {
+                    next.task.run();
+                } catch (Throwable throwable) {
+                    LogUtil.handleException("Ticking shard " + index + " has been failed.", throwable);
+                }
+                var taskEnd = System.nanoTime();
+                var taskTime = taskEnd - taskStart;
+                if (taskTime > INTERVAL_NANOS) LogUtil.debug(DebugConfig.DebugOption.TRACKER,
+                    () -> next.name + " took " + TimeUnit.NANOSECONDS.toMillis(taskTime) + "ms in shard " + index + ".");
+                taskStart = taskEnd;
+            }
+            Arrays.fill(active, kept, activeSize, null);
+            activeSize = kept;
+            var time = System.nanoTime() - start;
+            lastTickNanos = time;
+            averageTickNanos = averageTickNanos == 0 ? time : (averageTickNanos * 15 + time) >> 4;
+            if (time > maxTickNanos) maxTickNanos = time;
+            if (time > INTERVAL_NANOS) overrunCount.incrementAndGet();
+            frameCount.incrementAndGet();
+        }
+
+        private @NotNull ShardStatistics statistics() {
+            return new ShardStatistics(
+                index,
+                trackerCount.get(),
+                frameCount.get(),
+                lastTickNanos,
+                averageTickNanos,
+                maxTickNanos,
+                overrunCount.get()
+            );
+        }
+    }
+}
@@ -82,7 +82,25 @@ public final class EntityUtil {
         var d = distance(player, target);
         if (d > manager.maxSight()) return false;
         else if (d <= manager.minSight()) return true;
+        return isInSight(player, target, d);
+    }
+
+    /**
+     * Checks if a target entity is out of a player's field of view, regardless of sight trace config.
+     *
+     * @param player the player's location
+     * @param target the target entity's location
+     * @return true if the target is behind the player, false otherwise
+     * @since 2.1.0
+     */
+    public static boolean isBehind(@NotNull PlatformLocation player, @NotNull PlatformLocation target) {
+        if (!player.world().equals(target.world())) return true;
+        var d = distance(player, target);
+        if (d <= NaturalModels.config().minSight()) return false;
+        return !isInSight(player, target, d);
+    }
 
+    private static boolean isInSight(@NotNull PlatformLocation player, @NotNull PlatformLocation target, double d) {
         var t = PI - abs(atan(d)) * 2;
         var ty = t + Y_RENDER_THRESHOLD;
         var tz = t + X_RENDER_THRESHOLD;
@@ -103,7 +121,15 @@ public final class EntityUtil {
         return isInPoint(player, target);
     }
 
-    private static double distance(@NotNull PlatformLocation a, @NotNull PlatformLocation b) {
+    /**
+     * Calculates the horizontal distance between two locations.
+     *
+     * @param a the first location
+     * @param b the second location
+     * @return the horizontal distance
+     * @since 2.1.0
+     */
+    public static double distance(@NotNull PlatformLocation a, @NotNull PlatformLocation b) {
         return sqrt(pow(a.x() - b.x(), 2) + pow(a.z() - b.z(), 2));
     }
 
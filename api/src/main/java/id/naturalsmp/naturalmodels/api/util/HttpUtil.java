@@ -23,6 +23,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -32,7 +34,9 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
 
@@ -50,6 +54,21 @@ public final class HttpUtil {
         .registerTypeAdapter(MinecraftVersion.class, (JsonDeserializer<MinecraftVersion>) (json, typeOfT, context) -> MinecraftVersion.parse(json.getAsString()))
         .registerTypeAdapter(Semver.class, (JsonDeserializer<Semver>) (json, typeOfT, context) -> new Semver(json.getAsString(), Semver.SemverType.LOOSE))
         .create();
+    private static final Transport DEFAULT_TRANSPORT = uri -> CLIENT.sendAsync(
+        HttpRequest.newBuilder()
+            .GET()
+            .uri(uri)
+            .build(),
+        HttpResponse.BodyHandlers.ofInputStream()
+    ).thenApply(response -> {
+        if (response.statusCode() / 100 == 2) return response.body();
+        try {
+            response.body().close();
+        } catch (IOException ignored) {
+        }
+        throw new HttpStatusException(uri, response.statusCode());
+    });
+    private static volatile Transport transport = DEFAULT_TRANSPORT;
 
     /**
      * No initializer
@@ -176,6 +195,76 @@ public final class HttpUtil {
         }
     }
 
+    /**
+     * Gets the transport used to download profiles and skins.
+     *
+     * @return transport
+     * @since 2.1.0
+     */
+    public static @NotNull Transport transport() {
+        return transport;
+    }
+
+    /**
+     * Replaces the transport used to download profiles and skins.
+     * <p>
+     * It allows these lookups to be served by a local stand-in instead of Mojang's servers.
+     * </p>
+     *
+     * @param newTransport transport, or null to restore the default one
+     * @since 2.1.0
+     */
+    public static void transport(@Nullable Transport newTransport) {
+        transport = Objects.requireNonNullElse(newTransport, DEFAULT_TRANSPORT);
+    }
+
+    /**
+     * Http transport
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    public interface Transport {
+        /**
+         * Sends a GET request.
+         * <p>
+         * The returned future fails with {@link HttpStatusException} if the response is not successful.
+         * </p>
+         *
+         * @param uri uri
+         * @return response body
+         */
+        @NotNull CompletableFuture<InputStream> get(@NotNull URI uri);
+    }
+
+    /**
+     * Thrown when a request is answered with a non-2xx status.
+     *
+     * @since 2.1.0
+     */
+    public static final class HttpStatusException extends RuntimeException {
+
+        private final int statusCode;
+
+        /**
+         * Creates an exception
+         * @param uri requested uri
+         * @param statusCode status code
+         */
+        public HttpStatusException(@NotNull URI uri, int statusCode) {
+            super("HTTP " + statusCode + ": " + uri);
+            this.statusCode = statusCode;
+        }
+
+        /**
+         * Gets the status code
+         * @return status code
+         */
+        public int statusCode() {
+            return statusCode;
+        }
+    }
+
     /**
      * http result
      * @param <T> type
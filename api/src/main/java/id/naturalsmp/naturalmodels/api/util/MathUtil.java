@@ -283,7 +283,31 @@ public final class MathUtil {
      * @return quaternion
      */
     public static @NotNull Quaternionf fromToRotation(@NotNull Vector3f from, @NotNull Vector3f to, @NotNull Quaternionf dest) {
-        var cache = new Vector3f();
+        return fromToRotation(from, to, new Vector3f(), dest);
+    }
+
+    /**
+     * Gets rotation from vectors without allocation
+     * @param to to
+     * @param cache vector cache
+     * @param dest destination quaternion
+     * @return quaternion
+     * @since 2.1.0
+     */
+    public static @NotNull Quaternionf fromToRotation(@NotNull Vector3f to, @NotNull Vector3f cache, @NotNull Quaternionf dest) {
+        return fromToRotation(FORWARD_AXIS, to, cache, dest);
+    }
+
+    /**
+     * Gets rotation from two vectors without allocation
+     * @param from from
+     * @param to to
+     * @param cache vector cache
+     * @param dest destination quaternion
+     * @return quaternion
+     * @since 2.1.0
+     */
+    public static @NotNull Quaternionf fromToRotation(@NotNull Vector3f from, @NotNull Vector3f to, @NotNull Vector3f cache, @NotNull Quaternionf dest) {
         var axis = from.cross(to, cache);
         var len = axis.length();
         var dot = from.dot(to);
@@ -0,0 +1,187 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.bone
+
+import id.naturalsmp.naturalmodels.api.util.InterpolationUtil
+import id.naturalsmp.naturalmodels.api.util.MathUtil
+import org.joml.Quaternionf
+import org.joml.Vector3f
+import java.util.*
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Compares the allocation-free FABRIK of [BoneIKSolver] with the loop it replaced.
+ */
+class BoneIKSolverTest {
+
+    private companion object {
+        /**
+         * Both loops stop once the last joint is within FRAME_EPSILON of the target,
+         * so a joint may end up to twice that away from the same joint of the other loop.
+         */
+        const val EPSILON = 2 * MathUtil.FRAME_EPSILON
+        const val CHAINS = 200
+        const val MAX_IK_ITERATION = 20
+        const val CONVERGED_ITERATION = 1000
+        const val DISTANCE_THRESHOLD_SQ = MathUtil.FRAME_EPSILON * MathUtil.FRAME_EPSILON
+    }
+
+    @Test
+    fun reachable() {
+        val random = Random(0)
+        repeat(CHAINS) {
+            val chain = random.chain()
+            val target = random.target(chain, 0.3F, 0.8F)
+            assertJoints(reference(chain, target), solve(chain, target))
+        }
+    }
+
+    @Test
+    fun unreachable() {
+        val random = Random(1)
+        repeat(CHAINS) {
+            val chain = random.chain()
+            val target = random.target(chain, 1.2F, 2.2F)
+            val solved = solve(chain, target)
+            assertJoints(reference(chain, target), solved)
+            for (i in 0..<chain.lastIndex) {
+                assertEquals(chain[i].distance(chain[i + 1]), solved[i].distance(solved[i + 1]), EPSILON, "Segment $i is stretched")
+            }
+        }
+    }
+
+    /**
+     * The old loop needs far more than 20 iterations to straighten a chain just out of reach,
+     * so the straight-line shortcut is compared with the line it converges to.
+     */
+    @Test
+    fun justOutOfReach() {
+        val random = Random(2)
+        repeat(CHAINS) {
+            val chain = random.chain()
+            val target = random.target(chain, 1.02F, 1.2F)
+            assertJoints(reference(chain, target, CONVERGED_ITERATION), solve(chain, target))
+        }
+    }
+
+    @Test
+    fun repeatedInput() {
+        val random = Random(3)
+        repeat(CHAINS) {
+            val chain = random.chain()
+            val target = random.target(chain, 0.3F, 0.8F)
+            val fabrik = BoneIKSolver.FabrikChain(chain.size)
+            val parentRotation = Quaternionf()
+
+            val movements = chain.movements()
+            fabrik.solve(movements, Vector3f(target), parentRotation)
+            val first = movements.copy()
+            assertJoints(reference(chain, target), first.map { it.position() })
+
+            // Bones evaluated again with the same input
+            val repeated = chain.movements()
+            fabrik.solve(repeated, Vector3f(target), parentRotation)
+            assertMovements(first, repeated)
+
+            // Bones not evaluated, so they still hold the last result
+            fabrik.solve(repeated, Vector3f(target), parentRotation)
+            assertMovements(first, repeated)
+
+            // A moved target must not reuse the last result
+            val moved = Vector3f(target).mul(0.9F)
+            val next = chain.movements()
+            fabrik.solve(next, Vector3f(moved), parentRotation)
+            assertJoints(reference(chain, moved), next.map { it.position() })
+        }
+    }
+
+    private fun solve(chain: List<Vector3f>, target: Vector3f): List<Vector3f> {
+        val movements = chain.movements()
+        BoneIKSolver.FabrikChain(chain.size).solve(movements, Vector3f(target), Quaternionf())
+        return movements.map { it.position() }
+    }
+
+    /**
+     * The FABRIK loop before the rewrite, without the straight-line shortcut or the early exit on stalled error.
+     */
+    private fun reference(chain: List<Vector3f>, target: Vector3f, iterations: Int = MAX_IK_ITERATION): List<Vector3f> {
+        val bones = chain.map { Vector3f(it) }
+        val first = bones.first()
+        val last = bones.last()
+        val rootPos = Vector3f(first)
+        val lengths = FloatArray(bones.size - 1) { bones[it].distance(bones[it + 1]) }
+        repeat(iterations) {
+            // Forward
+            last.set(target)
+            for (i in bones.size - 2 downTo 0) {
+                val current = bones[i]
+                val next = bones[i + 1]
+                val dist = current.distance(next)
+                if (dist < MathUtil.FLOAT_COMPARISON_EPSILON) continue
+                InterpolationUtil.lerp(next, current, lengths[i] / dist, current)
+            }
+            // Backward
+            first.set(rootPos)
+            for (i in 0..<bones.size - 1) {
+                val current = bones[i]
+                val next = bones[i + 1]
+                val dist = current.distance(next)
+                if (dist < MathUtil.FLOAT_COMPARISON_EPSILON) continue
+                InterpolationUtil.lerp(current, next, lengths[i] / dist, next)
+            }
+            // Check
+            if (last.distanceSquared(target) < DISTANCE_THRESHOLD_SQ) return bones
+        }
+        return bones
+    }
+
+    /**
+     * Creates a chain from the origin with 2 to 5 segments of 0.5 to 1.5 blocks.
+     */
+    private fun Random.chain(): List<Vector3f> {
+        val chain = mutableListOf(Vector3f())
+        repeat(2 + nextInt(4)) {
+            chain += direction().mul(0.5F + nextFloat()).add(chain.last())
+        }
+        return chain
+    }
+
+    /**
+     * Creates a target whose distance from the root is between the given ratios of the chain length.
+     */
+    private fun Random.target(chain: List<Vector3f>, min: Float, max: Float): Vector3f {
+        val total = (0..<chain.lastIndex).sumOf { chain[it].distance(chain[it + 1]).toDouble() }.toFloat()
+        return direction().mul(total * (min + (max - min) * nextFloat()))
+    }
+
+    private fun Random.direction() = Vector3f(nextFloat() * 2 - 1, nextFloat() * 2 - 1, nextFloat() * 2 - 1).let {
+        if (it.lengthSquared() < MathUtil.FLOAT_COMPARISON_EPSILON) Vector3f(0F, 1F, 0F) else it.normalize()
+    }
+
+    private fun List<Vector3f>.movements() = map {
+        BoneMovement(Vector3f(it), Vector3f(1F), Quaternionf(), Vector3f())
+    }.toTypedArray()
+
+    private fun Array<BoneMovement>.copy() = map { BoneMovement().set(it) }
+
+    private fun assertJoints(expected: List<Vector3f>, actual: List<Vector3f>) {
+        assertEquals(expected.size, actual.size)
+        expected.indices.forEach {
+            val distance = expected[it].distance(actual[it])
+            assertTrue(distance <= EPSILON, "Joint $it is $distance away from the reference: ${expected[it]} != ${actual[it]}")
+        }
+    }
+
+    private fun assertMovements(expected: List<BoneMovement>, actual: Array<BoneMovement>) {
+        expected.indices.forEach {
+            assertEquals(expected[it].position(), actual[it].position(), "Position of joint $it")
+            assertEquals(expected[it].rotation(), actual[it].rotation(), "Rotation of joint $it")
+        }
+    }
+}
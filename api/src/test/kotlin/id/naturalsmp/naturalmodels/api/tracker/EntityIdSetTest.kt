@@ -0,0 +1,56 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.tracker
+
+import java.util.*
+import kotlin.test.*
+
+class EntityIdSetTest {
+
+    private companion object {
+        const val OPERATIONS = 100_000
+        const val RANGE = 1 shl 16
+    }
+
+    @Test
+    fun matchesHashSet() {
+        val random = Random(0)
+        val set = EntityIdSet()
+        val reference = HashSet<Int>()
+        repeat(OPERATIONS) {
+            val id = random.nextInt(RANGE)
+            if (random.nextBoolean()) assertEquals(reference.add(id), set.add(id), "add $id")
+            else assertEquals(reference.remove(id), set.remove(id), "remove $id")
+            assertEquals(reference.size, set.size())
+        }
+        repeat(RANGE) {
+            assertEquals(it in reference, set.contains(it), "contains $it")
+        }
+    }
+
+    @Test
+    fun pageBoundaries() {
+        val set = EntityIdSet()
+        val ids = listOf(0, 63, 64, 4095, 4096, 8191, Int.MAX_VALUE)
+        ids.forEach { assertTrue(set.add(it), "add $it") }
+        ids.forEach {
+            assertTrue(set.contains(it), "contains $it")
+            assertFalse(set.contains(it + 1) && it + 1 !in ids, "contains ${it + 1}")
+        }
+        ids.forEach { assertTrue(set.remove(it), "remove $it") }
+        ids.forEach { assertFalse(set.contains(it), "contains $it after remove") }
+        assertEquals(0, set.size())
+    }
+
+    @Test
+    fun negativeIds() {
+        val set = EntityIdSet()
+        assertFalse(set.contains(-1))
+        assertFalse(set.remove(-1))
+        assertFailsWith<IllegalArgumentException> { set.add(-1) }
+    }
+}
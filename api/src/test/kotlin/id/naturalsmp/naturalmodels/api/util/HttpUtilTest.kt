@@ -0,0 +1,72 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.api.util
+
+import com.sun.net.httpserver.HttpServer
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.URI
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class HttpUtilTest {
+
+    private lateinit var server: HttpServer
+
+    @BeforeTest
+    fun setUp() {
+        server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0).apply {
+            createContext("/ok") { exchange ->
+                val body = "hello".toByteArray()
+                exchange.sendResponseHeaders(200, body.size.toLong())
+                exchange.responseBody.use { it.write(body) }
+            }
+            createContext("/missing") { exchange ->
+                exchange.sendResponseHeaders(404, -1)
+                exchange.close()
+            }
+            start()
+        }
+    }
+
+    @AfterTest
+    fun tearDown() {
+        server.stop(0)
+        HttpUtil.transport(null)
+    }
+
+    private fun uri(path: String) = URI.create("http://${server.address.hostString}:${server.address.port}$path")
+
+    @Test
+    fun defaultTransportReturnsBody() {
+        val body = HttpUtil.transport().get(uri("/ok")).get(5, TimeUnit.SECONDS)
+        assertEquals("hello", body.use { it.readAllBytes().decodeToString() })
+    }
+
+    @Test
+    fun defaultTransportRejectsErrorStatus() {
+        val failure = assertFailsWith<ExecutionException> {
+            HttpUtil.transport().get(uri("/missing")).get(5, TimeUnit.SECONDS)
+        }
+        val cause = assertIs<HttpUtil.HttpStatusException>(failure.cause)
+        assertEquals(404, cause.statusCode())
+    }
+
+    @Test
+    fun replacedTransport() {
+        val default = HttpUtil.transport()
+        val transport = HttpUtil.Transport { default.get(uri("/ok")) }
+        HttpUtil.transport(transport)
+        assertSame(transport, HttpUtil.transport())
+        assertEquals("hello", HttpUtil.transport().get(uri("/missing")).get(5, TimeUnit.SECONDS).use {
+            it.readAllBytes().decodeToString()
+        })
+        HttpUtil.transport(null)
+        assertSame(default, HttpUtil.transport())
+    }
+}
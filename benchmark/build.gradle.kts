@@ -0,0 +1,28 @@
+plugins {
+    alias(libs.plugins.convention.standard)
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core"))
+    jmh(libs.kotlin)
+
+    jmh(libs.bundles.minecraft)
+    jmh(libs.bundles.library)
+    jmh(libs.bundles.core)
+}
+
+tasks.compileJmhJava {
+    options.encoding = Charsets.UTF_8.name()
+}
+
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    providers.gradleProperty("jmh.includes").orNull?.let {
+        includes = listOf(it)
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.animation.AnimationEventHandler;
+import id.naturalsmp.naturalmodels.api.animation.AnimationProgress;
+import id.naturalsmp.naturalmodels.api.animation.AnimationStateHandler;
+import id.naturalsmp.naturalmodels.api.animation.VectorPoint;
+import id.naturalsmp.naturalmodels.api.bone.BoneName;
+import id.naturalsmp.naturalmodels.api.data.blueprint.AnimationGenerator;
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintAnimation;
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintAnimator;
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintElement;
+import id.naturalsmp.naturalmodels.api.util.function.FloatFunction;
+import id.naturalsmp.naturalmodels.api.util.interpolator.VectorInterpolator;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyframe iteration and keyframe generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationBenchmark {
+
+    private static final int KEYFRAMES = 8;
+
+    @Param({ "demon_knight", "steve" })
+    public String model;
+
+    private List<AnimationStateHandler<AnimationProgress>> handlers;
+    private List<BlueprintElement> elements;
+    private Map<BoneName, BlueprintAnimator.AnimatorData> points;
+    private float length;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        var blueprint = Headless.blueprint(model);
+        var animation = Headless.animation(blueprint);
+        handlers = handlers(animation);
+        elements = blueprint.elements();
+        length = animation.length();
+        points = new HashMap<>();
+        for (var element : elements) collect(element);
+    }
+
+    private static List<AnimationStateHandler<AnimationProgress>> handlers(BlueprintAnimation animation) {
+        var list = new ArrayList<AnimationStateHandler<AnimationProgress>>();
+        for (var animator : animation.animator().values()) {
+            var handler = new AnimationStateHandler<AnimationProgress>(AnimationProgress.EMPTY, (before, after) -> {});
+            handler.addAnimation(animation.name(), animator.iterator(Headless.LOOP.type(animation.loop())), Headless.LOOP, AnimationEventHandler.start());
+            list.add(handler);
+        }
+        return list;
+    }
+
+    private void collect(BlueprintElement element) {
+        if (!(element instanceof BlueprintElement.Group group)) return;
+        var position = new ArrayList<VectorPoint>();
+        var rotation = new ArrayList<VectorPoint>();
+        for (int i = 0; i <= KEYFRAMES; i++) {
+            var time = length * i / KEYFRAMES;
+            var angle = (float) Math.sin(i * Math.PI / 4) * 45F;
+            position.add(new VectorPoint(FloatFunction.of(new Vector3f(0, angle / 90F, 0)), time, VectorPoint.EMPTY.bezier(), VectorInterpolator.LINEAR));
+            rotation.add(new VectorPoint(FloatFunction.of(new Vector3f(angle, 0, angle / 2)), time, VectorPoint.EMPTY.bezier(), VectorInterpolator.CATMULLROM));
+        }
+        points.put(group.name(), new BlueprintAnimator.AnimatorData(group.name().rawName(), position, List.of(), rotation, false));
+        for (var child : group.children()) collect(child);
+    }
+
+    /**
+     * Advances one frame of every bone of the animation.
+     */
+    @Benchmark
+    public void stateHandlerTick(Blackhole blackhole) {
+        for (var handler : handlers) {
+            blackhole.consume(handler.tick());
+        }
+    }
+
+    /**
+     * Samples synthetic keyframes of every group into baked movements.
+     */
+    @Benchmark
+    public Map<BoneName, BlueprintAnimator> createMovements() {
+        return AnimationGenerator.createMovements(length, elements, points);
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.tracker.EntityIdSet;
+import id.naturalsmp.naturalmodels.api.util.lock.DuplexLock;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modelled entity ids of a player, read for every outgoing entity packet and changed when a model spawns or despawns.
+ * <p>
+ * Compares {@link EntityIdSet} with the {@link DuplexLock} guarded set it replaced first,
+ * and with the copy-on-write set it replaced next, whose writes copied the whole set.
+ * Ids are spread over a large range, like the server's entity counter after some uptime.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class EntityIdSetBenchmark {
+
+    private static final int RANGE = 1 << 20;
+
+    @Param({ "256", "4096" })
+    public int size;
+
+    private final DuplexLock lock = new DuplexLock();
+    private final IntOpenHashSet lockedSet = new IntOpenHashSet();
+    private final CopyOnWriteSet copyOnWriteSet = new CopyOnWriteSet();
+    private final EntityIdSet idSet = new EntityIdSet();
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        for (int i = 0; i < size; i++) {
+            var id = i * (RANGE / size);
+            lockedSet.add(id);
+            copyOnWriteSet.add(id);
+            idSet.add(id);
+        }
+    }
+
+    private static int nextId() {
+        return ThreadLocalRandom.current().nextInt(RANGE);
+    }
+
+    @Benchmark
+    public boolean lockedContains() {
+        var id = nextId();
+        return lock.accessToReadLock(() -> lockedSet.contains(id));
+    }
+
+    @Benchmark
+    public boolean copyOnWriteContains() {
+        return copyOnWriteSet.contains(nextId());
+    }
+
+    @Benchmark
+    public boolean idSetContains() {
+        return idSet.contains(nextId());
+    }
+
+    /**
+     * A model spawned and despawned for the player. Ids in the range are never modelled, so each pair changes the set.
+     */
+    @Benchmark
+    public boolean copyOnWriteChurn() {
+        var id = RANGE + nextId();
+        return copyOnWriteSet.add(id) & copyOnWriteSet.remove(id);
+    }
+
+    /**
+     * A model spawned and despawned for the player. Ids in the range are never modelled, so each pair changes the set.
+     */
+    @Benchmark
+    public boolean idSetChurn() {
+        var id = RANGE + nextId();
+        return idSet.add(id) & idSet.remove(id);
+    }
+
+    /**
+     * The previous copy-on-write implementation of {@link EntityIdSet}.
+     */
+    private static final class CopyOnWriteSet {
+        private volatile IntOpenHashSet snapshot = new IntOpenHashSet();
+
+        boolean contains(int id) {
+            return snapshot.contains(id);
+        }
+
+        synchronized boolean add(int id) {
+            var current = snapshot;
+            if (current.contains(id)) return false;
+            var copy = current.clone();
+            copy.add(id);
+            snapshot = copy;
+            return true;
+        }
+
+        synchronized boolean remove(int id) {
+            var current = snapshot;
+            if (!current.contains(id)) return false;
+            var copy = current.clone();
+            copy.remove(id);
+            snapshot = copy;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.NaturalModelsEventBusImpl;
+import id.naturalsmp.naturalmodels.api.NaturalModelsEventBus;
+import id.naturalsmp.naturalmodels.api.event.CancellableEvent;
+import id.naturalsmp.naturalmodels.api.event.ModelEventApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Events fired from many tracker threads at once, like show and hide tracker events.
+ * <p>
+ * Compares {@link NaturalModelsEventBusImpl} with the previous dispatch, which took one monitor per event class.
+ * {@link #unsubscribed()} measures an event class nobody listens to.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class EventBusBenchmark {
+
+    private static final ModelEventApplication APPLICATION = () -> true;
+
+    @Param({ "1", "8" })
+    public int listeners;
+
+    private NaturalModelsEventBus bus;
+    private final ConcurrentHashMap<ModelEventApplication, List<Consumer<ShowEvent>>> lockedMap = new ConcurrentHashMap<>();
+
+    /**
+     * A show tracker style event.
+     */
+    public static final class ShowEvent implements CancellableEvent {
+        private final int player;
+        private boolean cancelled;
+
+        private ShowEvent(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            cancelled = cancel;
+        }
+    }
+
+    /**
+     * An event class without listeners.
+     */
+    public static final class HideEvent implements CancellableEvent {
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+        }
+    }
+
+    @Setup
+    public void setup() {
+        bus = new NaturalModelsEventBusImpl();
+        Consumer<ShowEvent> consumer = event -> {
+            if (event.player < 0) event.setCancelled(true);
+        };
+        for (int i = 0; i < listeners; i++) {
+            bus.subscribe(APPLICATION, ShowEvent.class, consumer);
+        }
+        lockedMap.put(APPLICATION, Collections.nCopies(listeners, consumer));
+    }
+
+    @Benchmark
+    public NaturalModelsEventBus.Result subscribed() {
+        return bus.call(ShowEvent.class, () -> new ShowEvent(ThreadLocalRandom.current().nextInt(64)));
+    }
+
+    @Benchmark
+    public NaturalModelsEventBus.Result unsubscribed() {
+        return bus.call(HideEvent.class, HideEvent::new);
+    }
+
+    @Benchmark
+    public void locked(Blackhole blackhole) {
+        var event = new ShowEvent(ThreadLocalRandom.current().nextInt(64));
+        synchronized (lockedMap) {
+            lockedMap.entrySet().removeIf(entry -> {
+                if (!entry.getKey().isEnabled()) return true;
+                for (Consumer<ShowEvent> consumer : entry.getValue()) {
+                    consumer.accept(event);
+                }
+                return false;
+            });
+        }
+        blackhole.consume(event.isCancelled());
+    }
+}
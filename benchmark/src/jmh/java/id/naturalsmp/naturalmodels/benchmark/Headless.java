@@ -0,0 +1,196 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import com.vdurmont.semver4j.Semver;
+import id.naturalsmp.naturalmodels.NaturalModelsEvaluatorImpl;
+import id.naturalsmp.naturalmodels.api.NaturalModels;
+import id.naturalsmp.naturalmodels.api.NaturalModelsConfig;
+import id.naturalsmp.naturalmodels.api.NaturalModelsPlatform;
+import id.naturalsmp.naturalmodels.api.animation.AnimationEventHandler;
+import id.naturalsmp.naturalmodels.api.animation.AnimationIterator;
+import id.naturalsmp.naturalmodels.api.animation.AnimationModifier;
+import id.naturalsmp.naturalmodels.api.animation.AnimationPredicate;
+import id.naturalsmp.naturalmodels.api.bone.BoneName;
+import id.naturalsmp.naturalmodels.api.data.ModelAsset;
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintAnimation;
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintElement;
+import id.naturalsmp.naturalmodels.api.data.blueprint.ModelBlueprint;
+import id.naturalsmp.naturalmodels.api.data.renderer.ModelRenderer;
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderSource;
+import id.naturalsmp.naturalmodels.api.data.renderer.RendererGroup;
+import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack;
+import id.naturalsmp.naturalmodels.api.platform.PlatformLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A headless platform which lets the engine run without a server.
+ * <p>
+ * Packets are discarded by stubbed displays, so benchmarks only measure the engine's own work.
+ * </p>
+ */
+final class Headless {
+
+    /**
+     * Bundled models.
+     */
+    static final String[] MODELS = { "demon_knight", "steve" };
+
+    /**
+     * Looping modifier, so benchmarked animations never finish.
+     */
+    static final AnimationModifier LOOP = AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build();
+
+    private static volatile boolean installed;
+
+    private Headless() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Registers the headless platform once.
+     */
+    static synchronized void install() {
+        if (installed) return;
+        var config = Stubs.stub(NaturalModelsConfig.class, Map.of(
+            "namespace", "naturalmodels",
+            "itemNamespace", "nm_models",
+            "itemModel", "paper",
+            "minSight", 5D,
+            "lerpFrameTime", 3,
+            "packetBundlingSize", 16,
+            "item", (Supplier<PlatformItemStack>) () -> Stubs.stub(PlatformItemStack.class)
+        ));
+        File dataFolder;
+        try {
+            dataFolder = Files.createTempDirectory("naturalmodels-benchmark").toFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        NaturalModels.register(Stubs.stub(NaturalModelsPlatform.class, Map.of(
+            "config", config,
+            "semver", new Semver("0.0.0"),
+            "dataFolder", dataFolder,
+            "evaluator", new NaturalModelsEvaluatorImpl(),
+            "getResource", (Stubs.Answer) args -> Headless.class.getClassLoader().getResourceAsStream((String) args[0])
+        )));
+        installed = true;
+    }
+
+    /**
+     * Reads a bundled model.
+     *
+     * @param name model name
+     * @return model bytes
+     */
+    static byte[] read(@NotNull String name) {
+        try (var stream = Headless.class.getClassLoader().getResourceAsStream(name + ".bbmodel")) {
+            if (stream == null) throw new IllegalArgumentException("Unknown model: " + name);
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads a bundled model.
+     *
+     * @param name model name
+     * @return blueprint
+     */
+    static @NotNull ModelBlueprint blueprint(@NotNull String name) {
+        return ModelAsset.of(name, read(name)).toResult().blueprint();
+    }
+
+    /**
+     * Creates a renderer the same way the model manager does, without item models.
+     *
+     * @param blueprint blueprint
+     * @return renderer
+     */
+    static @NotNull ModelRenderer renderer(@NotNull ModelBlueprint blueprint) {
+        return new ModelRenderer(
+            blueprint.name(),
+            ModelRenderer.Type.GENERAL,
+            groups(blueprint.elements()),
+            blueprint.animations()
+        );
+    }
+
+    private static @NotNull Map<BoneName, RendererGroup> groups(@NotNull List<BlueprintElement> elements) {
+        return elements.stream()
+            .filter(BlueprintElement.Bone.class::isInstance)
+            .map(BlueprintElement.Bone.class::cast)
+            .collect(Collectors.toMap(BlueprintElement.Bone::name, Headless::group));
+    }
+
+    private static @NotNull RendererGroup group(@NotNull BlueprintElement.Bone bone) {
+        if (!(bone instanceof BlueprintElement.Group group)) return new RendererGroup(1F, null, bone, Map.of(), null);
+        return new RendererGroup(group.scale(), null, group, groups(group.children()), group.hitBox());
+    }
+
+    /**
+     * Creates a pipeline at a stubbed location.
+     *
+     * @param renderer renderer
+     * @return pipeline
+     */
+    static @NotNull RenderPipeline pipeline(@NotNull ModelRenderer renderer) {
+        var source = RenderSource.of(location());
+        return new RenderPipeline(
+            renderer,
+            source,
+            renderer.rendererGroups()
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().create(source)))
+        );
+    }
+
+    private static @NotNull PlatformLocation location() {
+        var holder = new PlatformLocation[1];
+        holder[0] = Stubs.stub(PlatformLocation.class, Map.of(
+            "add", (Stubs.Answer) args -> holder[0]
+        ));
+        return holder[0];
+    }
+
+    /**
+     * Gets the animation which animates the most bones.
+     *
+     * @param blueprint blueprint
+     * @return animation
+     */
+    static @NotNull BlueprintAnimation animation(@NotNull ModelBlueprint blueprint) {
+        return blueprint.animations()
+            .values()
+            .stream()
+            .max(Comparator.comparingInt((BlueprintAnimation a) -> a.animator().size()).thenComparing(BlueprintAnimation::length))
+            .orElseThrow(() -> new IllegalArgumentException("No animation: " + blueprint.name()));
+    }
+
+    /**
+     * Plays the given animation on every bone of a pipeline.
+     *
+     * @param pipeline pipeline
+     * @param animation animation
+     */
+    static void animate(@NotNull RenderPipeline pipeline, @NotNull BlueprintAnimation animation) {
+        pipeline.matchTree(AnimationPredicate.of(bone -> true), (bone, predicate) -> bone.addAnimation(predicate, animation, LOOP, AnimationEventHandler.start()));
+    }
+}
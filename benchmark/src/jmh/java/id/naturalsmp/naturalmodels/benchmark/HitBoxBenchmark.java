@@ -0,0 +1,100 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.bone.RenderedBone;
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
+import id.naturalsmp.naturalmodels.api.nms.PacketBundler;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick of 1k hitboxes in both hitbox modes, while their models play an animation.
+ * <p>
+ * A real hitbox moves to its bone in its own entity tick. Only that move is measured here, because block intersections,
+ * fluid pushing and vanilla tracking need a running server, so {@code real} is a lower bound of its tick.
+ * A virtual hitbox moves in the tracker tick and then checks every viewer for a spawn or a changed position,
+ * which is the whole of its server-side tick.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HitBoxBenchmark {
+
+    private static final int HITBOXES = 1000;
+
+    @Param({ "real", "virtual" })
+    public String mode;
+
+    @Param({ "1", "16" })
+    public int viewers;
+
+    private final List<RenderPipeline> pipelines = new ArrayList<>();
+    private final List<RenderedBone> bones = new ArrayList<>(HITBOXES);
+    private final List<Vector3f> positions = new ArrayList<>(HITBOXES);
+    private final List<Set<UUID>> viewed = new ArrayList<>(HITBOXES);
+    private UUID[] players;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        var blueprint = Headless.blueprint("demon_knight");
+        var renderer = Headless.renderer(blueprint);
+        var animation = Headless.animation(blueprint);
+        while (bones.size() < HITBOXES) {
+            var pipeline = Headless.pipeline(renderer);
+            Headless.animate(pipeline, animation);
+            pipelines.add(pipeline);
+            for (RenderedBone bone : pipeline.bones()) {
+                if (bones.size() == HITBOXES) break;
+                bones.add(bone);
+                positions.add(new Vector3f());
+                viewed.add(new HashSet<>());
+            }
+        }
+        players = new UUID[viewers];
+        for (int i = 0; i < viewers; i++) {
+            players[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public void tick(Blackhole blackhole) {
+        for (RenderPipeline pipeline : pipelines) {
+            blackhole.consume(pipeline.tick(PacketBundler.EMPTY));
+        }
+        if (mode.equals("virtual")) virtual(blackhole);
+        else real(blackhole);
+    }
+
+    private void real(Blackhole blackhole) {
+        for (RenderedBone bone : bones) {
+            blackhole.consume(bone.hitBoxPosition());
+            blackhole.consume(bone.hitBoxScale());
+        }
+    }
+
+    private void virtual(Blackhole blackhole) {
+        for (int i = 0; i < HITBOXES; i++) {
+            var bone = bones.get(i);
+            var position = bone.hitBoxPosition();
+            blackhole.consume(bone.hitBoxScale());
+            var last = positions.get(i);
+            var moved = !last.equals(position);
+            last.set(position);
+            var set = viewed.get(i);
+            for (UUID player : players) {
+                if (set.add(player) || moved) blackhole.consume(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.bone.BoneIKSolver;
+import id.naturalsmp.naturalmodels.api.bone.RenderedBone;
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
+import id.naturalsmp.naturalmodels.api.nms.PacketBundler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * FABRIK solving of the longest bone chain toward a bone of another branch.
+ * <p>
+ * The pipeline keeps animating so the target moves every frame.
+ * Compare with {@link RenderBenchmark} for the cost of solving alone.
+ * {@link #solveUnchanged()} measures a frame whose chain inputs did not move.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IKBenchmark {
+
+    @Param({ "demon_knight", "steve" })
+    public String model;
+
+    private RenderPipeline pipeline;
+    private BoneIKSolver solver;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        var blueprint = Headless.blueprint(model);
+        pipeline = Headless.pipeline(Headless.renderer(blueprint));
+        Headless.animate(pipeline, Headless.animation(blueprint));
+        var bones = pipeline.bones();
+        var target = bones.stream()
+            .max(Comparator.comparingLong(bone -> depth(pipeline, bone)))
+            .orElseThrow();
+        var locator = bones.stream()
+            .filter(bone -> !bone.flattenBones().contains(target) && !target.flattenBones().contains(bone))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No locator candidate: " + model));
+        solver = new BoneIKSolver(bones.stream().collect(Collectors.toMap(RenderedBone::uuid, Function.identity())));
+        solver.addLocator(null, target.uuid(), locator);
+        if (solver.isEmpty()) throw new IllegalStateException("No bone chain: " + model);
+        bones.forEach(RenderedBone::disableInstancing);
+    }
+
+    private static long depth(RenderPipeline pipeline, RenderedBone bone) {
+        return pipeline.bones().stream().filter(other -> other.flattenBones().contains(bone)).count();
+    }
+
+    /**
+     * Evaluates one frame, then solves the chain.
+     */
+    @Benchmark
+    public void tickAndSolve() {
+        pipeline.tick(PacketBundler.EMPTY);
+        solver.solve();
+    }
+
+    /**
+     * Solves the chain again without evaluating a new frame.
+     */
+    @Benchmark
+    public void solveUnchanged() {
+        solver.solve();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.config.TextureConfig;
+import id.naturalsmp.naturalmodels.api.data.ModelAsset;
+import id.naturalsmp.naturalmodels.api.data.blueprint.ModelBlueprint;
+import id.naturalsmp.naturalmodels.api.data.raw.ModelLoadResult;
+import id.naturalsmp.naturalmodels.api.pack.PackZipper;
+import id.naturalsmp.naturalmodels.manager.TextureOptimizer;
+import id.naturalsmp.naturalmodels.util.ImagesKt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model loading and pack building.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PackBenchmark {
+
+    @Param({ "demon_knight", "steve" })
+    public String model;
+
+    private byte[] bytes;
+    private List<ModelBlueprint> blueprints;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        bytes = Headless.read(model);
+        blueprints = Arrays.stream(Headless.MODELS).map(Headless::blueprint).toList();
+    }
+
+    /**
+     * Parses a model file and bakes its animations.
+     */
+    @Benchmark
+    public ModelLoadResult toResult() {
+        return ModelAsset.of(model, bytes).toResult();
+    }
+
+    /**
+     * Collects the textures of every bundled model and builds the pack resources.
+     */
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        var zipper = PackZipper.zipper();
+        var textures = zipper.assets().naturalModels().textures();
+        for (var blueprint : blueprints) {
+            blueprint.buildImage(textures.obfuscator()).forEach(image -> {
+                textures.add(image.pngName(), image.estimatedSize(), image::image);
+                var mcmeta = image.mcmeta();
+                if (mcmeta != null) textures.add(image.mcmetaName(), -1, () -> mcmeta.toString().getBytes(StandardCharsets.UTF_8));
+            });
+        }
+        for (var resource : zipper.build().resources()) {
+            blackhole.consume(resource.get());
+        }
+    }
+
+    /**
+     * Dedupes the textures of every bundled model and losslessly re-encodes their PNGs.
+     */
+    @Benchmark
+    public void optimize(Blackhole blackhole) {
+        var optimizer = new TextureOptimizer(TextureConfig.DEFAULT);
+        for (var blueprint : blueprints) {
+            for (var texture : optimizer.optimize(blueprint).textures()) {
+                blackhole.consume(ImagesKt.optimizePng(texture.image()));
+            }
+        }
+    }
+}
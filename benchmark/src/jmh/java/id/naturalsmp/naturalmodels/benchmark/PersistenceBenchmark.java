@@ -0,0 +1,101 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import com.google.gson.JsonArray;
+import id.naturalsmp.naturalmodels.api.tracker.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of the tracker data stored in each modelled entity.
+ * <p>
+ * Compares the binary {@link TrackerDataCodec} with the legacy JSON string.
+ * The size of both formats is reported by the {@link Size} counters.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceBenchmark {
+
+    @Param({ "1", "4" })
+    public int trackers;
+
+    private List<TrackerData> data;
+    private String json;
+    private String binary;
+
+    /**
+     * Stored size in bytes of one entity's data.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long jsonBytes;
+        public long binaryBytes;
+    }
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        data = new ArrayList<>(trackers);
+        for (int i = 0; i < trackers; i++) {
+            data.add(new TrackerData(
+                Headless.MODELS[i % Headless.MODELS.length],
+                ModelScaler.entity().multiply(1.5F),
+                ModelRotator.YAW,
+                TrackerModifier.builder().damageTint(false).build(),
+                null,
+                EntityHideOption.DEFAULT,
+                Set.of(UUID.randomUUID())
+            ));
+        }
+        json = legacyEncode();
+        binary = TrackerDataCodec.encode(data);
+    }
+
+    @Setup(Level.Iteration)
+    public void size(Size size) {
+        size.jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+        size.binaryBytes = binary.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String legacyEncode() {
+        var array = new JsonArray(data.size());
+        for (TrackerData trackerData : data) {
+            array.add(trackerData.serialize());
+        }
+        return array.toString();
+    }
+
+    @Benchmark
+    public String encodeJson(Size size) {
+        return legacyEncode();
+    }
+
+    @Benchmark
+    public String encodeBinary(Size size) {
+        return TrackerDataCodec.encode(data);
+    }
+
+    @Benchmark
+    public List<TrackerData> decodeJson(Size size) {
+        return TrackerDataCodec.decode(json);
+    }
+
+    @Benchmark
+    public List<TrackerData> decodeBinary(Size size) {
+        return TrackerDataCodec.decode(binary);
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry;
+import id.naturalsmp.naturalmodels.api.util.lock.DuplexLock;
+import it.unimi.dsi.fastutil.ints.Int2ReferenceOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity id lookups done by packet handlers for every outgoing entity packet.
+ * <p>
+ * Compares the copy-on-write snapshot read by {@link EntityTrackerRegistry#registry(int)}
+ * with the previous {@link DuplexLock} guarded map, under concurrent readers.
+ * Most looked up ids are not modelled, like in a real server.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RegistryBenchmark {
+
+    private static final int MODELLED = 256;
+    private static final int RANGE = 16384;
+
+    private final DuplexLock lock = new DuplexLock();
+    private final Int2ReferenceOpenHashMap<Object> lockedMap = new Int2ReferenceOpenHashMap<>();
+
+    private volatile Int2ReferenceOpenHashMap<Object> snapshot;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        var map = new Int2ReferenceOpenHashMap<>();
+        for (int i = 0; i < MODELLED; i++) {
+            var id = i * (RANGE / MODELLED);
+            var value = new Object();
+            lockedMap.put(id, value);
+            map.put(id, value);
+        }
+        snapshot = map;
+    }
+
+    private static int nextId() {
+        return ThreadLocalRandom.current().nextInt(RANGE);
+    }
+
+    @Benchmark
+    public Object lockedLookup() {
+        var id = nextId();
+        return lock.accessToReadLock(() -> lockedMap.get(id));
+    }
+
+    @Benchmark
+    public Object snapshotLookup() {
+        return snapshot.get(nextId());
+    }
+
+    @Benchmark
+    public Object registryLookup() {
+        return EntityTrackerRegistry.registry(nextId());
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.data.renderer.RenderPipeline;
+import id.naturalsmp.naturalmodels.api.nms.PacketBundler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bone state evaluation of a crowd of models playing the same animation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderBenchmark {
+
+    @Param({ "demon_knight", "steve" })
+    public String model;
+
+    @Param({ "1", "64" })
+    public int crowd;
+
+    private List<RenderPipeline> pipelines;
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        var blueprint = Headless.blueprint(model);
+        var renderer = Headless.renderer(blueprint);
+        var animation = Headless.animation(blueprint);
+        pipelines = new ArrayList<>(crowd);
+        for (int i = 0; i < crowd; i++) {
+            var pipeline = Headless.pipeline(renderer);
+            Headless.animate(pipeline, animation);
+            pipelines.add(pipeline);
+        }
+    }
+
+    /**
+     * Evaluates one frame of every bone and writes its transformation.
+     */
+    @Benchmark
+    public void tick(Blackhole blackhole) {
+        for (var pipeline : pipelines) {
+            blackhole.consume(pipeline.tick(PacketBundler.EMPTY));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Headless stubs of platform interfaces.
+ * <p>
+ * Every unmapped method returns a neutral value: zero, an empty string or collection,
+ * the {@code DEFAULT} constant of a config record, or another stub for interface types.
+ * </p>
+ */
+final class Stubs {
+
+    private Stubs() {
+        throw new RuntimeException();
+    }
+
+    /**
+     * Computes the result of a stubbed method.
+     */
+    @FunctionalInterface
+    interface Answer {
+        @Nullable Object answer(@Nullable Object[] args) throws Throwable;
+    }
+
+    static <T> @NotNull T stub(@NotNull Class<T> type) {
+        return stub(type, Map.of());
+    }
+
+    /**
+     * Creates a stub of the given interface.
+     *
+     * @param type interface type
+     * @param overrides return values by method name, or an {@link Answer} to compute them
+     * @return stub
+     */
+    static <T> @NotNull T stub(@NotNull Class<T> type, @NotNull Map<String, Object> overrides) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new Handler(type, overrides)));
+    }
+
+    private record Handler(@NotNull Class<?> type, @NotNull Map<String, Object> overrides, @NotNull Map<Method, Object> children) implements InvocationHandler {
+
+        private Handler(@NotNull Class<?> type, @NotNull Map<String, Object> overrides) {
+            this(type, overrides, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Stub[" + type.getSimpleName() + "]";
+            };
+            var override = overrides.get(method.getName());
+            if (override instanceof Answer answer) return answer.answer(args);
+            if (override != null) return override;
+            if (method.isDefault()) return InvocationHandler.invokeDefault(proxy, method, args);
+            var returnType = method.getReturnType();
+            if (returnType.isInterface() && !isContainer(returnType)) {
+                return children.computeIfAbsent(method, m -> stub(returnType));
+            }
+            return neutral(returnType);
+        }
+    }
+
+    private static boolean isContainer(@NotNull Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type == Stream.class;
+    }
+
+    private static @Nullable Object neutral(@NotNull Class<?> type) {
+        if (type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == String.class) return "";
+        if (type == Optional.class) return Optional.empty();
+        if (type == CompletableFuture.class) return CompletableFuture.completedFuture(null);
+        if (type == Stream.class) return Stream.empty();
+        if (type.isAssignableFrom(List.class)) return List.of();
+        if (type.isAssignableFrom(Set.class)) return Set.of();
+        if (type.isAssignableFrom(Map.class)) return Map.of();
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        try {
+            var field = type.getField("DEFAULT");
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == type) return field.get(null);
+        } catch (ReflectiveOperationException ignored) {
+        }
+        return null;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.benchmark;
+
+import id.naturalsmp.naturalmodels.api.bone.TintedItemCache;
+import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tinted item lookups done by every bone of a crowd flashing a damage tint.
+ * <p>
+ * Compares {@link TintedItemCache}, keyed by the identity of the base item, with the previous cache keyed by its value.
+ * A Bukkit item stack hashes and compares its whole component patch, which the value key models with a map of components.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class TintBenchmark {
+
+    private static final int ITEMS = 64;
+    private static final int COMPONENTS = 16;
+    private static final int[] TINTS = { 0xFFFFFF, 0xFF8080 };
+
+    private final PlatformItemStack[] items = new PlatformItemStack[ITEMS];
+    private final ValueItem[] valueItems = new ValueItem[ITEMS];
+    private final Map<ValueKey, Object> valueCache = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setup() {
+        Headless.install();
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = Stubs.stub(PlatformItemStack.class);
+            var components = new HashMap<String, Object>();
+            for (int c = 0; c < COMPONENTS; c++) {
+                components.put("minecraft:component_" + c, "model_" + i + "_" + c);
+            }
+            valueItems[i] = new ValueItem(Map.copyOf(components));
+        }
+    }
+
+    @Benchmark
+    public Object identityKey() {
+        var random = ThreadLocalRandom.current();
+        return TintedItemCache.tint(items[random.nextInt(ITEMS)], TINTS[random.nextInt(TINTS.length)]);
+    }
+
+    @Benchmark
+    public Object valueKey() {
+        var random = ThreadLocalRandom.current();
+        var key = new ValueKey(valueItems[random.nextInt(ITEMS)], TINTS[random.nextInt(TINTS.length)]);
+        return valueCache.computeIfAbsent(key, k -> new Object());
+    }
+
+    private record ValueItem(Map<String, Object> components) {
+    }
+
+    private record ValueKey(ValueItem itemStack, int tint) {
+    }
+}
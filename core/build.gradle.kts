@@ -10,5 +10,8 @@ dependencies {
 
     compileOnly(libs.bundles.core)
     compileOnly(libs.cloud.core)
+
+    testImplementation(libs.bundles.minecraft)
+    testImplementation("com.mojang:authlib:7.0.61")
 }
 
@@ -13,7 +13,8 @@ import id.naturalsmp.naturalmodels.api.bukkit.event.NaturalModelsBukkitEvent
 import id.naturalsmp.naturalmodels.api.event.CancellableEvent
 import org.bukkit.Bukkit
 
-class BukkitModelEventBusImpl : BukkitModelEventBus, NaturalModelsEventBus by NaturalModelsEventBusImpl({ eventClass, supplier ->
+class BukkitModelEventBusImpl : BukkitModelEventBus, NaturalModelsEventBus by NaturalModelsEventBusImpl(callback@ { eventClass, supplier ->
+    if (NaturalModelsBukkitEvent.getHandlerList().registeredListeners.isEmpty()) return@callback NaturalModelsEventBus.Result.NO_EVENT_HANDLER
     NaturalModelsBukkitEvent(eventClass, supplier).apply {
         Bukkit.getPluginManager().callEvent(this)
     }.source()?.let { event ->
@@ -10,9 +10,13 @@ import id.naturalsmp.naturalmodels.api.NaturalModelsConfig
 import id.naturalsmp.naturalmodels.api.bukkit.platform.BukkitAdapter
 import id.naturalsmp.naturalmodels.api.config.DamageIndicatorConfig
 import id.naturalsmp.naturalmodels.api.config.DebugConfig
+import id.naturalsmp.naturalmodels.api.config.DeltaSuppressionConfig
 import id.naturalsmp.naturalmodels.api.config.IndicatorConfig
+import id.naturalsmp.naturalmodels.api.config.LevelOfDetailConfig
 import id.naturalsmp.naturalmodels.api.config.ModuleConfig
+import id.naturalsmp.naturalmodels.api.config.NametagConfig
 import id.naturalsmp.naturalmodels.api.config.PackConfig
+import id.naturalsmp.naturalmodels.api.config.TextureConfig
 import id.naturalsmp.naturalmodels.api.mount.MountController
 import id.naturalsmp.naturalmodels.api.mount.MountControllers
 import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack
@@ -37,8 +41,20 @@ class NaturalModelsConfigImpl(yaml: ConfigurationSection) : NaturalModelsConfig
         ModuleConfig.from(it::getBoolean)
     } ?: ModuleConfig.DEFAULT
     private val pack = yaml.getConfigurationSection("pack")?.let {
-        PackConfig.from(it::getBoolean)
+        PackConfig.from(it::getBoolean).compression(
+            it.getInt("compression-level", 9),
+            PackConfig.CompressionStrategy.of(it.getString("compression-strategy"))
+        )
     } ?: PackConfig.DEFAULT
+    private val texture = yaml.getConfigurationSection("texture")?.let {
+        TextureConfig(
+            it.getBoolean("deduplicate", true),
+            it.getBoolean("optimize", true),
+            it.getBoolean("atlas", false),
+            it.getInt("atlas-texture-size", 32),
+            it.getInt("atlas-max-size", 512)
+        )
+    } ?: TextureConfig.DEFAULT
     private val damageIndicator = yaml.getConfigurationSection("damage-indicator")?.let {
         DamageIndicatorConfig(
             it.getBoolean("enabled", false),
@@ -47,6 +63,30 @@ class NaturalModelsConfigImpl(yaml: ConfigurationSection) : NaturalModelsConfig
             it.getDouble("offset-y", 1.5)
         )
     } ?: DamageIndicatorConfig.DEFAULT
+    private val levelOfDetail = yaml.getConfigurationSection("level-of-detail")?.let {
+        LevelOfDetailConfig(
+            it.getBoolean("enabled", true),
+            it.getDouble("near-distance", 0.25),
+            it.getDouble("far-distance", 0.6),
+            it.getInt("medium-interval", 2),
+            it.getInt("far-interval", 5),
+            it.getBoolean("freeze-behind", true)
+        )
+    } ?: LevelOfDetailConfig.DEFAULT
+    private val deltaSuppression = yaml.getConfigurationSection("delta-suppression")?.let {
+        DeltaSuppressionConfig(
+            it.getBoolean("enabled", true),
+            it.getDouble("position", 0.002).toFloat(),
+            it.getDouble("scale", 0.002).toFloat(),
+            it.getDouble("rotation", 0.25).toFloat()
+        )
+    } ?: DeltaSuppressionConfig.DEFAULT
+    private val nametag = yaml.getConfigurationSection("nametag")?.let {
+        NametagConfig(
+            it.getDouble("position-threshold", 0.01).toFloat(),
+            it.getInt("visibility-interval", 5).coerceAtLeast(1)
+        )
+    } ?: NametagConfig.DEFAULT
     private val metrics = yaml.getBoolean("metrics", true)
     private val sightTrace = yaml.getBoolean("sight-trace", true)
     private val mergeWithExternalResources = yaml.getBoolean("merge-with-external-resources", true)
@@ -81,13 +121,21 @@ class NaturalModelsConfigImpl(yaml: ConfigurationSection) : NaturalModelsConfig
     private val cancelPlayerModelInventory = yaml.getBoolean("cancel-player-model-inventory")
     private val playerHideDelay = yaml.getLong("player-hide-delay", 3L).coerceAtLeast(1L)
     private val packetBundlingSize = yaml.getInt("packet-bundling-size", 16)
+    private val packetBroadcast = yaml.getBoolean("packet-broadcast", false)
     private val enableStrictLoading = yaml.getBoolean("enable-strict-loading")
+    private val blueprintCache = yaml.getBoolean("blueprint-cache", true)
+    private val virtualHitBox = yaml.getBoolean("virtual-hitbox")
+    private val skinCache = yaml.getBoolean("skin-cache", true)
 
     override fun debug(): DebugConfig = debug
     override fun indicator(): IndicatorConfig = indicator
     override fun damageIndicator(): DamageIndicatorConfig = damageIndicator
+    override fun levelOfDetail(): LevelOfDetailConfig = levelOfDetail
+    override fun deltaSuppression(): DeltaSuppressionConfig = deltaSuppression
+    override fun nametag(): NametagConfig = nametag
     override fun module(): ModuleConfig = module
     override fun pack(): PackConfig = pack
+    override fun texture(): TextureConfig = texture
     override fun item(): Supplier<PlatformItemStack> = item
     override fun itemModel(): String = itemModel.name
     override fun itemNamespace(): String = itemNamespace
@@ -107,7 +155,11 @@ class NaturalModelsConfigImpl(yaml: ConfigurationSection) : NaturalModelsConfig
     override fun cancelPlayerModelInventory(): Boolean = cancelPlayerModelInventory
     override fun playerHideDelay(): Long = playerHideDelay
     override fun packetBundlingSize(): Int = packetBundlingSize
+    override fun packetBroadcast(): Boolean = packetBroadcast
     override fun enableStrictLoading(): Boolean = enableStrictLoading
+    override fun blueprintCache(): Boolean = blueprintCache
+    override fun virtualHitBox(): Boolean = virtualHitBox
+    override fun skinCache(): Boolean = skinCache
 }
 
 
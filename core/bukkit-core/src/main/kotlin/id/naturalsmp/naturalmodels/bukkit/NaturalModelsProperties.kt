@@ -86,6 +86,7 @@ internal class NaturalModelsProperties(
             ArmorManager,
             ProfileManagerImpl,
             SkinManagerImpl,
+            ProfilerManager,
             ModelManagerImpl,
             PlayerManagerImpl,
             EntityManager,
@@ -29,6 +29,7 @@ import id.naturalsmp.naturalmodels.command.limb
 import id.naturalsmp.naturalmodels.command.model
 import id.naturalsmp.naturalmodels.command.nullable
 import id.naturalsmp.naturalmodels.command.nullableString
+import id.naturalsmp.naturalmodels.command.profile
 import id.naturalsmp.naturalmodels.command.string
 import id.naturalsmp.naturalmodels.util.LATEST_VERSION
 import id.naturalsmp.naturalmodels.util.PLATFORM
@@ -201,6 +202,7 @@ fun startBukkitCommand() {
                 .senderType(AudiencePlayer::class.java)
                 .handler(::preview)
         }
+        profile()
     }
 }
 
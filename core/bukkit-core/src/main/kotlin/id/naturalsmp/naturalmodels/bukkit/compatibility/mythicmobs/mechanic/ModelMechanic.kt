@@ -26,6 +26,8 @@ class ModelMechanic(mlc: MythicLineConfig) : AbstractSkillMechanic(mlc), INoTarg
     private val st = mlc.toPlaceholderBoolean(arrayOf("sight-trace", "st"), true)
     private val da = mlc.toPlaceholderBoolean(arrayOf("damageanimation", "da", "animation"), false)
     private val dt = mlc.toPlaceholderBoolean(arrayOf("damagetint", "tint", "dt"), true)
+    private val lod = mlc.toPlaceholderBoolean(arrayOf("levelofdetail", "lod"), true)
+    private val ds = mlc.toPlaceholderBoolean(arrayOf("deltasuppression", "ds"), true)
     private val r = mlc.toPlaceholderBoolean(arrayOf("remove", "r"), false)
 
     override fun cast(p0: SkillMetadata): SkillResult {
@@ -40,7 +42,9 @@ class ModelMechanic(mlc: MythicLineConfig) : AbstractSkillMechanic(mlc), INoTarg
                 it.create(e.wrap(), TrackerModifier(
                     st(args),
                     da(args),
-                    dt(args)
+                    dt(args),
+                    lod(args),
+                    ds(args)
                 )) { t ->
                     t.scaler(ModelScaler.entity().multiply(s(args)))
                 }
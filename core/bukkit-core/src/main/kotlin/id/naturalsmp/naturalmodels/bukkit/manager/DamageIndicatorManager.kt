@@ -3,10 +3,15 @@ package id.naturalsmp.naturalmodels.bukkit.manager
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier
 import id.naturalsmp.naturalmodels.api.bukkit.platform.BukkitAdapter
 import id.naturalsmp.naturalmodels.api.bukkit.scheduler.BukkitModelScheduler
-import id.naturalsmp.naturalmodels.api.data.renderer.RendererGroup
+import id.naturalsmp.naturalmodels.api.data.renderer.ModelRenderer
+import id.naturalsmp.naturalmodels.api.nms.ModelNametag
 import id.naturalsmp.naturalmodels.api.pack.PackZipper
+import id.naturalsmp.naturalmodels.api.platform.PlatformLocation
+import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler
 import id.naturalsmp.naturalmodels.api.tracker.DummyTracker
 import id.naturalsmp.naturalmodels.api.tracker.TrackerModifier
+import id.naturalsmp.naturalmodels.api.tracker.TrackerUpdateAction
 import id.naturalsmp.naturalmodels.api.util.function.BonePredicate
 import id.naturalsmp.naturalmodels.bukkit.util.registerListener
 import id.naturalsmp.naturalmodels.manager.GlobalManager
@@ -15,36 +20,52 @@ import id.naturalsmp.naturalmodels.util.PLATFORM
 import net.kyori.adventure.text.Component
 import net.kyori.adventure.text.minimessage.MiniMessage
 import org.bukkit.entity.LivingEntity
+import org.bukkit.entity.Player
 import org.bukkit.event.EventHandler
 import org.bukkit.event.EventPriority
 import org.bukkit.event.Listener
 import org.bukkit.event.entity.EntityDamageEvent
-import java.util.*
-import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+import kotlin.streams.asSequence
 
 object DamageIndicatorManager : GlobalManager, Listener {
 
     private const val MODEL_NAME = "damage_indicator"
+    private const val MAX_POOL_SIZE = 64
+    private const val RISE_PER_TICK = 0.05
     private val miniMessage = MiniMessage.miniMessage()
-    private val activeIndicators = ConcurrentHashMap<UUID, IndicatorTask>()
+
+    private val pool = ConcurrentLinkedQueue<Indicator>()
+    private val pooled = AtomicInteger()
+    private val activeIndicators = ConcurrentLinkedQueue<Indicator>()
+    private val active = AtomicInteger()
+    private val created = LongAdder()
+    private val reused = LongAdder()
 
     override fun start() {
         registerListener(this)
-        PLATFORM.scheduler().asyncTaskTimer(0, 1) {
+        ModelProfiler.addStatistics("damage-indicator") { statistics() }
+        PLATFORM.scheduler().asyncTaskTimer(1, 1) {
             update()
         }
     }
 
     override fun reload(pipeline: ReloadPipeline, zipper: PackZipper) {
-        activeIndicators.values.forEach { it.tracker.close() }
-        activeIndicators.clear()
+        clear()
     }
 
     override fun end() {
-        activeIndicators.values.forEach { it.tracker.close() }
-        activeIndicators.clear()
+        clear()
     }
 
+    /**
+     * Gets the current pool statistics.
+     * @return statistics
+     */
+    fun statistics() = Statistics(pooled.get(), active.get(), created.sum(), reused.sum())
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     fun onEntityDamage(event: EntityDamageEvent) {
         val config = PLATFORM.config().damageIndicator()
@@ -56,49 +77,124 @@ object DamageIndicatorManager : GlobalManager, Listener {
         val damage = event.finalDamage
         if (damage <= 0) return
 
-        val location = entity.location.add(0.0, config.offsetY, 0.0)
+        val viewers = PLATFORM.nms().adapt(BukkitAdapter.adapt(entity)).trackedBy().asSequence().toMutableList()
+        if (entity is Player) viewers += BukkitAdapter.adapt(entity)
+        if (viewers.isEmpty()) return
+
+        val location = BukkitAdapter.adapt(entity.location.add(0.0, config.offsetY, 0.0))
         val text = config.format.replace("<damage>", String.format("%.1f", damage))
         val component = miniMessage.deserialize(text)
 
         // We need a model named "damage_indicator" or similar.
         // If not found, we fallback to a simple dummy if possible, or just skip.
-        val renderer = PLATFORM.modelManager().renderer(MODEL_NAME) 
+        val renderer = PLATFORM.modelManager().renderer(MODEL_NAME)
             ?: PLATFORM.modelManager().renderer("steve") // Fallback to steve if indicator model missing
             ?: return
 
         (PLATFORM.scheduler() as BukkitModelScheduler).task(entity.location) {
-            val tracker = renderer.create(BukkitAdapter.adapt(location), TrackerModifier.DEFAULT)
-            
+            val indicator = acquire(renderer, location, config.duration)
+            indicator.show(location, component, viewers)
+            activeIndicators += indicator
+            active.incrementAndGet()
+        }
+    }
+
+    private fun acquire(renderer: ModelRenderer, location: PlatformLocation, duration: Int): Indicator {
+        while (true) {
+            val indicator = pool.poll() ?: break
+            pooled.decrementAndGet()
+            if (indicator.renderer === renderer && indicator.duration == duration && !indicator.tracker.isClosed) {
+                reused.increment()
+                return indicator
+            }
+            indicator.tracker.close()
+        }
+        created.increment()
+        return Indicator(renderer, renderer.create(location, TrackerModifier.DEFAULT), duration)
+    }
+
+    private fun release(indicator: Indicator) {
+        indicator.hide()
+        if (pooled.incrementAndGet() <= MAX_POOL_SIZE) pool += indicator else {
+            pooled.decrementAndGet()
+            indicator.tracker.close()
+        }
+    }
+
+    private fun clear() {
+        generateSequence { activeIndicators.poll() }.forEach {
+            active.decrementAndGet()
+            it.tracker.close()
+        }
+        generateSequence { pool.poll() }.forEach {
+            pooled.decrementAndGet()
+            it.tracker.close()
+        }
+    }
+
+    private fun update() {
+        val iterator = activeIndicators.iterator()
+        while (iterator.hasNext()) {
+            val indicator = iterator.next()
+            if (indicator.tick()) continue
+            iterator.remove()
+            active.decrementAndGet()
+            release(indicator)
+        }
+    }
+
+    /**
+     * Damage indicator pool statistics.
+     * @param pooled the number of idle indicators ready to be reused
+     * @param active the number of indicators currently shown
+     * @param created the number of indicators created
+     * @param reused the number of indicators taken from the pool
+     */
+    data class Statistics(val pooled: Int, val active: Int, val created: Long, val reused: Long)
+
+    /**
+     * A pre-built indicator tracker.
+     * Its displays and nametag keep the interpolation duration of the whole rise,
+     * so it only has to be teleported once after it is shown.
+     */
+    private class Indicator(val renderer: ModelRenderer, val tracker: DummyTracker, val duration: Int) {
+        private var nametag: ModelNametag? = null
+        private var ticks = 0
+        private var destination: PlatformLocation? = null
+
+        init {
+            tracker.update(TrackerUpdateAction.moveDuration(duration))
             // Create nametag on the root bone (usually the first one or named "root")
             val rootBone = tracker.renderer().rendererGroups().values.firstOrNull()?.name()
             if (rootBone != null) {
-                tracker.createNametag(BonePredicate.name(rootBone.name).withoutChildren()) { _, nametag ->
-                    nametag.component(component)
-                    nametag.alwaysVisible(true)
+                tracker.createNametag(BonePredicate.name(rootBone.name).withoutChildren()) { _, tag ->
+                    tag.alwaysVisible(true)
+                    tag.moveDuration(duration)
+                    nametag = tag
                 }
             }
+        }
 
-            val uuid = UUID.randomUUID()
-            activeIndicators[uuid] = IndicatorTask(tracker, config.duration)
+        fun show(location: PlatformLocation, component: Component, viewers: List<PlatformPlayer>) {
+            ticks = duration
+            destination = location.add(0.0, RISE_PER_TICK * duration, 0.0)
+            tracker.location(location)
+            nametag?.component(component)
+            tracker.animate("spawn", AnimationModifier.DEFAULT_WITH_PLAY_ONCE)
+            viewers.forEach(tracker::spawn)
         }
-    }
 
-    private fun update() {
-        val iterator = activeIndicators.entries.iterator()
-        while (iterator.hasNext()) {
-            val (uuid, indicatorTask) = iterator.next()
-            if (indicatorTask.ticks <= 0) {
-                indicatorTask.tracker.close()
-                iterator.remove()
-                continue
+        fun tick(): Boolean {
+            if (ticks-- <= 0) return false
+            destination?.let {
+                destination = null
+                tracker.location(it)
             }
+            return true
+        }
 
-            // Upward movement
-            val loc = indicatorTask.tracker.location()
-            indicatorTask.tracker.location(loc.add(0.0, 0.05, 0.0))
-            indicatorTask.ticks--
+        fun hide() {
+            tracker.viewedPlayer().toList().forEach(tracker::remove)
         }
     }
-
-    private data class IndicatorTask(val tracker: DummyTracker, var ticks: Int)
 }
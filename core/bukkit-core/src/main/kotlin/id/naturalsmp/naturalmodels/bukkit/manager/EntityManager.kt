@@ -9,21 +9,29 @@ package id.naturalsmp.naturalmodels.bukkit.manager
 import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent
 import com.destroystokyo.paper.event.entity.EntityJumpEvent
 import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent
+import com.destroystokyo.paper.event.server.ServerTickEndEvent
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask
 import it.unimi.dsi.fastutil.objects.ReferenceSet
 import id.naturalsmp.naturalmodels.api.NaturalModels
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier
 import id.naturalsmp.naturalmodels.api.bukkit.NaturalModelsBukkit
+import id.naturalsmp.naturalmodels.api.bukkit.entity.BaseBukkitEntity
+import id.naturalsmp.naturalmodels.api.event.CreateEntityTrackerEvent
 import id.naturalsmp.naturalmodels.api.nms.HitBox
 import id.naturalsmp.naturalmodels.api.nms.ModelInteractionHand
 import id.naturalsmp.naturalmodels.api.pack.PackZipper
 import id.naturalsmp.naturalmodels.api.tracker.EntityTracker
 import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry
 import id.naturalsmp.naturalmodels.api.tracker.Tracker
+import id.naturalsmp.naturalmodels.bukkit.util.PLUGIN
 import id.naturalsmp.naturalmodels.bukkit.util.registerListener
 import id.naturalsmp.naturalmodels.manager.GlobalManager
 import id.naturalsmp.naturalmodels.manager.ReloadPipeline
 import id.naturalsmp.naturalmodels.bukkit.nms.v1_21_R4.wrap
 import id.naturalsmp.naturalmodels.util.PLATFORM
+import id.naturalsmp.naturalmodels.util.info
+import id.naturalsmp.naturalmodels.util.toComponent
+import id.naturalsmp.naturalmodels.util.withComma
 import org.bukkit.entity.Entity
 import org.bukkit.entity.Player
 import org.bukkit.event.EventHandler
@@ -45,6 +53,8 @@ import org.bukkit.event.world.EntitiesUnloadEvent
 import org.bukkit.inventory.EquipmentSlot
 import org.bukkit.potion.PotionEffectType
 import org.joml.Vector3f
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * This source file is part of NaturalModels.
@@ -74,6 +84,45 @@ object EntityManager : GlobalManager {
         }
     }
 
+    private class SnapshotListener : Listener { //Region threads own their entities on Folia, so it is Paper only
+        @EventHandler(priority = EventPriority.MONITOR)
+        fun ServerTickEndEvent.end() {
+            EntityTrackerRegistry.captureSnapshots()
+        }
+    }
+
+    private class FoliaSnapshotListener : Listener { //Each entity publishes its snapshot from its own region thread
+        private val tasks = ConcurrentHashMap<UUID, ScheduledTask>()
+
+        init {
+            NaturalModels.eventBus().subscribe(PLATFORM, CreateEntityTrackerEvent::class.java) { event ->
+                publish(event.tracker().registry())
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        fun EntityAddToWorldEvent.add() {
+            NaturalModels.registryOrNull(entity.uniqueId)?.let(::publish)
+        }
+
+        private fun publish(registry: EntityTrackerRegistry) {
+            val uuid = registry.uuid()
+            if (tasks.containsKey(uuid)) return
+            val entity = (registry.entity() as? BaseBukkitEntity)?.entity() ?: return
+            entity.scheduler.runAtFixedRate(PLUGIN, { task ->
+                val current = EntityTrackerRegistry.registry(uuid)
+                if (current != null) current.entity().captureSnapshot() else {
+                    task.cancel()
+                    tasks.remove(uuid, task)
+                }
+            }, {
+                tasks.remove(uuid)
+            }, 1, 1)?.let {
+                tasks[uuid] = it
+            }
+        }
+    }
+
     private class SpigotListener : Listener { //Portal event for Spigot
         @EventHandler(priority = EventPriority.MONITOR)
         fun EntityRemoveEvent.remove() {
@@ -192,10 +241,15 @@ object EntityManager : GlobalManager {
     override fun start() {
         registerListener(standardListener)
         registerListener(platformListener)
+        when {
+            NaturalModelsBukkit.IS_FOLIA -> registerListener(FoliaSnapshotListener())
+            NaturalModelsBukkit.IS_PAPER -> registerListener(SnapshotListener())
+        }
     }
 
     override fun reload(pipeline: ReloadPipeline, zipper: PackZipper) {
-        EntityTrackerRegistry.registries(EntityTrackerRegistry::reload)
+        val result = EntityTrackerRegistry.reloadAll()
+        if (result.total() > 0) info("Trackers are reloaded. (kept: ${result.kept.withComma()}, rebound: ${result.rebound.withComma()}, respawned: ${result.respawned.withComma()})".toComponent())
     }
 
     override fun end() {
@@ -1,10 +1,12 @@
 package id.naturalsmp.naturalmodels.bukkit.manager
 
+import com.github.benmanes.caffeine.cache.Caffeine
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier
 import id.naturalsmp.naturalmodels.api.bone.BoneName
 import id.naturalsmp.naturalmodels.api.bukkit.platform.BukkitAdapter
 import id.naturalsmp.naturalmodels.api.data.renderer.ModelRenderer
 import id.naturalsmp.naturalmodels.api.pack.PackZipper
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler
 import id.naturalsmp.naturalmodels.api.tracker.DummyTracker
 import id.naturalsmp.naturalmodels.api.tracker.TrackerModifier
 import id.naturalsmp.naturalmodels.bukkit.util.registerListener
@@ -20,55 +22,104 @@ import org.bukkit.event.EventHandler
 import org.bukkit.event.EventPriority
 import org.bukkit.event.Listener
 import org.bukkit.event.entity.EntityDamageByEntityEvent
+import org.bukkit.event.entity.EntityPickupItemEvent
 import org.bukkit.event.inventory.InventoryClickEvent
+import org.bukkit.event.inventory.InventoryDragEvent
 import org.bukkit.event.player.*
 import org.bukkit.inventory.EquipmentSlot
 import org.bukkit.inventory.ItemStack
 import org.bukkit.persistence.PersistentDataType
 import java.util.*
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
 
 object HeldItemDisplayManager : GlobalManager, Listener {
 
+    private const val RECONCILE_INTERVAL = 100
     private val MODEL_KEY = NamespacedKey("naturalmodels", "model")
     private val mainHandTrackers = ConcurrentHashMap<UUID, DummyTracker>()
     private val offHandTrackers = ConcurrentHashMap<UUID, DummyTracker>()
+    private val dirtyPlayers = ConcurrentHashMap.newKeySet<UUID>()
+    private val modelIdCache = Caffeine.newBuilder()
+        .maximumSize(1024)
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .build<ItemStack, Optional<String>>()
+    private val avoidedScans = LongAdder()
+    @Volatile
+    private var avoidedScansPerSecond = 0L
+    private var tick = 0
     
     private val RIGHT_HAND_BONE = BoneName.of("right_hand")
     private val LEFT_HAND_BONE = BoneName.of("left_hand")
 
     override fun start() {
         registerListener(this)
+        ModelProfiler.addStatistics("held-item-display") { statistics() }
         PLATFORM.scheduler().asyncTaskTimer(0, 1) {
-            syncAll()
+            update()
         }
     }
 
     override fun reload(pipeline: ReloadPipeline, zipper: PackZipper) {
-        mainHandTrackers.values.forEach { it.close() }
-        offHandTrackers.values.forEach { it.close() }
-        mainHandTrackers.clear()
-        offHandTrackers.clear()
+        closeAll()
+        modelIdCache.invalidateAll()
+        markAllDirty()
     }
 
     override fun end() {
+        closeAll()
+        modelIdCache.invalidateAll()
+    }
+
+    /**
+     * Gets the current held item display statistics.
+     * @return statistics
+     */
+    fun statistics() = Statistics(mainHandTrackers.size + offHandTrackers.size, dirtyPlayers.size, avoidedScansPerSecond)
+
+    private fun closeAll() {
         mainHandTrackers.values.forEach { it.close() }
         offHandTrackers.values.forEach { it.close() }
         mainHandTrackers.clear()
         offHandTrackers.clear()
     }
 
-    private fun syncAll() {
-        Bukkit.getOnlinePlayers().forEach { player ->
+    private fun markAllDirty() {
+        Bukkit.getOnlinePlayers().forEach { dirtyPlayers += it.uniqueId }
+    }
+
+    private fun markDirty(player: Player) {
+        dirtyPlayers += player.uniqueId
+    }
+
+    private fun update() {
+        // Safety net for inventory changes which don't fire any event (e.g. plugins editing inventories)
+        if (++tick % RECONCILE_INTERVAL == 0) markAllDirty()
+        var scanned = 0
+        val iterator = dirtyPlayers.iterator()
+        while (iterator.hasNext()) {
+            val uuid = iterator.next()
+            iterator.remove()
+            val player = Bukkit.getPlayer(uuid) ?: continue
             syncHand(player, EquipmentSlot.HAND, mainHandTrackers)
             syncHand(player, EquipmentSlot.OFF_HAND, offHandTrackers)
+            scanned++
+        }
+        mainHandTrackers.forEach { (uuid, tracker) ->
+            Bukkit.getPlayer(uuid)?.let { updateTrackerPosition(it, EquipmentSlot.HAND, tracker) }
         }
+        offHandTrackers.forEach { (uuid, tracker) ->
+            Bukkit.getPlayer(uuid)?.let { updateTrackerPosition(it, EquipmentSlot.OFF_HAND, tracker) }
+        }
+        avoidedScans.add((Bukkit.getOnlinePlayers().size - scanned).coerceAtLeast(0).toLong())
+        if (tick % 20 == 0) avoidedScansPerSecond = avoidedScans.sumThenReset()
     }
 
     private fun syncHand(player: Player, slot: EquipmentSlot, map: MutableMap<UUID, DummyTracker>) {
         val uuid = player.uniqueId
         val item = if (slot == EquipmentSlot.HAND) player.inventory.itemInMainHand else player.inventory.itemInOffHand
-        val modelId = getModelId(item)
+        val modelId = cachedModelId(item)
 
         val currentTracker = map[uuid]
 
@@ -79,10 +130,7 @@ object HeldItemDisplayManager : GlobalManager, Listener {
         }
 
         if (currentTracker != null) {
-            if (currentTracker.renderer().name() == modelId) {
-                // Update position
-                updateTrackerPosition(player, slot, currentTracker)
-            } else {
+            if (currentTracker.renderer().name() != modelId) {
                 // Model ID changed
                 currentTracker.close()
                 createNewTracker(player, slot, modelId, map)
@@ -142,6 +190,14 @@ object HeldItemDisplayManager : GlobalManager, Listener {
         tracker.location(BukkitAdapter.adapt(loc))
     }
 
+    private fun cachedModelId(item: ItemStack?): String? {
+        if (item == null || item.type == Material.AIR) return null
+        modelIdCache.getIfPresent(item)?.let { return it.orElse(null) }
+        return getModelId(item).apply {
+            modelIdCache.put(item.clone(), Optional.ofNullable(this))
+        }
+    }
+
     private fun getModelId(item: ItemStack?): String? {
         if (item == null || item.type == Material.AIR) return null
         val meta = item.itemMeta ?: return null
@@ -173,14 +229,62 @@ object HeldItemDisplayManager : GlobalManager, Listener {
         return null 
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerJoinEvent.join() {
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerQuitEvent.quit() {
+        val uuid = player.uniqueId
+        dirtyPlayers -= uuid
+        mainHandTrackers.remove(uuid)?.close()
+        offHandTrackers.remove(uuid)?.close()
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerChangedWorldEvent.changeWorld() {
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerRespawnEvent.respawn() {
+        markDirty(player)
+    }
+
     @EventHandler(priority = EventPriority.MONITOR)
     fun PlayerItemHeldEvent.held() {
-        // Handled by sync task, but can be used for immediate feedback
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerSwapHandItemsEvent.swap() {
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerDropItemEvent.drop() {
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun PlayerItemBreakEvent.breakItem() {
+        markDirty(player)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun EntityPickupItemEvent.pickup() {
+        (entity as? Player)?.let(::markDirty)
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     fun InventoryClickEvent.click() {
-        // Handled by sync task
+        (whoClicked as? Player)?.let(::markDirty)
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    fun InventoryDragEvent.drag() {
+        (whoClicked as? Player)?.let(::markDirty)
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -197,4 +301,12 @@ object HeldItemDisplayManager : GlobalManager, Listener {
             mainHandTrackers[damager.uniqueId]?.animate("attack", AnimationModifier.DEFAULT_WITH_PLAY_ONCE)
         }
     }
+
+    /**
+     * Held item display statistics.
+     * @param trackers the number of displayed held items
+     * @param dirty the number of players waiting for a held item check
+     * @param scansAvoidedPerSecond the number of player inventory scans skipped during the last second
+     */
+    data class Statistics(val trackers: Int, val dirty: Int, val scansAvoidedPerSecond: Long)
 }
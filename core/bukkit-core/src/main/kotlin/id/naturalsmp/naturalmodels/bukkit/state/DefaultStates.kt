@@ -3,7 +3,7 @@ package id.naturalsmp.naturalmodels.bukkit.state
 import id.naturalsmp.naturalmodels.api.animation.AnimationIterator
 import id.naturalsmp.naturalmodels.api.animation.AnimationModifier
 import id.naturalsmp.naturalmodels.api.animation.AnimationState
-import id.naturalsmp.naturalmodels.api.entity.BaseEntity
+import id.naturalsmp.naturalmodels.api.animation.EntityFlags
 
 object DefaultStates {
 
@@ -11,7 +11,6 @@ object DefaultStates {
         .name("idle")
         .animation("idle")
         .priority(0)
-        .predicate { true }
         .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
         .build()
 
@@ -19,7 +18,7 @@ object DefaultStates {
         .name("walk")
         .animation("walk")
         .priority(10)
-        .predicate { it.onWalk() }
+        .flags(EntityFlags.WALK)
         .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
         .build()
 
@@ -27,7 +26,7 @@ object DefaultStates {
         .name("swim")
         .animation("swim")
         .priority(20)
-        .predicate { it.swim() }
+        .flags(EntityFlags.SWIM)
         .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
         .build()
 
@@ -35,7 +34,7 @@ object DefaultStates {
         .name("fly")
         .animation("fly")
         .priority(30)
-        .predicate { it.fly() }
+        .flags(EntityFlags.FLY)
         .modifier(AnimationModifier.builder().type(AnimationIterator.Type.LOOP).build())
         .build()
 
@@ -43,7 +42,7 @@ object DefaultStates {
         .name("death")
         .animation("death")
         .priority(100)
-        .predicate { it.dead() }
+        .flags(EntityFlags.DEAD)
         .modifier(AnimationModifier.builder().type(AnimationIterator.Type.PLAY_ONCE).build())
         .build()
         
@@ -7,24 +7,36 @@
 package id.naturalsmp.naturalmodels
 
 import gg.moonflower.molangcompiler.api.MolangCompiler
+import gg.moonflower.molangcompiler.api.MolangExpression
 import gg.moonflower.molangcompiler.api.MolangRuntime
 import id.naturalsmp.naturalmodels.api.NaturalModelsEvaluator
 import id.naturalsmp.naturalmodels.api.util.function.Float2FloatFunction
+import java.util.concurrent.ConcurrentHashMap
 
 class NaturalModelsEvaluatorImpl : NaturalModelsEvaluator {
 
     private val molang = MolangCompiler.create(MolangCompiler.DEFAULT_FLAGS, javaClass.classLoader)
+    private val compiledMap = ConcurrentHashMap<String, MolangExpression>()
+    private val runtime = ThreadLocal.withInitial(::ReusableRuntime)
 
-    private fun Float.query() = MolangRuntime.runtime()
-        .setQuery("life_time", this)
-        .setQuery("anim_time", this)
-        .create()
+    private class ReusableRuntime {
+        private var time = 0F
+        private val timeQuery = MolangExpression.of { time }
+        private val environment = MolangRuntime.runtime()
+            .setQuery("life_time", timeQuery)
+            .setQuery("anim_time", timeQuery)
+            .create()
+
+        fun resolve(expression: MolangExpression, time: Float): Float {
+            this.time = time
+            return environment.safeResolve(expression)
+        }
+    }
 
     override fun compile(expression: String): Float2FloatFunction {
-        val compiled = molang.compile(expression)
+        val compiled = compiledMap.computeIfAbsent(expression, molang::compile)
         return Float2FloatFunction {
-            it.query().safeResolve(compiled)
+            runtime.get().resolve(compiled, it)
         }
     }
 }
-
@@ -11,14 +11,17 @@ import id.naturalsmp.naturalmodels.api.event.CancellableEvent
 import id.naturalsmp.naturalmodels.api.event.ModelEvent
 import id.naturalsmp.naturalmodels.api.event.ModelEventApplication
 import id.naturalsmp.naturalmodels.api.event.ModelEventListener
-import id.naturalsmp.naturalmodels.api.util.lock.DuplexLock
 import id.naturalsmp.naturalmodels.util.handleFailure
-import java.lang.ref.WeakReference
-import java.util.*
 import java.util.concurrent.ConcurrentHashMap
 import java.util.function.Consumer
 import java.util.function.Supplier
 
+/**
+ * Event bus whose listeners are kept in immutable snapshots per event class.
+ *
+ * Subscribing, unregistering and pruning disabled applications replace the snapshot under a lock,
+ * so dispatching never locks and only walks an array.
+ */
 class NaturalModelsEventBusImpl(
     private val externalCallback: (Class<out ModelEvent>, Supplier<out ModelEvent>) -> NaturalModelsEventBus.Result = { _, _ -> NaturalModelsEventBus.Result.NO_EVENT_HANDLER }
 ) : NaturalModelsEventBus {
@@ -30,80 +33,73 @@ class NaturalModelsEventBusImpl(
             .register(application, consumer)
     }
 
-    @Suppress("UNCHECKED_CAST")
     override fun <T : ModelEvent> call(eventClass: Class<out T>, eventSupplier: Supplier<T>): NaturalModelsEventBus.Result {
-        return subscribers[eventClass]?.let { manager ->
-            eventSupplier
-                .get()
-                .also(manager)
-                .also { externalCallback(eventClass) { it } }
-                .let { event ->
-                    if (event !is CancellableEvent || !event.isCancelled()) NaturalModelsEventBus.Result.SUCCESS else NaturalModelsEventBus.Result.FAIL
-                }
-        } ?: run {
-            externalCallback(eventClass) { eventSupplier.get() }
-        }
+        val manager = subscribers[eventClass]
+        val listeners = manager?.listeners
+        if (manager == null || listeners.isNullOrEmpty()) return externalCallback(eventClass) { eventSupplier.get() }
+        val event = eventSupplier.get()
+        manager.dispatch(listeners, event)
+        externalCallback(eventClass) { event }
+        return if (event !is CancellableEvent || !event.isCancelled()) NaturalModelsEventBus.Result.SUCCESS else NaturalModelsEventBus.Result.FAIL
     }
 
-    private inner class BusManager(
+    private class BusManager(
         private val clazz: Class<*>
-    ) : (ModelEvent) -> Unit {
-        private val map = ConcurrentHashMap<ModelEventApplication, ListenerRegistry>()
+    ) {
+        @Volatile
+        var listeners = emptyArray<ListenerImpl>()
+            private set
 
         fun <T : ModelEvent> register(application: ModelEventApplication, consumer: Consumer<T>): ModelEventListener {
             if (!application.isEnabled) return ModelEventListener.NONE
-            return map.compute(application) { k, v -> v?.takeIf { k.isEnabled } ?: ListenerRegistry() }?.add(consumer) ?: ModelEventListener.NONE
+            @Suppress("UNCHECKED_CAST")
+            return ListenerImpl(this, application, consumer as Consumer<ModelEvent>).also {
+                synchronized(this) {
+                    listeners += it
+                }
+            }
         }
 
-        override fun invoke(p1: ModelEvent) {
-            synchronized(this) {
-                map.entries.removeIf { (application, registry) ->
-                    !application.isEnabled || runCatching {
-                        registry(p1)
-                    }.handleFailure {
-                        "Unable to pass this event: ${clazz.simpleName}"
-                    }.isFailure
+        fun dispatch(snapshot: Array<ListenerImpl>, event: ModelEvent) {
+            var prune = false
+            for (listener in snapshot) {
+                if (listener.failed || !listener.application.isEnabled) {
+                    prune = true
+                    continue
+                }
+                if (runCatching {
+                    listener.consumer.accept(event)
+                }.handleFailure {
+                    "Unable to pass this event: ${clazz.simpleName}"
+                }.isFailure) {
+                    snapshot.forEach { if (it.application === listener.application) it.failed = true }
+                    prune = true
                 }
-                if (map.isEmpty()) subscribers.remove(clazz, this)
             }
+            if (prune) update { !it.failed && it.application.isEnabled }
         }
-    }
-
-    private class ListenerRegistry : (ModelEvent) -> Unit {
-        val map = IdentityHashMap<ModelEventListener, Consumer<*>>()
-        val lock = DuplexLock()
 
-        fun add(consumer: Consumer<*>): ModelEventListener = ListenerImpl(this, consumer)
+        fun remove(listener: ListenerImpl) = update { it !== listener }
 
-        @Suppress("UNCHECKED_CAST")
-        override fun invoke(p1: ModelEvent) {
-            lock.accessToReadLock {
-                map.values.forEach { consumer ->
-                    (consumer as Consumer<ModelEvent>).accept(p1)
-                }
+        private inline fun update(filter: (ListenerImpl) -> Boolean) {
+            synchronized(this) {
+                val old = listeners
+                val new = old.filter(filter)
+                if (new.size != old.size) listeners = new.toTypedArray()
             }
         }
     }
 
     private class ListenerImpl(
-        registry: ListenerRegistry,
-        consumer: Consumer<*>
+        private val manager: BusManager,
+        val application: ModelEventApplication,
+        val consumer: Consumer<ModelEvent>
     ) : ModelEventListener {
-
-        private val ref = WeakReference(registry)
-
-        init {
-            registry.lock.accessToWriteLock {
-                registry.map[this] = consumer
-            }
-        }
+        @Volatile
+        var failed = false
 
         override fun unregister() {
-            ref.get()?.let {
-                it.lock.accessToWriteLock { it.map.remove(this) }
-            }
+            manager.remove(this)
         }
     }
 }
-
-
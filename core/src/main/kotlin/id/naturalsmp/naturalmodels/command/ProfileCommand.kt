@@ -0,0 +1,52 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.command
+
+import id.naturalsmp.naturalmodels.api.profiler.ProfileReport
+import id.naturalsmp.naturalmodels.manager.ProfilerManager
+import id.naturalsmp.naturalmodels.util.*
+import net.kyori.adventure.audience.Audience
+import net.kyori.adventure.text.format.NamedTextColor.*
+import org.incendo.cloud.context.CommandContext
+import org.incendo.cloud.parser.standard.IntegerParser.integerParser
+
+fun CommandBuilder.profile() = create(
+    "profile",
+    "Profiles the most expensive models for a while.",
+    "pf"
+) {
+    optional("seconds", integerParser(1, 300))
+        .optional("top", integerParser(1, 50))
+        .handler(::runProfile)
+}
+
+private fun runProfile(context: CommandContext<Audience>) {
+    val audience = context.sender()
+    val seconds = context.nullable("seconds", 10)
+    val top = context.nullable("top", 10)
+    audience.info("Profiling for ${seconds}s, please wait...")
+    ProfilerManager.profile(seconds, top).whenComplete { report, throwable ->
+        if (throwable != null) {
+            audience.warn("Profiling failed.")
+            throwable.handleException("Profiling failed.")
+        } else audience.info(*report.toComponents().toTypedArray())
+    }
+}
+
+private fun ProfileReport.toComponents() = buildList {
+    add(emptyComponentOf())
+    add("Profile of ${durationMillis.withComma()}ms - ${trackers.withComma()} trackers in ${registries.withComma()} registries".toComponent(GREEN))
+    models.forEachIndexed { index, cost ->
+        add("${index + 1}. ${cost.model} x${cost.trackers}: ${cost.tickNanos.toMillis()}ms, avg ${(cost.averageTickNanos() / 1_000).withComma()}µs, ${cost.packets.withComma()} packets".toComponent(YELLOW))
+    }
+    add("Animation evaluations - ${animationEvaluations.withComma()}".toComponent(GRAY))
+    add("Channel handling - ${channelHandleNanos.toMillis()}ms for ${channelPackets.withComma()} packets".toComponent(GRAY))
+    add("Broadcast - ${broadcastBytes.toByteFormat()}".toComponent(GRAY))
+    add(emptyComponentOf())
+}
+
+private fun Long.toMillis(): String = COMMA_DECIMAL_FORMAT.format(this / 1_000_000.0)
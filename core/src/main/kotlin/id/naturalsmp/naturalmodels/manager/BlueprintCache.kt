@@ -0,0 +1,348 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.manager
+
+import com.google.gson.JsonParser
+import id.naturalsmp.naturalmodels.api.animation.AnimationIterator
+import id.naturalsmp.naturalmodels.api.animation.AnimationKeyframe
+import id.naturalsmp.naturalmodels.api.animation.AnimationProgress
+import id.naturalsmp.naturalmodels.api.animation.TimedStorage
+import id.naturalsmp.naturalmodels.api.bone.BoneName
+import id.naturalsmp.naturalmodels.api.data.Float3
+import id.naturalsmp.naturalmodels.api.data.Float4
+import id.naturalsmp.naturalmodels.api.data.ModelAsset
+import id.naturalsmp.naturalmodels.api.data.blueprint.*
+import id.naturalsmp.naturalmodels.api.data.raw.ModelFace
+import id.naturalsmp.naturalmodels.api.data.raw.ModelLoadResult
+import id.naturalsmp.naturalmodels.api.data.raw.ModelResolution
+import id.naturalsmp.naturalmodels.api.data.raw.ModelUV
+import id.naturalsmp.naturalmodels.api.script.BlueprintScript
+import id.naturalsmp.naturalmodels.util.*
+import java.io.*
+import java.security.MessageDigest
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * On-disk cache of compiled blueprints.
+ *
+ * Entries are keyed by the asset content, the namespace, the plugin version and the loading mode,
+ * so an unchanged model file is loaded without going through Gson and animation sampling again.
+ */
+object BlueprintCache {
+
+    private const val FORMAT_VERSION = 1
+    private const val MAGIC = 0x4E4D4243 // NMBC
+
+    private const val GROUP = 0
+    private const val LOCATOR = 1
+    private const val CAMERA = 2
+    private const val NULL_OBJECT = 3
+    private const val CUBE = 4
+
+    private val folder get() = File(DATA_FOLDER, ".cache/blueprints")
+    private val usedFiles = ConcurrentHashMap.newKeySet<String>()
+
+    /**
+     * Loads the asset from the cache or compiles and stores it.
+     */
+    fun load(asset: ModelAsset): ModelLoadResult {
+        if (!CONFIG.blueprintCache()) return asset.toResult()
+        val bytes = asset.supplier.get().use { it.readAllBytes() }
+        val key = digest(bytes)
+        val file = File(folder, "${hex(digest(asset.rawName.toByteArray()))}.bin")
+        usedFiles += file.name
+        if (file.isFile) runCatching {
+            file.read(key)
+        }.onFailure {
+            debugPack {
+                "Unable to read the cached blueprint of ${asset.name}: ${it.message}".toComponent()
+            }
+        }.getOrNull()?.let {
+            return it
+        }
+        return ModelAsset(asset.rawName, asset.name, bytes.size.toLong()) {
+            ByteArrayInputStream(bytes)
+        }.toResult().also { result ->
+            runCatching {
+                file.write(key, result)
+            }.onFailure {
+                file.delete()
+                debugPack {
+                    "Unable to write the cached blueprint of ${asset.name}: ${it.message}".toComponent()
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes every entry not loaded since the last call.
+     */
+    fun clean() {
+        if (CONFIG.blueprintCache()) folder.subFiles().forEach {
+            if (it.name !in usedFiles) it.delete()
+        }
+        usedFiles.clear()
+    }
+
+    private fun digest(bytes: ByteArray): ByteArray {
+        return MessageDigest.getInstance("SHA-256").run {
+            update(bytes)
+            update(CONFIG.namespace().toByteArray())
+            update(PLATFORM.semver().toString().toByteArray())
+            update((if (CONFIG.enableStrictLoading()) 1 else 0).toByte())
+            update(FORMAT_VERSION.toByte())
+            digest()
+        }
+    }
+
+    private fun hex(bytes: ByteArray) = HexFormat.of().formatHex(bytes, 0, 16)
+
+    private fun File.read(key: ByteArray): ModelLoadResult? = DataInputStream(inputStream().buffered()).use { input ->
+        if (input.readInt() != MAGIC) return null
+        val stored = ByteArray(input.readUnsignedByte())
+        input.readFully(stored)
+        if (!stored.contentEquals(key)) return null
+        ModelLoadResult(
+            input.readBlueprint(),
+            input.readList { readUTF() }
+        )
+    }
+
+    private fun File.write(key: ByteArray, result: ModelLoadResult) {
+        parentFile.mkdirs()
+        val temp = File(parentFile, "$name.tmp")
+        DataOutputStream(temp.outputStream().buffered()).use { output ->
+            output.writeInt(MAGIC)
+            output.writeByte(key.size)
+            output.write(key)
+            output.writeBlueprint(result.blueprint)
+            output.writeList(result.errors) { writeUTF(it) }
+        }
+        if (!temp.renameTo(this)) {
+            delete()
+            temp.renameTo(this)
+        }
+    }
+
+    private fun DataOutputStream.writeBlueprint(blueprint: ModelBlueprint) {
+        writeUTF(blueprint.name)
+        writeInt(blueprint.resolution.width)
+        writeInt(blueprint.resolution.height)
+        writeList(blueprint.textures) { writeTexture(it) }
+        writeList(blueprint.elements) { writeElement(it) }
+        writeList(blueprint.animations.values) { writeAnimation(it) }
+    }
+
+    private fun DataInputStream.readBlueprint(): ModelBlueprint {
+        val name = readUTF()
+        return ModelBlueprint(
+            name,
+            ModelResolution(readInt(), readInt()),
+            readList { readTexture() },
+            readList { readElement() },
+            readList { readAnimation() }.associateBy { it.name }
+        )
+    }
+
+    private fun DataOutputStream.writeTexture(texture: BlueprintTexture) {
+        writeUTF(texture.name)
+        writeInt(texture.image.size)
+        write(texture.image)
+        writeInt(texture.width)
+        writeInt(texture.height)
+        writeInt(texture.uvWidth)
+        writeInt(texture.uvHeight)
+        writeBoolean(texture.canBeRendered)
+        writeInt(texture.frameTime)
+        writeBoolean(texture.frameInterpolate)
+    }
+
+    private fun DataInputStream.readTexture() = BlueprintTexture(
+        readUTF(),
+        ByteArray(readInt()).also { readFully(it) },
+        readInt(),
+        readInt(),
+        readInt(),
+        readInt(),
+        readBoolean(),
+        readInt(),
+        readBoolean()
+    )
+
+    private fun DataOutputStream.writeElement(element: BlueprintElement) {
+        when (element) {
+            is BlueprintElement.Group -> {
+                writeByte(GROUP)
+                writeUUID(element.uuid)
+                writeUTF(element.name.rawName)
+                writeFloat3(element.origin.invertXZ())
+                writeFloat3(element.rotation)
+                writeList(element.children) { writeElement(it) }
+                writeBoolean(element.visibility)
+            }
+            is BlueprintElement.Locator -> {
+                writeByte(LOCATOR)
+                writeUUID(element.uuid)
+                writeUTF(element.name.rawName)
+                writeFloat3(element.origin.invertXZ())
+            }
+            is BlueprintElement.Camera -> {
+                writeByte(CAMERA)
+                writeUUID(element.uuid)
+            }
+            is BlueprintElement.NullObject -> {
+                writeByte(NULL_OBJECT)
+                writeUUID(element.uuid)
+                writeUTF(element.name.rawName)
+                writeNullable(element.ikTarget) { writeUUID(it) }
+                writeNullable(element.ikSource) { writeUUID(it) }
+                writeFloat3(element.origin.invertXZ())
+            }
+            is BlueprintElement.Cube -> {
+                writeByte(CUBE)
+                writeUTF(element.name)
+                writeFloat3(element.from)
+                writeFloat3(element.to)
+                writeFloat(element.inflate)
+                writeFloat3(element.rotation)
+                writeFloat3(element.origin)
+                writeNullable(element.faces) { faces ->
+                    listOf(faces.north, faces.east, faces.south, faces.west, faces.up, faces.down).forEach { writeUV(it) }
+                }
+                writeBoolean(element.visibility)
+            }
+        }
+    }
+
+    private fun DataInputStream.readElement(): BlueprintElement = when (val type = readUnsignedByte()) {
+        GROUP -> BlueprintElement.Group(
+            readUUID(),
+            BoneName.of(readUTF()),
+            readFloat3(),
+            readFloat3(),
+            readList { readElement() },
+            readBoolean()
+        )
+        LOCATOR -> BlueprintElement.Locator(
+            readUUID(),
+            BoneName.of(readUTF()),
+            readFloat3()
+        )
+        CAMERA -> BlueprintElement.Camera(readUUID())
+        NULL_OBJECT -> BlueprintElement.NullObject(
+            readUUID(),
+            BoneName.of(readUTF()),
+            readNullable { readUUID() },
+            readNullable { readUUID() },
+            readFloat3()
+        )
+        CUBE -> BlueprintElement.Cube(
+            readUTF(),
+            readFloat3(),
+            readFloat3(),
+            readFloat(),
+            readFloat3(),
+            readFloat3(),
+            readNullable { ModelFace(readUV(), readUV(), readUV(), readUV(), readUV(), readUV()) },
+            readBoolean()
+        )
+        else -> throw IOException("Unknown element type: $type")
+    }
+
+    private fun DataOutputStream.writeUV(uv: ModelUV) {
+        writeFloat(uv.uv.dx)
+        writeFloat(uv.uv.dz)
+        writeFloat(uv.uv.tx)
+        writeFloat(uv.uv.tz)
+        writeFloat(uv.rotation)
+        writeNullable(uv.texture) { writeUTF(it.toString()) }
+    }
+
+    private fun DataInputStream.readUV() = ModelUV(
+        Float4(readFloat(), readFloat(), readFloat(), readFloat()),
+        readFloat(),
+        readNullable { JsonParser.parseString(readUTF()) }
+    )
+
+    private fun DataOutputStream.writeAnimation(animation: BlueprintAnimation) {
+        writeUTF(animation.name)
+        writeUTF(animation.loop.name)
+        writeFloat(animation.length)
+        writeBoolean(animation.override)
+        writeList(animation.animator.entries) {
+            writeUTF(it.key.rawName)
+            writeUTF(it.value.name)
+            it.value.keyframe.write(this)
+        }
+        writeNullable(animation.script) { script ->
+            writeList(script.sources) {
+                writeFloat(it.time)
+                writeUTF(it.script)
+            }
+        }
+        writeInt(animation.emptyAnimator.size())
+        for (i in 0..<animation.emptyAnimator.size()) writeFloat(animation.emptyAnimator[i].time())
+    }
+
+    private fun DataInputStream.readAnimation(): BlueprintAnimation {
+        val name = readUTF()
+        val loop = AnimationIterator.Type.valueOf(readUTF())
+        val length = readFloat()
+        return BlueprintAnimation(
+            name,
+            loop,
+            length,
+            readBoolean(),
+            readList { BoneName.of(readUTF()) to BlueprintAnimator(readUTF(), AnimationKeyframe.read(this)) }.toMap(),
+            readNullable {
+                BlueprintScript.build(name, loop, length, readList { BlueprintScript.Source(readFloat(), readUTF()) })
+                    ?: BlueprintScript.fromEmpty(name, loop, length)
+            },
+            TimedStorage.listOf(readList {
+                val time = readFloat()
+                if (time <= 0) AnimationProgress.EMPTY else AnimationProgress.empty(time)
+            })
+        )
+    }
+
+    private fun DataOutputStream.writeUUID(uuid: UUID) {
+        writeLong(uuid.mostSignificantBits)
+        writeLong(uuid.leastSignificantBits)
+    }
+
+    private fun DataInputStream.readUUID() = UUID(readLong(), readLong())
+
+    private fun DataOutputStream.writeFloat3(float3: Float3) {
+        writeFloat(float3.x)
+        writeFloat(float3.y)
+        writeFloat(float3.z)
+    }
+
+    private fun DataInputStream.readFloat3() = Float3(readFloat(), readFloat(), readFloat())
+
+    private inline fun <T> DataOutputStream.writeList(list: Collection<T>, writer: DataOutputStream.(T) -> Unit) {
+        writeInt(list.size)
+        list.forEach { writer(it) }
+    }
+
+    private inline fun <T> DataInputStream.readList(reader: DataInputStream.() -> T): List<T> {
+        val size = readInt()
+        return ArrayList<T>(size).apply {
+            repeat(size) { add(reader()) }
+        }
+    }
+
+    private inline fun <T : Any> DataOutputStream.writeNullable(value: T?, writer: DataOutputStream.(T) -> Unit) {
+        writeBoolean(value != null)
+        if (value != null) writer(value)
+    }
+
+    private inline fun <T : Any> DataInputStream.readNullable(reader: DataInputStream.() -> T): T? {
+        return if (readBoolean()) reader() else null
+    }
+}
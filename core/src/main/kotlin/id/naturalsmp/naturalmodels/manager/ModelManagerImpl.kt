@@ -8,6 +8,7 @@ package id.naturalsmp.naturalmodels.manager
 
 import com.google.gson.JsonArray
 import id.naturalsmp.naturalmodels.api.bone.BoneItemMapper
+import id.naturalsmp.naturalmodels.api.bone.TintedItemCache
 import id.naturalsmp.naturalmodels.api.data.ModelAsset
 import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintElement
 import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintJson
@@ -108,6 +109,8 @@ object ModelManagerImpl : ModelManager, GlobalManager {
                 })
             )
         }
+        BlueprintCache.clean()
+        TintedItemCache.clear()
     }
 
     private data class ImportedModel(
@@ -127,6 +130,7 @@ object ModelManagerImpl : ModelManager, GlobalManager {
         private var indexer = 1
         private var estimatedSize = 0L
         private val textures = zipper.assets().naturalModels().textures()
+        private val textureOptimizer = TextureOptimizer(CONFIG.texture())
 
         private val legacyModel = ModelBuilder(
             models = zipper.legacy().naturalModels().models().resolve("item"),
@@ -199,8 +203,8 @@ object ModelManagerImpl : ModelManager, GlobalManager {
             importedModel: ImportedModel
         ) {
             val size = importedModel.jsonSize
-            val blueprint = importedModel.blueprint
-            val hasTexture = blueprint.hasTexture()
+            val hasTexture = importedModel.blueprint.hasTexture()
+            val blueprint = if (hasTexture) textureOptimizer.optimize(importedModel.blueprint) else importedModel.blueprint
 
             // Collect all modern JSONs for the entire blueprint to create a composite root model.
             // This is used for inventory icons and held items so they don't appear transparent.
@@ -262,7 +266,7 @@ object ModelManagerImpl : ModelManager, GlobalManager {
             }
             if (hasTexture) blueprint.buildImage(textures.obfuscator()).forEach { image ->
                 textures.add(image.pngName(), image.estimatedSize()) {
-                    image.toByteArray()
+                    if (CONFIG.texture().optimize) image.toByteArray().optimizePng() else image.toByteArray()
                 }
                 image.mcmeta()?.let { meta ->
                     textures.add(image.mcmetaName(), -1) {
@@ -0,0 +1,51 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.manager
+
+import id.naturalsmp.naturalmodels.api.pack.PackZipper
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler
+import id.naturalsmp.naturalmodels.api.profiler.ProfileReport
+import id.naturalsmp.naturalmodels.profiler.JsonProfileExporter
+import id.naturalsmp.naturalmodels.util.PLATFORM
+import java.util.concurrent.CompletableFuture
+
+object ProfilerManager : GlobalManager {
+
+    override fun start() {
+        ModelProfiler.addExporter(JsonProfileExporter)
+        ModelProfiler.addStatistics("skin-cache", SkinManagerImpl.skinCache::statistics)
+    }
+
+    override fun reload(pipeline: ReloadPipeline, zipper: PackZipper) {
+    }
+
+    override fun end() {
+        ModelProfiler.removeExporter(JsonProfileExporter)
+    }
+
+    /**
+     * Profiles the engine for a while, then exports the report.
+     * @param seconds profile length
+     * @param top the maximum number of models in the report
+     * @return report
+     */
+    fun profile(seconds: Int, top: Int): CompletableFuture<ProfileReport> {
+        val start = ModelProfiler.snapshot()
+        val future = CompletableFuture<ProfileReport>()
+        PLATFORM.scheduler().asyncTaskLater(seconds * 20L) {
+            runCatching {
+                ModelProfiler.snapshot().since(start, top)
+            }.onSuccess {
+                ModelProfiler.export(it)
+                future.complete(it)
+            }.onFailure {
+                future.completeExceptionally(it)
+            }
+        }
+        return future
+    }
+}
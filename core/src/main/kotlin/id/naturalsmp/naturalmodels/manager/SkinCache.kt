@@ -0,0 +1,163 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.manager
+
+import id.naturalsmp.naturalmodels.util.*
+import java.awt.image.BufferedImage
+import java.io.*
+import java.net.URI
+import java.security.MessageDigest
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
+import javax.imageio.ImageIO
+
+/**
+ * On-disk cache of downloaded skin and cape textures.
+ *
+ * Entries are keyed by texture hash and store the texture URL next to the PNG,
+ * so a texture is downloaded again only when the URL it was fetched from changes.
+ * Concurrent lookups of the same texture share one request.
+ * Only http(s) textures up to [MAX_TEXTURE_SIZE] bytes are downloaded.
+ *
+ * @param folder cache folder
+ * @param timeout download timeout in milliseconds
+ */
+class SkinCache(
+    private val folder: File,
+    private val timeout: Long = TimeUnit.SECONDS.toMillis(30)
+) {
+
+    companion object {
+        const val MAX_TEXTURE_SIZE = 1 shl 20
+
+        private const val FORMAT_VERSION = 1
+        private const val MAGIC = 0x4E4D5343 // NMSC
+        private val MAX_AGE = TimeUnit.DAYS.toMillis(30)
+        private val TEXTURE_HASH = Regex("[0-9a-fA-F]+")
+        private val SCHEMES = setOf("http", "https")
+    }
+
+    private val inFlight = ConcurrentHashMap<URI, CompletableFuture<BufferedImage>>()
+
+    private val diskHit = LongAdder()
+    private val download = LongAdder()
+    private val coalesced = LongAdder()
+
+    /**
+     * Gets the texture from the disk or downloads it.
+     * It fails if the URL is not http(s) or the texture is larger than [MAX_TEXTURE_SIZE].
+     */
+    fun image(uri: URI): CompletableFuture<BufferedImage> {
+        if (uri.scheme?.lowercase() !in SCHEMES || uri.host.isNullOrEmpty()) {
+            return CompletableFuture.failedFuture(IllegalArgumentException("Not a texture URL: $uri"))
+        }
+        val future = CompletableFuture<BufferedImage>()
+        inFlight.putIfAbsent(uri, future)?.let {
+            coalesced.increment()
+            return it
+        }
+        load(uri).whenComplete { image, throwable ->
+            inFlight.remove(uri, future)
+            if (throwable != null) future.completeExceptionally(throwable) else future.complete(image)
+        }
+        return future
+    }
+
+    /**
+     * Deletes every entry not used for a month.
+     */
+    fun clean() {
+        val expired = System.currentTimeMillis() - MAX_AGE
+        folder.subFiles().forEach {
+            if (!CONFIG.skinCache() || it.lastModified() < expired) it.delete()
+        }
+    }
+
+    /**
+     * Gets the current statistics.
+     * @return statistics
+     */
+    fun statistics() = Statistics(diskHit.sum(), download.sum(), coalesced.sum(), inFlight.size)
+
+    /**
+     * Skin cache statistics.
+     * @param diskHit the number of textures read from the disk
+     * @param download the number of textures downloaded
+     * @param coalesced the number of lookups which joined a request already in flight
+     * @param inFlight the number of requests in flight
+     */
+    data class Statistics(val diskHit: Long, val download: Long, val coalesced: Long, val inFlight: Int)
+
+    private fun load(uri: URI): CompletableFuture<BufferedImage> {
+        val file = File(folder, "${uri.textureHash()}.bin")
+        return CompletableFuture.supplyAsync {
+            if (CONFIG.skinCache() && file.isFile) runCatching {
+                file.read(uri)?.toImage()
+            }.onFailure {
+                file.delete()
+                debugPack {
+                    "Unable to read the cached skin $uri: ${it.message}".toComponent()
+                }
+            }.getOrNull()?.also {
+                diskHit.increment()
+                file.setLastModified(System.currentTimeMillis())
+            } else null
+        }.thenCompose { cached ->
+            cached?.let { CompletableFuture.completedFuture(it) } ?: httpGet(uri).orTimeout(timeout, TimeUnit.MILLISECONDS).thenApplyAsync { stream ->
+                download.increment()
+                val bytes = stream.use { it.readNBytes(MAX_TEXTURE_SIZE + 1) }
+                if (bytes.size > MAX_TEXTURE_SIZE) throw IOException("Texture is larger than $MAX_TEXTURE_SIZE bytes.")
+                bytes.toImage().also {
+                    if (CONFIG.skinCache()) runCatching {
+                        file.write(uri, bytes)
+                    }.onFailure {
+                        file.delete()
+                        debugPack {
+                            "Unable to write the cached skin $uri: ${it.message}".toComponent()
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private fun ByteArray.toImage(): BufferedImage = ImageIO.read(ByteArrayInputStream(this)) ?: throw IOException("Invalid image.")
+
+    private fun URI.textureHash(): String {
+        val last = path?.substringAfterLast('/')
+        return if (last != null && TEXTURE_HASH.matches(last)) last.lowercase() else HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(toString().toByteArray()),
+            0,
+            16
+        )
+    }
+
+    private fun File.read(uri: URI): ByteArray? = DataInputStream(inputStream().buffered()).use { input ->
+        if (input.readInt() != MAGIC || input.readUnsignedByte() != FORMAT_VERSION) return null
+        if (input.readUTF() != uri.toString()) return null
+        ByteArray(input.readInt()).also { input.readFully(it) }
+    }
+
+    private fun File.write(uri: URI, bytes: ByteArray) {
+        parentFile.mkdirs()
+        val temp = File(parentFile, "$name.${Thread.currentThread().threadId()}.tmp")
+        DataOutputStream(temp.outputStream().buffered()).use { output ->
+            output.writeInt(MAGIC)
+            output.writeByte(FORMAT_VERSION)
+            output.writeUTF(uri.toString())
+            output.writeInt(bytes.size)
+            output.write(bytes)
+        }
+        if (!temp.renameTo(this)) {
+            delete()
+            if (!temp.renameTo(this)) temp.delete()
+        }
+    }
+}
@@ -26,10 +26,10 @@ import id.naturalsmp.naturalmodels.api.version.MinecraftVersion
 import id.naturalsmp.naturalmodels.util.*
 import org.joml.Vector3f
 import java.awt.image.BufferedImage
-import java.net.URI
-import java.net.http.HttpResponse
+import java.io.File
 import java.util.*
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
 import javax.imageio.ImageIO
 
@@ -670,6 +670,10 @@ object SkinManagerImpl : SkinManager, GlobalManager {
         }
         .build<UUID, SkinDataImpl>()
 
+    private val completing = ConcurrentHashMap<UUID, CompletableFuture<SkinData>>()
+
+    val skinCache = SkinCache(File(DATA_FOLDER, ".cache/skins"))
+
     private val fallback by lazy {
         PLATFORM.getResource("fallback_skin.png")!!.use {
             SkinDataImpl(ModelProfile.UNKNOWN, ImageIO.read(it), null)
@@ -692,7 +696,11 @@ object SkinManagerImpl : SkinManager, GlobalManager {
 
     override fun complete(profile: ModelProfile.Uncompleted): CompletableFuture<out SkinData> {
         if (profile.info() == ModelProfileInfo.UNKNOWN) return CompletableFuture.completedFuture(fallback)
-        return profileCache.getIfPresent(profile.info().id)?.let { CompletableFuture.completedFuture(it) } ?: profile.complete().thenApply { provided ->
+        profileCache.getIfPresent(profile.info().id)?.let { return CompletableFuture.completedFuture(it) }
+        val id = profile.info().id
+        val future = CompletableFuture<SkinData>()
+        completing.putIfAbsent(id, future)?.let { return it }
+        profile.complete().thenApply { provided ->
             CreatePlayerSkinEvent(provided).run {
                 call()
                 modelProfile
@@ -700,34 +708,27 @@ object SkinManagerImpl : SkinManager, GlobalManager {
         }.thenComposeAsync compose@ { selected ->
             val skin = selected.skin().skin ?: return@compose CompletableFuture.completedFuture(fallback)
             val cape = selected.skin().cape
-            httpClient {
-                fun URI.toFuture() = sendAsync(
-                    buildHttpRequest {
-                        uri(this@toFuture)
-                        GET()
-                    },
-                    HttpResponse.BodyHandlers.ofInputStream()
-                ).thenComposeAsync { request ->
-                    CompletableFuture.supplyAsync { request.body().use { ImageIO.read(it) } }
-                }
-                skin.toFuture().thenCombine(cape?.toFuture() ?: CompletableFuture.completedFuture(null)) { skin, cape ->
-                    SkinDataImpl(
-                        selected,
-                        skin.convertLegacy(),
-                        cape
-                    ).apply {
-                        profileCache.put(profile.info().id, this)
-                    }
+            skinCache.image(skin).thenCombine(cape?.let(skinCache::image) ?: CompletableFuture.completedFuture(null)) { skin, cape ->
+                SkinDataImpl(
+                    selected,
+                    skin.convertLegacy(),
+                    cape
+                ).apply {
+                    profileCache.put(id, this)
                 }
-            }.orElse {
+            }.exceptionally {
                 it.handleException("Unable to read this skin: ${selected.info().name}")
-                CompletableFuture.completedFuture(fallback)
+                fallback
             }
         }.exceptionally {
             it.handleException("unable to read this skin: ${profile.info().name}")
-            profileCache.invalidate(profile.info().id)
+            profileCache.invalidate(id)
             null
+        }.whenComplete { skin, _ ->
+            completing.remove(id, future)
+            future.complete(skin)
         }
+        return future
     }
 
     override fun removeCache(profile: ModelProfile) = profileCache.invalidate(profile.info().id)
@@ -844,6 +845,7 @@ object SkinManagerImpl : SkinManager, GlobalManager {
         profileCache.asMap().entries.forEach {
             it.value.refresh()
         }
+        skinCache.clean()
     }
 }
 
@@ -0,0 +1,184 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.manager
+
+import id.naturalsmp.naturalmodels.api.config.TextureConfig
+import id.naturalsmp.naturalmodels.api.data.Float4
+import id.naturalsmp.naturalmodels.api.data.blueprint.BlueprintTexture
+import id.naturalsmp.naturalmodels.api.data.blueprint.ModelBlueprint
+import id.naturalsmp.naturalmodels.api.data.raw.ModelUV
+import id.naturalsmp.naturalmodels.api.util.PackUtil
+import id.naturalsmp.naturalmodels.util.*
+import net.kyori.adventure.text.format.NamedTextColor.*
+import kotlin.math.max
+import kotlin.math.sqrt
+
+/**
+ * Rewrites the textures of blueprints while the pack is built.
+ *
+ * Small textures of a model are packed into one atlas with remapped UVs, and textures with the same pixels
+ * are renamed to the first one, so the pack builder writes them once.
+ */
+class TextureOptimizer(
+    private val config: TextureConfig
+) {
+    private val names = hashMapOf<String, String>()
+
+    fun optimize(blueprint: ModelBlueprint): ModelBlueprint {
+        if (!config.deduplicate && !config.atlas) return blueprint
+        var result = blueprint
+        var images = blueprint.textures.map {
+            if (it.canBeRendered) it.image.toArgbImage() else null
+        }
+        if (config.atlas) blueprint.atlas(images)?.let {
+            result = it.first
+            images = it.second
+        }
+        return if (config.deduplicate) result.deduplicate(images) else result
+    }
+
+    private fun ModelBlueprint.atlas(images: List<ArgbImage?>): Pair<ModelBlueprint, List<ArgbImage?>>? {
+        val candidates = textures.indices.filter { index ->
+            val image = images[index] ?: return@filter false
+            !textures[index].isAnimatedTexture
+                && image.width <= config.atlasTextureSize
+                && image.height <= config.atlasTextureSize
+        }
+        val unique = candidates.distinctBy { images[it]!!.digest }
+        if (unique.size < 2) return null
+        val layout = layout(unique.map { images[it]!! }) ?: return null
+        val atlas = ArgbImage(layout.width, layout.height, IntArray(layout.width * layout.height))
+        unique.forEachIndexed { region, index ->
+            images[index]!!.copyTo(atlas, layout.x[region], layout.y[region])
+        }
+        val regions = candidates.associateWith { index ->
+            unique.indexOfFirst { images[it]!!.digest == images[index]!!.digest }
+        }
+        val texture = BlueprintTexture(
+            PackUtil.toPackName("${name}__atlas"),
+            atlas.toBufferedImage().toPngByteArray(),
+            atlas.width,
+            atlas.height,
+            atlas.width,
+            atlas.height,
+            true,
+            0,
+            false
+        )
+        fun ModelUV.remap(): ModelUV {
+            if (!hasTexture()) return this
+            val index = textureIndex()
+            val region = regions[index] ?: return this
+            val image = images[index]!!
+            val uvResolution = textures[index].resolution(resolution)
+            val scaleX = image.width.toFloat() / uvResolution.width()
+            val scaleY = image.height.toFloat() / uvResolution.height()
+            val x = layout.x[region].toFloat()
+            val y = layout.y[region].toFloat()
+            return ModelUV(
+                Float4(
+                    x + uv.dx * scaleX,
+                    y + uv.dz * scaleY,
+                    x + uv.tx * scaleX,
+                    y + uv.tz * scaleY
+                ),
+                rotation,
+                this.texture
+            )
+        }
+        debugPack {
+            componentOf(
+                "Texture atlas generated: ".toComponent(),
+                texture.name.toComponent(GREEN),
+                " (${unique.size} textures, ${atlas.width}x${atlas.height})".toComponent(DARK_GRAY)
+            )
+        }
+        return ModelBlueprint(
+            name,
+            resolution,
+            textures.mapIndexed { index, original -> if (index in regions) texture else original },
+            elements.map { element -> element.mapUV { it.remap() } },
+            animations
+        ) to images.mapIndexed { index, image -> if (index in regions) atlas else image }
+    }
+
+    private fun ModelBlueprint.deduplicate(images: List<ArgbImage?>): ModelBlueprint {
+        var changed = false
+        val mapped = textures.mapIndexed { index, texture ->
+            val image = images[index] ?: return@mapIndexed texture
+            val key = if (texture.isAnimatedTexture) "${image.digest}:${texture.toMcmeta()}" else image.digest
+            val canonical = names.getOrPut(key) { texture.name }
+            if (canonical == texture.name) return@mapIndexed texture
+            changed = true
+            debugPack {
+                componentOf(
+                    "Duplicated texture replaced: ".toComponent(),
+                    texture.name.toComponent(GREEN),
+                    " -> $canonical".toComponent(DARK_GRAY)
+                )
+            }
+            texture.withName(canonical)
+        }
+        return if (changed) ModelBlueprint(name, resolution, mapped, elements, animations) else this
+    }
+
+    private fun layout(images: List<ArgbImage>): AtlasLayout? {
+        val order = images.indices.sortedByDescending { images[it].height }
+        val area = images.sumOf { it.width * it.height }
+        var width = max(images.maxOf { it.width }, sqrt(area.toDouble()).toInt()).ceilPowerOfTwo()
+        while (width <= config.atlasMaxSize) {
+            val x = IntArray(images.size)
+            val y = IntArray(images.size)
+            var shelfX = 0
+            var shelfY = 0
+            var shelfHeight = 0
+            order.forEach { index ->
+                val image = images[index]
+                if (shelfX + image.width > width) {
+                    shelfY += shelfHeight
+                    shelfX = 0
+                    shelfHeight = 0
+                }
+                x[index] = shelfX
+                y[index] = shelfY
+                shelfX += image.width
+                shelfHeight = max(shelfHeight, image.height)
+            }
+            val height = (shelfY + shelfHeight).ceilPowerOfTwo()
+            if (height <= config.atlasMaxSize) return AtlasLayout(width, height, x, y)
+            width *= 2
+        }
+        return null
+    }
+
+    private class AtlasLayout(
+        val width: Int,
+        val height: Int,
+        val x: IntArray,
+        val y: IntArray
+    )
+
+    private fun Int.ceilPowerOfTwo() = if (this <= 1) 1 else Integer.highestOneBit(this - 1) shl 1
+
+    private fun ArgbImage.copyTo(target: ArgbImage, x: Int, y: Int) {
+        for (row in 0..<height) {
+            System.arraycopy(pixels, row * width, target.pixels, (y + row) * target.width + x, width)
+        }
+    }
+
+    private fun BlueprintTexture.withName(name: String) = BlueprintTexture(
+        name,
+        image,
+        width,
+        height,
+        uvWidth,
+        uvHeight,
+        canBeRendered,
+        frameTime,
+        frameInterpolate
+    )
+}
@@ -16,14 +16,17 @@ import id.naturalsmp.naturalmodels.api.profile.ModelProfileInfo
 import id.naturalsmp.naturalmodels.api.profile.ModelProfileSkin
 import id.naturalsmp.naturalmodels.api.profile.ModelProfileSupplier
 import id.naturalsmp.naturalmodels.manager.ProfileManagerImpl
-import id.naturalsmp.naturalmodels.util.buildHttpRequest
+import id.naturalsmp.naturalmodels.util.CONFIG
+import id.naturalsmp.naturalmodels.util.DATA_FOLDER
 import id.naturalsmp.naturalmodels.util.handleException
-import id.naturalsmp.naturalmodels.util.httpClient
+import id.naturalsmp.naturalmodels.util.handleFailure
+import id.naturalsmp.naturalmodels.util.httpGet
+import java.io.File
 import java.io.Reader
 import java.net.URI
-import java.net.http.HttpResponse
 import java.util.*
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
 
 /**
@@ -32,11 +35,19 @@ import java.util.concurrent.TimeUnit
  * Licensed under the MIT License.
  * See LICENSE.md file for full license text.
  */
-class HttpModelProfileSupplier : ModelProfileSupplier {
+class HttpModelProfileSupplier(
+    private val folder: File = File(DATA_FOLDER, ".cache/profiles"),
+    private val timeout: Long = TimeUnit.SECONDS.toMillis(30)
+) : ModelProfileSupplier {
+
+    private companion object {
+        val PROFILE_MAX_AGE = TimeUnit.HOURS.toMillis(1)
+    }
 
     private val profileCache = Caffeine.newBuilder()
         .expireAfterAccess(5, TimeUnit.MINUTES)
         .build<ModelProfileInfo, ModelProfile>()
+    private val inFlight = ConcurrentHashMap<ModelProfileInfo, CompletableFuture<ModelProfile>>()
 
     private val serializer = GsonBuilder()
         .registerTypeAdapter(UUID::class.java, UUIDTypeAdapter())
@@ -51,58 +62,88 @@ class HttpModelProfileSupplier : ModelProfileSupplier {
 
     private fun read(reader: Reader) = serializer.fromJson(reader, Profile::class.java)
 
+    private fun Profile.toModelProfile() = ModelProfile.of(
+        ModelProfileInfo(id, name),
+        properties["textures"].firstOrNull()?.let { property ->
+            ProfileManagerImpl.skin(property.value)
+        } ?: ModelProfileSkin.EMPTY
+    )
+
+    private fun ModelProfileInfo.cacheFile() = File(folder, "$id.json")
+
+    private fun ModelProfileInfo.readCache(maxAge: Long): ModelProfile? {
+        if (!CONFIG.skinCache()) return null
+        val file = cacheFile()
+        if (!file.isFile || System.currentTimeMillis() - file.lastModified() > maxAge) return null
+        return runCatching {
+            file.bufferedReader().use(::read).takeIf {
+                name == null || it.name.equals(name, ignoreCase = true)
+            }?.toModelProfile()
+        }.getOrNull()
+    }
+
+    private fun ModelProfileInfo.writeCache(bytes: ByteArray) {
+        if (!CONFIG.skinCache()) return
+        runCatching {
+            cacheFile().apply {
+                parentFile.mkdirs()
+                writeBytes(bytes)
+            }
+        }.handleFailure {
+            "Unable to write the cached profile of $name."
+        }
+    }
+
+    private fun lookup(info: ModelProfileInfo): CompletableFuture<ModelProfile> {
+        return (info.name?.let {
+            httpGet(URI.create("https://api.minecraftservices.com/minecraft/profile/lookup/name/${it}")).orTimeout(timeout, TimeUnit.MILLISECONDS).thenApply { body ->
+                body.use { body ->
+                    body.reader().use(JsonParser::parseReader)
+                }.asJsonObject
+                    .getAsJsonPrimitive("id")
+                    .asString
+            }
+        } ?: CompletableFuture.completedFuture(info.id.toString().replace("-", ""))).thenComposeAsync {
+            httpGet(URI.create("https://sessionserver.mojang.com/session/minecraft/profile/$it")).orTimeout(timeout, TimeUnit.MILLISECONDS)
+        }.thenApplyAsync {
+            val bytes = it.use { body -> body.readAllBytes() }
+            read(bytes.inputStream().reader()).toModelProfile().apply {
+                profileCache.put(info, this)
+                info.writeCache(bytes)
+            }
+        }.exceptionally {
+            info.readCache(Long.MAX_VALUE) ?: run {
+                it.handleException("Unable to get ${info.name}'s skin data.")
+                ModelProfile.of(info)
+            }
+        }
+    }
+
     override fun supply(info: ModelProfileInfo): ModelProfile.Uncompleted {
         return object : ModelProfile.Uncompleted {
             override fun info(): ModelProfileInfo = info
 
             override fun complete(): CompletableFuture<ModelProfile> {
-                return profileCache.getIfPresent(info)?.let { CompletableFuture.completedFuture(it) } ?: httpClient {
-                    (info.name?.let {
-                        sendAsync(
-                            buildHttpRequest {
-                                GET()
-                                uri(URI.create("https://api.minecraftservices.com/minecraft/profile/lookup/name/${it}"))
-                            },
-                            HttpResponse.BodyHandlers.ofInputStream()
-                        ).thenApply { body ->
-                            body.body().use { body ->
-                                body.reader().use(JsonParser::parseReader)
-                            }.asJsonObject
-                                .getAsJsonPrimitive("id")
-                                .asString
-                        }
-                    } ?: CompletableFuture.completedFuture(info.id.toString().replace("-", ""))).thenComposeAsync {
-                        sendAsync(
-                            buildHttpRequest {
-                                GET()
-                                uri(URI.create("https://sessionserver.mojang.com/session/minecraft/profile/$it"))
-                            },
-                            HttpResponse.BodyHandlers.ofInputStream()
-                        )
-                    }.thenApplyAsync {
-                        it.body().use { body ->
-                            body.reader().use(::read)
-                        }.let { profile ->
-                            ModelProfile.of(
-                                ModelProfileInfo(profile.id, profile.name),
-                                profile.properties["textures"].firstOrNull()?.let { property ->
-                                    ProfileManagerImpl.skin(property.value)
-                                } ?: ModelProfileSkin.EMPTY
-                            ).apply {
-                                profileCache.put(info, this)
-                            }
-                        }
-                    }.exceptionally {
-                        it.handleException("Unable to get ${info.name}'s skin data.")
+                profileCache.getIfPresent(info)?.let { return CompletableFuture.completedFuture(it) }
+                info.readCache(PROFILE_MAX_AGE)?.let {
+                    profileCache.put(info, it)
+                    return CompletableFuture.completedFuture(it)
+                }
+                val future = CompletableFuture<ModelProfile>()
+                inFlight.putIfAbsent(info, future)?.let { return it }
+                runCatching {
+                    lookup(info)
+                }.getOrElse {
+                    CompletableFuture.failedFuture(it)
+                }.whenComplete { profile, throwable ->
+                    inFlight.remove(info, future)
+                    future.complete(profile ?: run {
+                        throwable?.handleException("Unable to get ${info.name}'s user data.")
                         fallback()
-                    }
-                }.orElse {
-                    it.handleException("Unable to get ${info.name}'s user data.")
-                    CompletableFuture.completedFuture(fallback())
+                    })
                 }
+                return future
             }
         }
     }
 }
-
-
@@ -0,0 +1,39 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.profiler
+
+import com.google.gson.GsonBuilder
+import id.naturalsmp.naturalmodels.api.profiler.ProfileExporter
+import id.naturalsmp.naturalmodels.api.profiler.ProfileReport
+import id.naturalsmp.naturalmodels.util.DATA_FOLDER
+import java.io.File
+import java.text.SimpleDateFormat
+import java.util.*
+
+/**
+ * Writes each report to the profiles folder as a JSON file.
+ */
+object JsonProfileExporter : ProfileExporter {
+
+    private val gson = GsonBuilder()
+        .disableHtmlEscaping()
+        .setPrettyPrinting()
+        .create()
+
+    private val folder get() = File(DATA_FOLDER, "profiles")
+
+    override fun name(): String = "json"
+
+    override fun export(report: ProfileReport) {
+        val name = SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(Date(report.timestamp))
+        folder.apply {
+            mkdirs()
+        }.resolve("profile-$name.json").bufferedWriter().use {
+            gson.toJson(report, it)
+        }
+    }
+}
@@ -12,9 +12,10 @@ import com.google.gson.JsonObject
 import com.google.gson.JsonPrimitive
 import id.naturalsmp.naturalmodels.api.data.ModelAsset
 import id.naturalsmp.naturalmodels.api.data.blueprint.ModelBlueprint
+import id.naturalsmp.naturalmodels.manager.BlueprintCache
 
 fun ModelAsset.toTexturedModel(): ModelBlueprint? = runCatching {
-    toResult().let { result ->
+    BlueprintCache.load(this).let { result ->
         if (result.errors.isNotEmpty()) warn(
             *buildList {
                 add("Error has been occurred while parsing this model: ${result.blueprint.name}")
@@ -0,0 +1,129 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.util
+
+import java.awt.image.BufferedImage
+import java.awt.image.DataBuffer
+import java.awt.image.IndexColorModel
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.nio.ByteBuffer
+import java.security.MessageDigest
+import java.util.HexFormat
+import javax.imageio.IIOImage
+import javax.imageio.ImageIO
+import javax.imageio.ImageWriteParam
+import javax.imageio.stream.MemoryCacheImageOutputStream
+
+/**
+ * 8-bit sRGB pixels of an image.
+ */
+class ArgbImage(
+    val width: Int,
+    val height: Int,
+    val pixels: IntArray
+) {
+    /**
+     * SHA-256 of the size and the pixels.
+     */
+    val digest: String by lazy {
+        val buffer = ByteBuffer.allocate((pixels.size + 2) * Int.SIZE_BYTES)
+            .putInt(width)
+            .putInt(height)
+        buffer.asIntBuffer().put(pixels)
+        HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(buffer.array()))
+    }
+
+    fun toBufferedImage(): BufferedImage = BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB).apply {
+        setRGB(0, 0, width, height, pixels, 0, width)
+    }
+}
+
+/**
+ * Decodes an image whose pixels can be read as 8-bit sRGB without any loss.
+ *
+ * @return the pixels, or null if the image is invalid, wider than 8 bits or not in sRGB
+ */
+fun ByteArray.toArgbImage(): ArgbImage? {
+    val image = runCatching {
+        ImageIO.read(ByteArrayInputStream(this))
+    }.getOrNull() ?: return null
+    val model = image.colorModel
+    if (!model.colorSpace.isCS_sRGB || model.componentSize.any { it > 8 }) return null
+    return ArgbImage(image.width, image.height, image.getRGB(0, 0, image.width, image.height, null, 0, image.width))
+}
+
+/**
+ * Re-encodes a PNG without loss and keeps the smaller one.
+ *
+ * Images with 256 colors or fewer are written with a palette, others as RGB or RGBA.
+ * Rows are filtered by the JDK encoder, which picks a filter per row, and deflated at the best level.
+ *
+ * @return the optimized PNG, or this if it is not smaller
+ */
+fun ByteArray.optimizePng(): ByteArray {
+    val image = toArgbImage() ?: return this
+    val encoded = runCatching {
+        (image.toIndexedImage() ?: image.toDirectImage()).toPngByteArray()
+    }.getOrNull() ?: return this
+    return if (encoded.size < size) encoded else this
+}
+
+fun BufferedImage.toPngByteArray(): ByteArray {
+    val writer = ImageIO.getImageWritersByFormatName("png").next()
+    return try {
+        ByteArrayOutputStream().use { output ->
+            MemoryCacheImageOutputStream(output).use { stream ->
+                writer.output = stream
+                writer.write(null, IIOImage(this, null, null), writer.defaultWriteParam.apply {
+                    if (canWriteCompressed()) {
+                        compressionMode = ImageWriteParam.MODE_EXPLICIT
+                        compressionQuality = 0F
+                    }
+                })
+            }
+            output.toByteArray()
+        }
+    } finally {
+        writer.dispose()
+    }
+}
+
+private fun ArgbImage.toIndexedImage(): BufferedImage? {
+    val palette = LinkedHashMap<Int, Int>()
+    for (pixel in pixels) {
+        palette.getOrPut(pixel) { palette.size }
+        if (palette.size > 256) return null
+    }
+    val bits = when {
+        palette.size <= 2 -> 1
+        palette.size <= 4 -> 2
+        palette.size <= 16 -> 4
+        else -> 8
+    }
+    val model = IndexColorModel(bits, palette.size, palette.keys.toIntArray(), 0, true, -1, DataBuffer.TYPE_BYTE)
+    return BufferedImage(
+        width,
+        height,
+        if (bits == 8) BufferedImage.TYPE_BYTE_INDEXED else BufferedImage.TYPE_BYTE_BINARY,
+        model
+    ).apply {
+        val target = raster
+        for (y in 0..<height) {
+            for (x in 0..<width) {
+                target.setSample(x, y, 0, palette.getValue(pixels[y * width + x]))
+            }
+        }
+    }
+}
+
+private fun ArgbImage.toDirectImage(): BufferedImage {
+    val opaque = pixels.all { it ushr 24 == 0xFF }
+    return BufferedImage(width, height, if (opaque) BufferedImage.TYPE_INT_RGB else BufferedImage.TYPE_INT_ARGB).apply {
+        setRGB(0, 0, width, height, pixels, 0, width)
+    }
+}
@@ -17,7 +17,6 @@ import java.io.File
 import java.nio.file.Files
 import java.nio.file.Path
 import java.util.concurrent.atomic.AtomicBoolean
-import java.util.zip.Deflater
 import java.util.zip.ZipEntry
 import java.util.zip.ZipOutputStream
 import kotlin.io.path.pathString
@@ -36,6 +35,7 @@ class ItemsAdderGenerator : PackGenerator {
     override fun create(zipper: PackZipper, pipeline: ReloadPipeline): PackResult {
         val build = zipper.build()
         val pack = PackResult(build.meta(), iaContents)
+        val manifest = ManifestFile("itemsadder")
         val changed = AtomicBoolean()
 
         pipeline.forEachParallel(build.resources(), PackResource::estimatedSize) {
@@ -59,7 +59,7 @@ class ItemsAdderGenerator : PackGenerator {
             pack[it.overlay()] = PackByte(it.path(), bytes)
             val targetFile = File(iaContents, targetPath)
             
-            if (!targetFile.exists() || targetFile.length() != bytes.size.toLong()) {
+            if (!targetFile.exists() || targetFile.length() != bytes.size.toLong() || manifest.changed(pack, it.path())) {
                 targetFile.parentFile.mkdirs()
                 targetFile.writeBytes(bytes)
                 changed.set(true)
@@ -74,6 +74,7 @@ class ItemsAdderGenerator : PackGenerator {
         
         return pack.apply {
             freeze(changed.get())
+            manifest.save(this)
         }.also {
             generateModelsYml()
         }
@@ -116,13 +117,23 @@ class ItemsAdderGenerator : PackGenerator {
 interface PackGenerator {
     val exists: Boolean
     fun create(zipper: PackZipper, pipeline: ReloadPipeline): PackResult
-    fun hashEquals(result: PackResult): Boolean {
-        val hash = result.hash().toString()
-        return File(DATA_FOLDER.getOrCreateDirectory(".cache"), "zip-hash.txt").run {
-            if (!exists || !exists() || readText() != hash) {
-                writeText(hash)
-                true
-            } else false
+}
+
+private class ManifestFile(name: String) {
+    private val file = File(DATA_FOLDER.getOrCreateDirectory(".cache"), "$name-manifest.txt")
+    val previous by lazy {
+        PackManifest.read(file)
+    }
+
+    fun changed(result: PackResult, path: PackPath) = result.hash(path)?.let {
+        previous.changed(path, it)
+    } ?: true
+
+    fun save(result: PackResult) {
+        runCatching {
+            result.manifest().write(file)
+        }.handleFailure {
+            "Unable to save the pack manifest: ${file.path}"
         }
     }
 }
@@ -155,13 +166,14 @@ class FolderGenerator : PackGenerator {
     override fun create(zipper: PackZipper, pipeline: ReloadPipeline): PackResult {
         val build = zipper.build()
         val pack = PackResult(build.meta(), file)
+        val manifest = ManifestFile("folder")
         val changed = AtomicBoolean()
         pipeline.forEachParallel(build.resources(), PackResource::estimatedSize) {
             val bytes = it.get()
             pack[it.overlay()] = PackByte(it.path(), bytes)
             val file = it.path().toFile()
             val index = pipeline.progress()
-            if (file.length() != bytes.size.toLong()) {
+            if (!file.exists() || file.length() != bytes.size.toLong() || manifest.changed(pack, it.path())) {
                 file.writeBytes(bytes)
                 changed.set(true)
                 debugPack {
@@ -178,6 +190,7 @@ class FolderGenerator : PackGenerator {
         }
         return pack.apply {
             freeze(changed.get())
+            manifest.save(this)
         }
     }
 }
@@ -187,24 +200,33 @@ class ZipGenerator : PackGenerator {
     override val exists: Boolean = file.exists()
 
     override fun create(zipper: PackZipper, pipeline: ReloadPipeline): PackResult {
+        val manifest = ManifestFile("zip")
         return zipper.writeToResult(pipeline, file).apply {
-            freeze(hashEquals(this))
+            freeze(!exists || manifest.previous.hash() != hash())
         }.apply {
             if (!changed()) return this
+            val comment = "NaturalModels's generated resource pack."
             fun zip(zip: ZipOutputStream) {
-                zip.setLevel(Deflater.BEST_COMPRESSION)
-                zip.setComment("NaturalModels's generated resource pack.")
+                zip.setLevel(CONFIG.pack().compressionLevel)
+                zip.setComment(comment)
                 stream().forEach {
                     zip.putNextEntry(ZipEntry(it.path().path()))
                     zip.write(it.bytes())
                     zip.closeEntry()
                 }
             }
-            file.outputStream().use {
+            val entries = stream().toList()
+            val written = file.outputStream().use {
+                it.buffered().use { buffered ->
+                    entries.writeZip(pipeline, CONFIG.pack(), comment, buffered)
+                }
+            }
+            if (!written) file.outputStream().use {
                 it.buffered().use { buffered ->
                     ZipOutputStream(buffered).use(::zip)
                 }
             }
+            manifest.save(this)
         }
     }
 }
@@ -18,10 +18,12 @@ import net.kyori.adventure.text.Component
 import net.kyori.adventure.text.format.NamedTextColor
 import java.io.InputStream
 import java.io.InputStreamReader
+import java.net.URI
 import java.net.http.HttpClient
 import java.net.http.HttpRequest
 import java.net.http.HttpResponse
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
 
 val PLATFORM
@@ -62,6 +64,8 @@ fun <T : Any> httpClient(block: HttpClient.() -> T): HttpUtil.Result<T> = HttpUt
 
 fun buildHttpRequest(builder: HttpRequest.Builder.() -> Unit): HttpRequest = HttpRequest.newBuilder().apply(builder).build()
 
+fun httpGet(uri: URI): CompletableFuture<InputStream> = HttpUtil.transport().get(uri)
+
 
 fun <T> HttpResponse<InputStream>.toJson(clazz: Class<T>): T = body().use {
     InputStreamReader(it, StandardCharsets.UTF_8).use { reader -> GSON.fromJson(reader, clazz) }
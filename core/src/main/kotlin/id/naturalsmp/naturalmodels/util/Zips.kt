@@ -0,0 +1,149 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.util
+
+import id.naturalsmp.naturalmodels.api.config.PackConfig
+import id.naturalsmp.naturalmodels.api.pack.PackByte
+import id.naturalsmp.naturalmodels.manager.ReloadPipeline
+import java.io.ByteArrayOutputStream
+import java.io.OutputStream
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.charset.StandardCharsets
+import java.util.zip.CRC32
+import java.util.zip.Deflater
+
+private const val LOCAL_HEADER = 0x04034B50
+private const val CENTRAL_HEADER = 0x02014B50
+private const val END_HEADER = 0x06054B50
+private const val VERSION = 20
+private const val UTF8_FLAG = 1 shl 11
+private const val STORED = 0
+private const val DEFLATED = 8
+private const val DOS_DATE = (1 shl 5) or 1 // 1980-01-01 00:00:00
+private const val MAX_ENTRIES = 0xFFFF
+private const val MAX_OFFSET = 0xFFFFFFFFL
+
+private val STORED_EXTENSIONS = setOf("png", "ogg")
+
+private class ZipEntryData(
+    val name: ByteArray,
+    val method: Int,
+    val crc: Int,
+    val size: Int,
+    val data: ByteArray
+)
+
+/**
+ * Writes the given entries as a zip file.
+ *
+ * Entries are compressed in parallel on the reload pool and written in the given order
+ * with fixed timestamps, so identical inputs always produce identical bytes.
+ * Already compressed formats are stored as is.
+ *
+ * @return false if the entries do not fit in a zip file without zip64 extensions
+ */
+fun List<PackByte>.writeZip(
+    pipeline: ReloadPipeline,
+    config: PackConfig,
+    comment: String,
+    output: OutputStream
+): Boolean {
+    if (size >= MAX_ENTRIES) return false
+    val entries = arrayOfNulls<ZipEntryData>(size)
+    pipeline.forEachParallel(indices.toList(), { this[it].bytes().size.toLong() }) {
+        entries[it] = this[it].toEntry(config)
+    }
+    var offset = 0L
+    val headers = ByteArrayOutputStream()
+    val local = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN)
+    val central = ByteBuffer.allocate(46).order(ByteOrder.LITTLE_ENDIAN)
+    for (entry in entries) {
+        entry!!
+        if (offset > MAX_OFFSET) return false
+        local.clear()
+        local.putInt(LOCAL_HEADER)
+            .putShort(VERSION.toShort())
+            .putShort(UTF8_FLAG.toShort())
+            .putShort(entry.method.toShort())
+            .putShort(0)
+            .putShort(DOS_DATE.toShort())
+            .putInt(entry.crc)
+            .putInt(entry.data.size)
+            .putInt(entry.size)
+            .putShort(entry.name.size.toShort())
+            .putShort(0)
+        output.write(local.array())
+        output.write(entry.name)
+        output.write(entry.data)
+
+        central.clear()
+        central.putInt(CENTRAL_HEADER)
+            .putShort(VERSION.toShort())
+            .putShort(VERSION.toShort())
+            .putShort(UTF8_FLAG.toShort())
+            .putShort(entry.method.toShort())
+            .putShort(0)
+            .putShort(DOS_DATE.toShort())
+            .putInt(entry.crc)
+            .putInt(entry.data.size)
+            .putInt(entry.size)
+            .putShort(entry.name.size.toShort())
+            .putShort(0)
+            .putShort(0)
+            .putShort(0)
+            .putShort(0)
+            .putInt(0)
+            .putInt(offset.toInt())
+        headers.write(central.array())
+        headers.write(entry.name)
+
+        offset += 30L + entry.name.size + entry.data.size
+    }
+    if (offset > MAX_OFFSET) return false
+    val commentBytes = comment.toByteArray(StandardCharsets.UTF_8)
+    headers.writeTo(output)
+    output.write(ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(END_HEADER)
+        .putShort(0)
+        .putShort(0)
+        .putShort(size.toShort())
+        .putShort(size.toShort())
+        .putInt(headers.size())
+        .putInt(offset.toInt())
+        .putShort(commentBytes.size.toShort())
+        .array())
+    output.write(commentBytes)
+    return true
+}
+
+private fun PackByte.toEntry(config: PackConfig): ZipEntryData {
+    val name = path().path().toByteArray(StandardCharsets.UTF_8)
+    val bytes = bytes()
+    val crc = CRC32().run {
+        update(bytes)
+        value.toInt()
+    }
+    val stored = ZipEntryData(name, STORED, crc, bytes.size, bytes)
+    if (config.compressionLevel == Deflater.NO_COMPRESSION || path().path().substringAfterLast('.').lowercase() in STORED_EXTENSIONS) return stored
+    val deflated = Deflater(config.compressionLevel, true).run {
+        try {
+            setStrategy(config.compressionStrategy.value())
+            setInput(bytes)
+            finish()
+            val out = ByteArrayOutputStream(bytes.size / 2 + 64)
+            val buffer = ByteArray(8192)
+            while (!finished()) {
+                out.write(buffer, 0, deflate(buffer))
+            }
+            out.toByteArray()
+        } finally {
+            end()
+        }
+    }
+    return if (deflated.size < bytes.size) ZipEntryData(name, DEFLATED, crc, bytes.size, deflated) else stored
+}
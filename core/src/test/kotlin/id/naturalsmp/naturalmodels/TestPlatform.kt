@@ -0,0 +1,95 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels
+
+import id.naturalsmp.naturalmodels.api.NaturalModels
+import id.naturalsmp.naturalmodels.api.NaturalModelsConfig
+import id.naturalsmp.naturalmodels.api.NaturalModelsLogger
+import id.naturalsmp.naturalmodels.api.NaturalModelsPlatform
+import id.naturalsmp.naturalmodels.api.config.DebugConfig
+import id.naturalsmp.naturalmodels.api.util.HttpUtil
+import java.io.InputStream
+import java.lang.reflect.Proxy
+import java.net.URI
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Headless platform for tests.
+ *
+ * Its config enables the skin cache, and its logger discards every message.
+ */
+object TestPlatform {
+
+    private val platform by lazy {
+        NaturalModels.register(stub(NaturalModelsPlatform::class.java, mapOf(
+            "config" to stub(NaturalModelsConfig::class.java, mapOf(
+                "skinCache" to true,
+                "debug" to DebugConfig.DEFAULT
+            )),
+            "logger" to stub(NaturalModelsLogger::class.java, emptyMap())
+        )))
+    }
+
+    /**
+     * Registers the platform once.
+     */
+    fun install() = platform
+
+    private fun <T> stub(type: Class<T>, values: Map<String, Any>): T = type.cast(Proxy.newProxyInstance(type.classLoader, arrayOf<Class<*>>(type)) { proxy, method, args ->
+        when (method.name) {
+            "equals" -> proxy === args?.get(0)
+            "hashCode" -> System.identityHashCode(proxy)
+            "toString" -> "Stub[${type.simpleName}]"
+            else -> values[method.name]
+        }
+    })
+}
+
+/**
+ * Transport that answers requests with a handler instead of the network, and counts them.
+ *
+ * @param handler response of each uri
+ */
+class StubTransport(
+    private val handler: (URI) -> CompletableFuture<InputStream>
+) : HttpUtil.Transport {
+
+    private val requests = ConcurrentHashMap<URI, AtomicInteger>()
+
+    override fun get(uri: URI): CompletableFuture<InputStream> {
+        requests.computeIfAbsent(uri) { AtomicInteger() }.incrementAndGet()
+        return handler(uri)
+    }
+
+    /**
+     * Gets the number of requests sent to the uri.
+     * @param uri uri
+     * @return count
+     */
+    fun requests(uri: URI) = requests[uri]?.get() ?: 0
+
+    /**
+     * Gets the number of requests sent to any uri.
+     * @return count
+     */
+    fun requests() = requests.values.sumOf { it.get() }
+
+    /**
+     * Installs this transport until the block returns.
+     * @param block block
+     */
+    inline fun <T> use(block: () -> T): T {
+        HttpUtil.transport(this)
+        return try {
+            block()
+        } finally {
+            HttpUtil.transport(null)
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.manager
+
+import id.naturalsmp.naturalmodels.StubTransport
+import id.naturalsmp.naturalmodels.TestPlatform
+import id.naturalsmp.naturalmodels.api.util.HttpUtil
+import java.awt.image.BufferedImage
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.IOException
+import java.io.InputStream
+import java.net.URI
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import javax.imageio.ImageIO
+import kotlin.io.path.createTempDirectory
+import kotlin.test.*
+
+class SkinCacheTest {
+
+    private companion object {
+        const val LOOKUPS = 16
+        val TEXTURE: URI = URI.create("http://textures.minecraft.net/texture/3b60a1f6d562f52aaebbf1434f1de147933a3affe0e764fa49ea057536623cd3")
+        val PNG: ByteArray = ByteArrayOutputStream().use {
+            ImageIO.write(BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB).apply {
+                setRGB(0, 0, 0xFF3366CC.toInt())
+            }, "png", it)
+            it.toByteArray()
+        }
+    }
+
+    private lateinit var folder: File
+
+    @BeforeTest
+    fun setUp() {
+        TestPlatform.install()
+        folder = createTempDirectory("skin-cache").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        folder.deleteRecursively()
+    }
+
+    @Test
+    fun diskHitAcrossInstances() {
+        val transport = StubTransport { CompletableFuture.completedFuture(PNG.inputStream()) }
+        transport.use {
+            val downloaded = SkinCache(folder).image(TEXTURE).get(5, TimeUnit.SECONDS)
+            val fresh = SkinCache(folder)
+            val cached = fresh.image(TEXTURE).get(5, TimeUnit.SECONDS)
+
+            assertEquals(1, transport.requests(TEXTURE))
+            assertEquals(1L, fresh.statistics().diskHit)
+            assertEquals(0L, fresh.statistics().download)
+            assertEquals(downloaded.getRGB(0, 0), cached.getRGB(0, 0))
+        }
+    }
+
+    @Test
+    fun acceptsOtherHosts() {
+        val other = URI.create("https://skins.example.com/texture/3b60a1f6d562f52aaebbf1434f1de147933a3affe0e764fa49ea057536623cd3")
+        val transport = StubTransport { CompletableFuture.completedFuture(PNG.inputStream()) }
+        transport.use {
+            SkinCache(folder).image(other).get(5, TimeUnit.SECONDS)
+            assertEquals(1, transport.requests(other))
+        }
+    }
+
+    @Test
+    fun rejectsOtherSchemes() {
+        val transport = StubTransport { CompletableFuture.completedFuture(PNG.inputStream()) }
+        transport.use {
+            val cache = SkinCache(folder)
+            listOf(
+                "file:///texture/3b60a1f6d562",
+                "ftp://textures.minecraft.net/texture/3b60a1f6d562",
+                "jar:file:/texture.jar!/3b60a1f6d562"
+            ).forEach {
+                val failure = assertFailsWith<ExecutionException>(it) {
+                    cache.image(URI.create(it)).get(5, TimeUnit.SECONDS)
+                }
+                assertIs<IllegalArgumentException>(failure.cause, it)
+            }
+            assertEquals(0, transport.requests())
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+
+    @Test
+    fun rejectsOversizedTexture() {
+        val transport = StubTransport { CompletableFuture.completedFuture(ByteArray(SkinCache.MAX_TEXTURE_SIZE + 1).inputStream()) }
+        transport.use {
+            val failure = assertFailsWith<ExecutionException> {
+                SkinCache(folder).image(TEXTURE).get(5, TimeUnit.SECONDS)
+            }
+            assertIs<IOException>(failure.cause)
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+
+    @Test
+    fun coalescesConcurrentLookups() {
+        val response = CompletableFuture<InputStream>()
+        val transport = StubTransport { response }
+        transport.use {
+            val cache = SkinCache(folder)
+            val start = CountDownLatch(1)
+            val executor = Executors.newFixedThreadPool(LOOKUPS)
+            try {
+                val lookups = (1..LOOKUPS).map {
+                    executor.submit<CompletableFuture<BufferedImage>> {
+                        start.await()
+                        cache.image(TEXTURE)
+                    }
+                }
+                start.countDown()
+                val futures = lookups.map { it.get(5, TimeUnit.SECONDS) }
+                response.complete(PNG.inputStream())
+                val images = futures.map { it.get(5, TimeUnit.SECONDS) }
+
+                assertEquals(1, transport.requests(TEXTURE))
+                assertTrue(images.all { it === images.first() })
+                assertEquals(LOOKUPS - 1L, cache.statistics().coalesced)
+                assertEquals(0, cache.statistics().inFlight)
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+    }
+
+    @Test
+    fun failureIsNotCached() {
+        val transport = StubTransport { CompletableFuture.failedFuture(HttpUtil.HttpStatusException(it, 404)) }
+        transport.use {
+            val cache = SkinCache(folder)
+            repeat(2) {
+                val failure = assertFailsWith<ExecutionException> {
+                    cache.image(TEXTURE).get(5, TimeUnit.SECONDS)
+                }
+                assertIs<HttpUtil.HttpStatusException>(failure.cause)
+            }
+            assertEquals(2, transport.requests(TEXTURE))
+            assertEquals(0, cache.statistics().inFlight)
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+
+    @Test
+    fun timeoutIsNotCached() {
+        val transport = StubTransport { CompletableFuture() }
+        transport.use {
+            val cache = SkinCache(folder, 100)
+            repeat(2) {
+                val failure = assertFailsWith<ExecutionException> {
+                    cache.image(TEXTURE).get(5, TimeUnit.SECONDS)
+                }
+                assertIs<TimeoutException>(failure.cause)
+            }
+            assertEquals(2, transport.requests(TEXTURE))
+            assertEquals(0, cache.statistics().inFlight)
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.profile
+
+import id.naturalsmp.naturalmodels.StubTransport
+import id.naturalsmp.naturalmodels.TestPlatform
+import id.naturalsmp.naturalmodels.api.profile.ModelProfile
+import id.naturalsmp.naturalmodels.api.profile.ModelProfileInfo
+import id.naturalsmp.naturalmodels.api.profile.ModelProfileSkin
+import id.naturalsmp.naturalmodels.api.util.HttpUtil
+import java.io.File
+import java.io.InputStream
+import java.net.URI
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.io.path.createTempDirectory
+import kotlin.test.*
+
+class HttpModelProfileSupplierTest {
+
+    private companion object {
+        const val LOOKUPS = 16
+        val ID: UUID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5")
+        val INFO = ModelProfileInfo(ID, null)
+        val SESSION: URI = URI.create("https://sessionserver.mojang.com/session/minecraft/profile/${ID.toString().replace("-", "")}")
+        val PROFILE = """{"id":"${ID.toString().replace("-", "")}","name":"Notch","properties":[]}""".toByteArray()
+    }
+
+    private lateinit var folder: File
+
+    @BeforeTest
+    fun setUp() {
+        TestPlatform.install()
+        folder = createTempDirectory("profile-cache").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        folder.deleteRecursively()
+    }
+
+    private fun HttpModelProfileSupplier.complete(): ModelProfile = supply(INFO).complete().get(5, TimeUnit.SECONDS)
+
+    @Test
+    fun diskHitAcrossInstances() {
+        val transport = StubTransport { CompletableFuture.completedFuture(PROFILE.inputStream()) }
+        transport.use {
+            assertEquals("Notch", HttpModelProfileSupplier(folder).complete().info().name)
+            assertEquals("Notch", HttpModelProfileSupplier(folder).complete().info().name)
+            assertEquals(1, transport.requests(SESSION))
+        }
+    }
+
+    @Test
+    fun coalescesConcurrentLookups() {
+        val response = CompletableFuture<InputStream>()
+        val transport = StubTransport { response }
+        transport.use {
+            val supplier = HttpModelProfileSupplier(folder)
+            val start = CountDownLatch(1)
+            val executor = Executors.newFixedThreadPool(LOOKUPS)
+            try {
+                val lookups = (1..LOOKUPS).map {
+                    executor.submit<CompletableFuture<ModelProfile>> {
+                        start.await()
+                        supplier.supply(INFO).complete()
+                    }
+                }
+                start.countDown()
+                val futures = lookups.map { it.get(5, TimeUnit.SECONDS) }
+                response.complete(PROFILE.inputStream())
+                val profiles = futures.map { it.get(5, TimeUnit.SECONDS) }
+
+                assertEquals(1, transport.requests(SESSION))
+                assertTrue(profiles.all { it.info().name == "Notch" })
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+    }
+
+    @Test
+    fun failureIsNotCached() {
+        val transport = StubTransport { CompletableFuture.failedFuture(HttpUtil.HttpStatusException(it, 503)) }
+        transport.use {
+            val supplier = HttpModelProfileSupplier(folder)
+            repeat(2) {
+                supplier.complete().assertFallback()
+            }
+            assertEquals(2, transport.requests(SESSION))
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+
+    @Test
+    fun timeoutIsNotCached() {
+        val transport = StubTransport { CompletableFuture() }
+        transport.use {
+            val supplier = HttpModelProfileSupplier(folder, 100)
+            repeat(2) {
+                supplier.complete().assertFallback()
+            }
+            assertEquals(2, transport.requests(SESSION))
+            assertTrue(folder.list().isNullOrEmpty())
+        }
+    }
+
+    private fun ModelProfile.assertFallback() {
+        assertEquals(INFO, info())
+        assertEquals(ModelProfileSkin.EMPTY, skin())
+    }
+}
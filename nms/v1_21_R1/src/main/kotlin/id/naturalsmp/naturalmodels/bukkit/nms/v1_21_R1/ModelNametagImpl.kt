@@ -19,6 +19,7 @@ import net.minecraft.network.protocol.game.ClientboundAddEntityPacket
 import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket
 import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket
 import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket
+import net.minecraft.network.syncher.SynchedEntityData
 import net.minecraft.server.MinecraftServer
 import net.minecraft.world.entity.Display
 import net.minecraft.world.entity.EntityType
@@ -40,7 +41,7 @@ internal class ModelNametagImpl(
         )
     }
 
-    private val viewedPlayer = ConcurrentHashMap.newKeySet<UUID>()
+    private val viewedPlayer = ConcurrentHashMap<UUID, Vec3>()
     private val display = Display.TextDisplay(
         EntityType.TEXT_DISPLAY,
         MinecraftServer.getServer().overworld()
@@ -51,6 +52,9 @@ internal class ModelNametagImpl(
     }
     private var alwaysVisible = false
     private var location = NaturalModels.platform().adapter().zero()
+    private var lastTick = -1L
+    private var globalPosition: Vec3? = null
+    private var dirtyData: List<SynchedEntityData.DataValue<*>>? = null
 
     override fun component(component: Component?) {
         display.text = component?.asVanilla() ?: VanillaComponent.empty()
@@ -64,38 +68,74 @@ internal class ModelNametagImpl(
         this.alwaysVisible = alwaysVisible
     }
 
-    override fun send(player: PlatformPlayer) {
+    override fun moveDuration(duration: Int) {
+        display.entityData[Display.DATA_POS_ROT_INTERPOLATION_DURATION_ID] = duration
+    }
+
+    override fun send(player: PlatformPlayer, tick: Long) {
         if (display.text == VanillaComponent.empty()) return
+        val uuid = player.uuid()
+        if (tick < 0 || tick != lastTick) {
+            lastTick = tick
+            globalPosition = null
+            dirtyData = display.entityData.packDirty()
+        }
+        val position = if (bone.hasPerPlayerState(uuid)) position(uuid) else globalPosition ?: position(null).also {
+            globalPosition = it
+        }
+        display.moveTo(position)
+        val config = NaturalModels.config().nametag()
+        val last = viewedPlayer[uuid]
+        val inPoint = when {
+            alwaysVisible -> true
+            config.shouldCheckVisibility(tick, uuid.hashCode()) -> EntityUtil.isCustomNameVisible(player.location(), location)
+            else -> last != null
+        }
+        when {
+            !inPoint -> if (viewedPlayer.remove(uuid) != null) bundlerOf(removePacket) else null
+            last == null -> {
+                viewedPlayer[uuid] = position
+                bundlerOfNotNull(
+                    addPacket,
+                    display.entityData.pack()?.let {
+                        ClientboundSetEntityDataPacket(display.id, it)
+                    }
+                )
+            }
+            else -> {
+                val threshold = config.positionThreshold().toDouble()
+                val moved = last.distanceToSqr(position) > threshold * threshold
+                if (moved) viewedPlayer[uuid] = position
+                if (moved || dirtyData != null) bundlerOfNotNull(
+                    if (moved) ClientboundTeleportEntityPacket(display) else null,
+                    dirtyData?.let {
+                        ClientboundSetEntityDataPacket(display.id, it)
+                    }
+                ) else null
+            }
+        }?.send(player)
+    }
+
+    private fun position(uuid: UUID?): Vec3 {
         val hb = bone.group.hitBox?.centerPoint() ?: emptyVector
-        val pos = bone.worldPosition(hb, emptyVector, player.uuid())
-        display.moveTo(Vec3(
+        val pos = bone.worldPosition(hb, emptyVector, uuid)
+        return Vec3(
             location.x() + pos.x,
             location.y() + pos.y,
             location.z() + pos.z
-        ))
-        val inPoint = alwaysVisible || EntityUtil.isCustomNameVisible(player.location(), location)
-        when {
-            inPoint && viewedPlayer.add(player.uuid()) -> bundlerOfNotNull(
-                addPacket,
-                display.entityData.pack()?.let {
-                    ClientboundSetEntityDataPacket(display.id, it)
-                }
-            )
-            inPoint -> bundlerOfNotNull(
-                ClientboundTeleportEntityPacket(display),
-                display.entityData.packDirty()?.let {
-                    ClientboundSetEntityDataPacket(display.id, it)
-                }
-            )
-            viewedPlayer.remove(player.uuid()) -> bundlerOf(removePacket)
-            else -> null
-        }?.send(player)
+        )
     }
 
     override fun remove(bundler: PacketBundler) {
+        viewedPlayer.clear()
+        lastTick = -1L
         bundler += removePacket
     }
 
+    override fun remove(player: PlatformPlayer, bundler: PacketBundler) {
+        if (viewedPlayer.remove(player.uuid()) != null) bundler += removePacket
+    }
+
     private val addPacket get() = ClientboundAddEntityPacket(
         display.id,
         display.uuid,
@@ -18,6 +18,7 @@ import net.minecraft.network.FriendlyByteBuf
 import net.minecraft.network.protocol.game.ClientboundAddEntityPacket
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket
 import net.minecraft.network.protocol.game.ClientboundSetEquipmentPacket
+import net.minecraft.network.protocol.game.ServerboundInteractPacket
 import net.minecraft.network.syncher.SynchedEntityData
 import net.minecraft.network.syncher.SynchedEntityData.DataItem
 import net.minecraft.network.syncher.SynchedEntityData.DataValue
@@ -158,6 +159,11 @@ internal inline fun <T> useByteBuf(block: (FriendlyByteBuf) -> T): T {
     }
 }
 
+internal fun ServerboundInteractPacket.entityId() = useByteBuf {
+    ServerboundInteractPacket.STREAM_CODEC.encode(it, this)
+    it.readVarInt()
+}
+
 internal fun EntityTrackerRegistry.entityFlag(uuid: UUID, byte: Byte): Byte {
     var b = byte.toInt()
     val hideOption = hideOption(uuid)
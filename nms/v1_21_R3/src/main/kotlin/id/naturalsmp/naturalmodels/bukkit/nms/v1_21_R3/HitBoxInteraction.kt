@@ -36,14 +36,20 @@ internal class HitBoxInteraction(
     override fun hasExactlyOnePlayerPassenger(): Boolean = false
 
     override fun tick() {
-        val dimension = delegate.dimensions
-        width = dimension.width
-        height = dimension.height
+        syncDimensions()
         yRot = delegate.yRot
         xRot = delegate.xRot
         setSharedFlagOnFire(delegate.remainingFireTicks > 0)
     }
 
+    fun syncDimensions(): Boolean {
+        val dimension = delegate.dimensions
+        if (width == dimension.width && height == dimension.height) return false
+        width = dimension.width
+        height = dimension.height
+        return true
+    }
+
     override fun skipAttackInteraction(entity: Entity): Boolean {
         return if (entity is Player) {
             entity.attack(delegate)
@@ -27,6 +27,8 @@ import id.naturalsmp.naturalmodels.api.platform.PlatformLocation
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
 import id.naturalsmp.naturalmodels.api.player.PlayerSkinParts
 import id.naturalsmp.naturalmodels.api.profile.ModelProfile
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler
+import id.naturalsmp.naturalmodels.api.tracker.EntityIdSet
 import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry
 import id.naturalsmp.naturalmodels.api.tracker.TrackerUpdateAction
 import id.naturalsmp.naturalmodels.api.util.TransformedItemStack
@@ -70,7 +72,7 @@ class NMSImpl : NMS {
 
         //Spigot
         private val getGameProfile: (Player) -> GameProfile = createAdaptedFieldGetter { it.gameProfile }
-        private val getConnection: (ServerCommonPacketListenerImpl) -> Connection = createAdaptedFieldGetter { it.connection }
+        internal val getConnection: (ServerCommonPacketListenerImpl) -> Connection = createAdaptedFieldGetter { it.connection }
         private val spigotChunkAccess = ServerLevel::class.java.fields.firstOrNull {
             it.type == PersistentEntitySectionManager::class.java
         }?.apply {
@@ -136,6 +138,7 @@ class NMSImpl : NMS {
         private val connection = player.handle.connection
         private val uuid = player.uniqueId
         private val base = adapt(player.wrap())
+        private val modelledEntityIds = EntityIdSet()
 
         init {
             val pipeline = getConnection(connection).channel.pipeline()
@@ -150,6 +153,9 @@ class NMSImpl : NMS {
         }
 
         override fun base(): BasePlayer = base
+        override fun modelledEntityIds(): EntityIdSet = modelledEntityIds
+
+        private fun Int.isModelled() = modelledEntityIds.contains(this) || EntityTrackerRegistry.hitBoxIds().contains(this)
 
         private val playerModel get() = connection.player.id.toRegistry()
 
@@ -198,6 +204,7 @@ class NMSImpl : NMS {
                 is ClientboundRemoveEntitiesPacket -> {
                     entityIds
                         .asSequence()
+                        .filter { it.isModelled() }
                         .mapNotNull map@ {
                             it.toRegistry {
                                 return@map null
@@ -207,18 +214,18 @@ class NMSImpl : NMS {
                             it.remove()
                         }
                 }
-                is ClientboundSetPassengersPacket -> {
+                is ClientboundSetPassengersPacket if vehicle.isModelled() -> {
                     vehicle.toRegistry()?.let {
                         return it.mountPacket(it.entity().handle() as? Entity ?: return this, array = passengers)
                     }
                 }
-                is ClientboundUpdateAttributesPacket if entityId.toPlayerEntity() is HitBox -> return null
-                is ClientboundSetEntityDataPacket -> id.toRegistry {
+                is ClientboundUpdateAttributesPacket if entityId.isModelled() && entityId.toPlayerEntity() is HitBox -> return null
+                is ClientboundSetEntityDataPacket if id.isModelled() -> id.toRegistry {
                     return ClientboundSetEntityDataPacket(id, hitBoxData)
                 }?.let { registry ->
                     return toRegistryDataPacket(uuid, registry)
                 }
-                is ClientboundSetEquipmentPacket -> entity.toRegistry()?.let {
+                is ClientboundSetEquipmentPacket if entity.isModelled() -> entity.toRegistry()?.let {
                     if (it.hideOption(uuid).equipment()) (it.entity().handle() as? LivingEntity)?.toEmptyEquipmentPacket()?.let { packet ->
                         return packet
                     }
@@ -245,7 +252,11 @@ class NMSImpl : NMS {
         }
 
         override fun write(ctx: ChannelHandlerContext, msg: Any, promise: ChannelPromise) {
-            super.write(ctx, if (msg is Packet<*>) msg.handle() ?: return else msg, promise)
+            if (msg !is Packet<*>) return super.write(ctx, msg, promise)
+            val start = System.nanoTime()
+            val handled = msg.handle()
+            ModelProfiler.channelHandled(System.nanoTime() - start)
+            super.write(ctx, handled ?: return, promise)
         }
 
         override fun channelRead(ctx: ChannelHandlerContext, msg: Any) {
@@ -259,6 +270,12 @@ class NMSImpl : NMS {
                 }
             }
             when (msg) {
+                is ServerboundInteractPacket if HitBoxImpl.hasVirtual() -> {
+                    HitBoxImpl.virtual(msg.entityId())?.let {
+                        it.interactVirtual(connection.player, msg)
+                        return
+                    }
+                }
                 is ServerboundSetCarriedItemPacket -> {
                     playerModel?.let { registry ->
                         if (!registry.hideOption(uuid).equipment()) return super.channelRead(ctx, msg)
@@ -352,7 +369,8 @@ class NMSImpl : NMS {
             bone,
             listener,
             handle,
-            mountController
+            mountController,
+            CONFIG.virtualHitBox()
         ).craftEntity
     }
     override fun version(): NMSVersion = NMSVersion.V1_21_R3
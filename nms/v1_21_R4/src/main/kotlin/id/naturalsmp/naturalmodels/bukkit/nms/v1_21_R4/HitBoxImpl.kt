@@ -19,9 +19,17 @@ import id.naturalsmp.naturalmodels.api.mount.MountController
 import id.naturalsmp.naturalmodels.api.nms.HitBox
 import id.naturalsmp.naturalmodels.api.nms.HitBoxListener
 import id.naturalsmp.naturalmodels.api.nms.ModelInteractionHand
+import id.naturalsmp.naturalmodels.api.nms.PacketBundler
+import id.naturalsmp.naturalmodels.api.nms.VirtualHitBox
 import id.naturalsmp.naturalmodels.api.platform.PlatformEntity
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry
+import net.minecraft.network.protocol.game.ClientboundAddEntityPacket
+import net.minecraft.network.protocol.game.ClientboundEntityPositionSyncPacket
+import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket
 import net.minecraft.network.protocol.game.ServerboundInteractPacket
+import net.minecraft.network.syncher.SynchedEntityData
 import net.minecraft.server.level.ServerLevel
 import net.minecraft.server.level.ServerPlayer
 import net.minecraft.world.InteractionHand
@@ -49,17 +57,29 @@ import org.bukkit.craftbukkit.entity.CraftPlayer
 import org.bukkit.event.entity.CreatureSpawnEvent
 import org.bukkit.event.entity.EntityPotionEffectEvent
 import org.bukkit.event.entity.EntityRemoveEvent
+import org.bukkit.event.player.PlayerInteractAtEntityEvent
+import org.bukkit.event.player.PlayerInteractEntityEvent
 import org.bukkit.plugin.Plugin
 import org.joml.Vector3f
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 internal class HitBoxImpl(
     private val source: ModelBoundingBox,
     private val bone: RenderedBone,
     private val listener: HitBoxListener,
     private val delegate: Entity,
-    private var mountController: MountController
-) : AbstractHitBox(delegate.level()) {
+    private var mountController: MountController,
+    @Volatile private var virtual: Boolean
+) : AbstractHitBox(delegate.level()), VirtualHitBox {
+    companion object {
+        private const val VIRTUAL_HIT_MARGIN = 0.5
+        private val virtualHitBoxes = ConcurrentHashMap<Int, HitBoxImpl>()
+
+        fun virtual(id: Int): HitBoxImpl? = virtualHitBoxes[id]
+        fun hasVirtual(): Boolean = virtualHitBoxes.isNotEmpty()
+    }
+
     private var initialized = false
     private var jumpDelay = 0
     private var mounted = false
@@ -69,7 +89,8 @@ internal class HitBoxImpl(
     private var onFly = false
 
     val craftEntity: HitBox by lazy {
-        object : CraftArmorStand(Bukkit.getServer() as CraftServer, this), HitBox by this {}
+        if (virtual) object : CraftArmorStand(Bukkit.getServer() as CraftServer, this), VirtualHitBox by this {}
+        else object : CraftArmorStand(Bukkit.getServer() as CraftServer, this), HitBox by this {}
     }
     val dimensions: EntityDimensions get() = source.run {
         EntityDimensions(
@@ -83,6 +104,10 @@ internal class HitBoxImpl(
     private val interaction by lazy {
         HitBoxInteraction(this)
     }
+    private val viewers = ConcurrentHashMap.newKeySet<UUID>()
+    private val hidden = ConcurrentHashMap.newKeySet<UUID>()
+    private var moved = false
+    private var dirtyData: List<SynchedEntityData.DataValue<*>>? = null
     private val applier = InsideBlockEffectApplier.StepBasedCollector()
 
     init {
@@ -91,13 +116,29 @@ internal class HitBoxImpl(
         persist = false
         isSilent = true
         initialized = true
+        interaction.moveTo(delegate.position())
+        if (virtual) virtualHitBoxes[interaction.id] = this else spawn()
+    }
+
+    private fun spawn() {
+        EntityTrackerRegistry.hitBoxIds().add(id)
         level().addFreshEntity(this, CreatureSpawnEvent.SpawnReason.CUSTOM)
-        level().addFreshEntity(interaction.apply {
-            moveTo(delegate.position())
-        }, CreatureSpawnEvent.SpawnReason.CUSTOM)
+        level().addFreshEntity(interaction, CreatureSpawnEvent.SpawnReason.CUSTOM)
         interaction.startRiding(this)
     }
 
+    private fun materialize() {
+        if (!virtual) return
+        virtual = false
+        virtualHitBoxes.remove(interaction.id)
+        removeViewers()
+        spawn()
+        hidden.forEach { uuid ->
+            Bukkit.getPlayer(uuid)?.let { hide(it.wrap()) }
+        }
+        hidden.clear()
+    }
+
     private fun initialSetup() {
         if (mounted) {
             mounted = false
@@ -128,6 +169,7 @@ internal class HitBoxImpl(
 
     override fun mount(entity: PlatformEntity) {
         if (controllingPassenger != null) return
+        materialize()
         if (interaction.bukkitEntity.addPassenger(entity.unwarp())) {
             if (mountController.canControl()) {
                 mounted = true
@@ -264,16 +306,7 @@ internal class HitBoxImpl(
             if (delegate is Mob) delegate.navigation.stop()
             mountControl(controller)
         } else initialSetup()
-        yRot = bone.rotation().y
-        yHeadRot = yRot
-        yBodyRot = yRot
-        val pos = relativePosition()
-        val minusHeight = source.minY * bone.hitBoxScale()
-        setPos(
-            pos.x.toDouble(),
-            pos.y.toDouble() + minusHeight,
-            pos.z.toDouble()
-        )
+        updatePosition()
         BlockGetter.forEachBlockIntersectedBetween(
             oldPosition(),
             position(),
@@ -305,8 +338,116 @@ internal class HitBoxImpl(
         )
     ).mul(movementSpeed()).rotateY(-Math.toRadians(player.yRot.toDouble()).toFloat())
 
+    private fun updatePosition() {
+        yRot = bone.rotation().y
+        yHeadRot = yRot
+        yBodyRot = yRot
+        val pos = relativePosition()
+        val minusHeight = source.minY * bone.hitBoxScale()
+        setPos(
+            pos.x.toDouble(),
+            pos.y.toDouble() + minusHeight,
+            pos.z.toDouble()
+        )
+    }
+
+    override fun sync() {
+        if (!virtual || isRemoved) return
+        updatePosition()
+        val resized = interaction.syncDimensions()
+        val before = interaction.position()
+        interaction.moveTo(position())
+        moved = before != interaction.position()
+        dirtyData = if (resized) interaction.entityData.packDirty() else null
+    }
+
+    override fun send(player: PlatformPlayer) {
+        if (!virtual || isRemoved || hidden.contains(player.uuid())) return
+        when {
+            viewers.add(player.uuid()) -> bundlerOfNotNull(
+                addPacket,
+                interaction.entityData.pack()?.let {
+                    ClientboundSetEntityDataPacket(interaction.id, it)
+                }
+            )
+            moved || dirtyData != null -> bundlerOfNotNull(
+                if (moved) ClientboundEntityPositionSyncPacket(interaction.id, PositionMoveRotation.of(interaction), false) else null,
+                dirtyData?.let {
+                    ClientboundSetEntityDataPacket(interaction.id, it)
+                }
+            )
+            else -> null
+        }?.send(player)
+    }
+
+    override fun remove(player: PlatformPlayer, bundler: PacketBundler) {
+        if (viewers.remove(player.uuid())) bundler += removePacket
+    }
+
+    private fun removeViewers() {
+        if (viewers.isEmpty()) return
+        val bundler = bundlerOf(removePacket)
+        viewers.forEach { uuid ->
+            Bukkit.getPlayer(uuid)?.let { bundler.send(it.wrap()) }
+        }
+        viewers.clear()
+    }
+
+    private val addPacket get() = ClientboundAddEntityPacket(
+        interaction.id,
+        interaction.uuid,
+        interaction.x,
+        interaction.y,
+        interaction.z,
+        interaction.xRot,
+        interaction.yRot,
+        interaction.type,
+        0,
+        interaction.deltaMovement,
+        interaction.yHeadRot.toDouble()
+    )
+
+    private val removePacket get() = ClientboundRemoveEntitiesPacket(interaction.id)
+
+    fun interactVirtual(player: ServerPlayer, packet: ServerboundInteractPacket) {
+        source().task {
+            if (!virtual || isRemoved || player.level() !== level() || !canReach(player)) return@task
+            packet.dispatch(object : ServerboundInteractPacket.Handler {
+                override fun onInteraction(hand: InteractionHand) {
+                    Bukkit.getPluginManager().callEvent(PlayerInteractEntityEvent(player.bukkitEntity, bukkitEntity, hand.toEquipmentSlot()))
+                }
+
+                override fun onInteraction(hand: InteractionHand, pos: Vec3) {
+                    Bukkit.getPluginManager().callEvent(PlayerInteractAtEntityEvent(player.bukkitEntity, bukkitEntity, org.bukkit.util.Vector(pos.x, pos.y, pos.z), hand.toEquipmentSlot()))
+                }
+
+                override fun onAttack() {
+                    player.attack(this@HitBoxImpl)
+                }
+            })
+        }
+    }
+
+    private fun canReach(player: ServerPlayer): Boolean {
+        val box = boundingBox.inflate(VIRTUAL_HIT_MARGIN)
+        val eye = player.eyePosition
+        if (box.contains(eye)) return true
+        val range = player.entityInteractionRange() + VIRTUAL_HIT_MARGIN
+        return box.clip(eye, eye.add(player.lookAngle.scale(range))).isPresent
+    }
+
+    private fun InteractionHand.toEquipmentSlot() = when (this) {
+        MAIN_HAND -> org.bukkit.inventory.EquipmentSlot.HAND
+        OFF_HAND -> org.bukkit.inventory.EquipmentSlot.OFF_HAND
+    }
+
     override fun remove(reason: RemovalReason, cause: EntityRemoveEvent.Cause?) {
         initialSetup()
+        EntityTrackerRegistry.hitBoxIds().remove(id)
+        if (virtual) {
+            virtualHitBoxes.remove(interaction.id)
+            removeViewers()
+        }
         listener.remove(craftEntity)
         interaction.remove(reason)
         super.remove(reason, cause)
@@ -343,6 +484,11 @@ internal class HitBoxImpl(
     }
 
     override fun hide(player: PlatformPlayer) {
+        if (virtual) {
+            hidden.add(player.uuid())
+            if (viewers.remove(player.uuid())) bundlerOf(removePacket).send(player)
+            return
+        }
         val plugin = NaturalModels.platform() as Plugin
         player.unwarp().run {
             hideEntity(plugin, bukkitEntity)
@@ -351,6 +497,10 @@ internal class HitBoxImpl(
     }
 
     override fun show(player: PlatformPlayer) {
+        if (virtual) {
+            if (hidden.remove(player.uuid())) send(player)
+            return
+        }
         val plugin = NaturalModels.platform() as Plugin
         player.unwarp().run {
             showEntity(plugin, bukkitEntity)
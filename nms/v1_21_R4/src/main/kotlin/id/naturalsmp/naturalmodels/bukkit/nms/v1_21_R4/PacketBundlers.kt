@@ -6,16 +6,29 @@
  */
 package id.naturalsmp.naturalmodels.bukkit.nms.v1_21_R4
 
+import id.naturalsmp.naturalmodels.api.nms.PacketBroadcaster
 import id.naturalsmp.naturalmodels.api.nms.PacketBundler
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import io.netty.buffer.ByteBuf
+import io.netty.channel.Channel
 import net.kyori.adventure.key.Key
 import net.kyori.adventure.key.Keyed
+import net.minecraft.network.ConnectionProtocol
+import net.minecraft.network.HandlerNames
+import net.minecraft.network.PacketEncoder
 import net.minecraft.network.PacketSendListener
+import net.minecraft.network.ProtocolInfo
+import net.minecraft.network.chat.Component
+import net.minecraft.network.codec.StreamCodec
 import net.minecraft.network.protocol.Packet
+import net.minecraft.network.protocol.game.ClientboundBundleDelimiterPacket
 import net.minecraft.network.protocol.game.ClientboundBundlePacket
 import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket
 import net.minecraft.network.protocol.game.ClientboundSetEquipmentPacket
+import net.minecraft.world.item.ItemStack
 import org.bukkit.craftbukkit.entity.CraftPlayer
+import java.util.Optional
+import java.util.function.BiConsumer
 
 private val KEY = Key.key("naturalmodels")
 
@@ -25,6 +38,7 @@ internal fun bundlerOf(size: Int) = SimpleBundler(ArrayList(size))
 internal fun lazyBundlerOf() = LazyBundler()
 internal fun parallelBundlerOf(threshold: Int) = ParallelBundler(threshold)
 private fun uoe() = UnsupportedOperationException("cannot be added after PacketBundler#send is called.")
+private val getProtocolInfo: (PacketEncoder<*>) -> ProtocolInfo<*> = createAdaptedFieldGetter()
 internal operator fun PacketBundler.plusAssign(other: ClientPacket) {
     when (this) {
         is SimpleBundler -> add(other)
@@ -55,6 +69,10 @@ internal class SimpleBundler(
         val connection = (player.unwarp() as CraftPlayer).handle.connection
         connection.send(bundlePacket, PacketSendListener.thenRun(onSuccess))
     }
+    override fun broadcast(players: List<PlatformPlayer>) {
+        if (isEmpty) return
+        broadcast(listOf(this), players, ::send)
+    }
     override fun isEmpty(): Boolean = list.isEmpty()
     override fun size(): Int = list.size
     override fun key(): Key = KEY
@@ -79,6 +97,10 @@ internal class LazyBundler : PacketBundler, PluginBundlePacketImpl {
         val connection = (player.unwarp() as CraftPlayer).handle.connection
         connection.send(bundlePacket, PacketSendListener.thenRun(onSuccess))
     }
+    override fun broadcast(players: List<PlatformPlayer>) {
+        if (isEmpty) return
+        broadcast(listOf(this), players, ::send)
+    }
     override fun isEmpty(): Boolean = size() == 0
     override fun size(): Int = index
     override fun key(): Key = KEY
@@ -115,6 +137,10 @@ internal class ParallelBundler(
             connection.send(it.bundlePacket)
         }
     }
+    override fun broadcast(players: List<PlatformPlayer>) {
+        if (isEmpty) return
+        broadcast(subBundlers, players, ::send)
+    }
     override fun isEmpty(): Boolean = selectedBundler.isEmpty()
     override fun size(): Int = subBundlers.sumOf(PluginBundlePacketImpl::size)
     fun add(other: ClientPacket) {
@@ -125,4 +151,43 @@ internal class ParallelBundler(
     }
 }
 
+/**
+ * Sends bundles to all players through [PacketBroadcaster].
+ */
+private fun broadcast(bundles: List<PluginBundlePacketImpl>, players: List<PlatformPlayer>, send: (PlatformPlayer) -> Unit) {
+    PacketBroadcaster.broadcast(players, bundles, BroadcastAdapter(send))
+}
+
+private val DELIMITER = ClientboundBundleDelimiterPacket()
+
+private class BroadcastAdapter(
+    private val send: (PlatformPlayer) -> Unit
+) : PacketBroadcaster.Adapter<Packet<*>> {
+    override fun playChannel(player: PlatformPlayer): Channel? {
+        val channel = NMSImpl.getConnection((player.unwarp() as CraftPlayer).handle.connection).channel
+        return channel.takeIf { it.isActive && it.protocolInfo()?.id() == ConnectionProtocol.PLAY }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun codec(channel: Channel): BiConsumer<ByteBuf, Packet<*>> {
+        val codec = channel.protocolInfo()!!.codec() as StreamCodec<ByteBuf, Packet<*>>
+        return BiConsumer(codec::encode)
+    }
+
+    override fun delimiter(): Packet<*> = DELIMITER
+
+    override fun isShared(packet: Packet<*>): Boolean = when (packet) {
+        is ClientboundSetEntityDataPacket -> packet.packedItems().none { it.value().isPlayerSpecific() }
+        is ClientboundSetEquipmentPacket -> false
+        else -> true
+    }
+
+    override fun fallback(player: PlatformPlayer) = send(player)
+}
+
+private fun Channel.protocolInfo(): ProtocolInfo<*>? = (pipeline()[HandlerNames.ENCODER] as? PacketEncoder<*>)?.let(getProtocolInfo)
 
+/**
+ * Components are rendered in the locale of each player and items can be rewritten for each player.
+ */
+private fun Any?.isPlayerSpecific(): Boolean = this is Component || this is ItemStack || (this is Optional<*> && orElse(null).isPlayerSpecific())
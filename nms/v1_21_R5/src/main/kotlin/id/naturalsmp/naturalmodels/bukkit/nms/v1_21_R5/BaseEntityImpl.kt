@@ -7,9 +7,11 @@
 package id.naturalsmp.naturalmodels.bukkit.nms.v1_21_R5
 
 import id.naturalsmp.naturalmodels.api.bukkit.entity.BaseBukkitEntity
+import id.naturalsmp.naturalmodels.api.entity.EntitySnapshot
 import id.naturalsmp.naturalmodels.api.platform.PlatformEntity
 import id.naturalsmp.naturalmodels.api.platform.PlatformLocation
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import id.naturalsmp.naturalmodels.api.util.FunctionUtil
 import net.minecraft.server.level.ServerPlayer
 import net.minecraft.world.effect.MobEffects
 import net.minecraft.world.entity.Entity
@@ -19,11 +21,17 @@ import org.bukkit.craftbukkit.entity.CraftEntity
 import org.bukkit.persistence.PersistentDataHolder
 import org.joml.Vector3f
 import java.util.*
+import java.util.function.Supplier
 import java.util.stream.Stream
 
 internal data class BaseEntityImpl(
     private val delegate: CraftEntity
 ) : BaseBukkitEntity, PersistentDataHolder by delegate {
+
+    @Volatile
+    private var snapshot: EntitySnapshot? = null
+    private val fallbackSnapshot = FunctionUtil.throttleTick(Supplier { EntitySnapshot.capture(this) })
+
     override fun customName(): AdventureComponent? = handle().run {
         if (this is ServerPlayer) (customName ?: name).asAdventure() else customName?.asAdventure()?.takeIf {
             isCustomNameVisible
@@ -78,6 +86,11 @@ internal data class BaseEntityImpl(
         return handle().passengerPosition(dest)
     }
 
+    override fun snapshot(): EntitySnapshot = snapshot ?: fallbackSnapshot.get() ?: EntitySnapshot.capture(this)
+    override fun captureSnapshot() {
+        snapshot = EntitySnapshot.capture(this)
+    }
+
     override fun platform(): PlatformEntity = delegate.wrap()
     override fun trackedBy(): Stream<PlatformPlayer> = delegate.trackedBy.stream().map { it.wrap() }
     override fun location(): PlatformLocation = delegate.location.wrap()
@@ -65,12 +65,13 @@ internal class ModelDisplayImpl(
     }
 
     override fun syncEntity(entity: BaseEntity) {
-        display.valid = !entity.dead()
-        display.onGround = entity.ground()
+        val snapshot = entity.snapshot()
+        display.valid = !snapshot.dead
+        display.onGround = snapshot.ground
         val beforeInvisible = display.isInvisible
-        val afterInvisible = entity.invisible()
+        val afterInvisible = snapshot.invisible
         entityDataLock.accessToLock {
-            display.setGlowingTag(entity.glow() || forceGlow.get())
+            display.setGlowingTag(snapshot.glow || forceGlow.get())
             if (CONFIG.followMobInvisibility() && beforeInvisible != afterInvisible) {
                 display.isInvisible = afterInvisible
                 entityData.markDirty(ITEM_SERIALIZER)
@@ -68,5 +68,21 @@ public record FabricItemStack(@NotNull ItemStack source) implements PlatformItem
     public @NotNull PlatformItemStack clone() {
         return FabricAdapter.adapt(source.copy());
     }
+
+    @Override
+    public boolean isSimilar(@NotNull PlatformItemStack other) {
+        return other instanceof FabricItemStack(ItemStack otherSource) && ItemStack.isSameItemSameComponents(source, otherSource);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof FabricItemStack(ItemStack other) && ItemStack.matches(source, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * ItemStack.hashItemAndComponents(source) + source.getCount();
+    }
 }
 
@@ -0,0 +1,19 @@
+/**
+ * This source file is part of NaturalModels.
+ * Copyright (c) 2024–2026 toxicity188
+ * Licensed under the MIT License.
+ * See LICENSE.md file for full license text.
+ */
+package id.naturalsmp.naturalmodels.mixin;
+
+import net.minecraft.network.PacketEncoder;
+import net.minecraft.network.ProtocolInfo;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(value = PacketEncoder.class)
+public interface PacketEncoderAccessor {
+    @Accessor(value = "protocolInfo")
+    @NotNull ProtocolInfo<?> NaturalModels$getProtocolInfo();
+}
@@ -89,6 +89,8 @@ class NaturalModelsFabricImpl : ModInitializer, NaturalModelsPlatformImpl, Natur
         NaturalModelsNMSImpl()
     }
     private val logger = NaturalModelsLoggerImpl()
+    private val evaluator = NaturalModelsEvaluatorImpl()
+    private val eventBus = NaturalModelsEventBusImpl()
 
     private var reloadStartTask: (PackZipper) -> Unit = { zipper ->
         callEvent {
@@ -110,6 +112,7 @@ class NaturalModelsFabricImpl : ModInitializer, NaturalModelsPlatformImpl, Natur
             ArmorManager,
             ProfileManagerImpl,
             SkinManagerImpl,
+            ProfilerManager,
             ModelManagerImpl,
             PlayerManagerImpl,
             EntityManager,
@@ -318,9 +321,9 @@ class NaturalModelsFabricImpl : ModInitializer, NaturalModelsPlatformImpl, Natur
 
     override fun logger(): NaturalModelsLogger = logger
 
-    override fun evaluator(): NaturalModelsEvaluator = NaturalModelsEvaluatorImpl()
+    override fun evaluator(): NaturalModelsEvaluator = evaluator
 
-    override fun eventBus(): NaturalModelsEventBus = NaturalModelsEventBusImpl()
+    override fun eventBus(): NaturalModelsEventBus = eventBus
 
     override fun server(): MinecraftServer = server
 
@@ -131,6 +131,7 @@ fun startFabricCommand() {
                 .senderType(AudiencePlayer::class.java)
                 .handler(::play)
         }
+        profile()
 // TODO NOT implemented yet
 //        create(
 //            "hide",
@@ -8,9 +8,13 @@ package id.naturalsmp.naturalmodels.impl.fabric.config
 
 import id.naturalsmp.naturalmodels.api.NaturalModelsConfig
 import id.naturalsmp.naturalmodels.api.config.DebugConfig
+import id.naturalsmp.naturalmodels.api.config.DeltaSuppressionConfig
 import id.naturalsmp.naturalmodels.api.config.IndicatorConfig
+import id.naturalsmp.naturalmodels.api.config.LevelOfDetailConfig
 import id.naturalsmp.naturalmodels.api.config.ModuleConfig
+import id.naturalsmp.naturalmodels.api.config.NametagConfig
 import id.naturalsmp.naturalmodels.api.config.PackConfig
+import id.naturalsmp.naturalmodels.api.config.TextureConfig
 import id.naturalsmp.naturalmodels.api.mount.MountController
 import id.naturalsmp.naturalmodels.api.mount.MountControllers
 import id.naturalsmp.naturalmodels.api.platform.PlatformItemStack
@@ -41,8 +45,44 @@ class NaturalModelsConfigImpl(yaml: ConfigurationNode) : NaturalModelsConfig {
         ModuleConfig.from { node.node(it).getBoolean(false) }
     } ?: ModuleConfig.DEFAULT
     private val pack = yaml.node("pack")?.let { node ->
-        PackConfig.from { node.node(it).getBoolean(false) }
+        PackConfig.from { node.node(it).getBoolean(false) }.compression(
+            node.node("compression-level").getInt(9),
+            PackConfig.CompressionStrategy.of(node.node("compression-strategy").getString())
+        )
     } ?: PackConfig.DEFAULT
+    private val texture = yaml.node("texture")?.let { node ->
+        TextureConfig(
+            node.node("deduplicate").getBoolean(true),
+            node.node("optimize").getBoolean(true),
+            node.node("atlas").getBoolean(false),
+            node.node("atlas-texture-size").getInt(32),
+            node.node("atlas-max-size").getInt(512)
+        )
+    } ?: TextureConfig.DEFAULT
+    private val levelOfDetail = yaml.node("level-of-detail")?.let { node ->
+        LevelOfDetailConfig(
+            node.node("enabled").getBoolean(true),
+            node.node("near-distance").getDouble(0.25),
+            node.node("far-distance").getDouble(0.6),
+            node.node("medium-interval").getInt(2),
+            node.node("far-interval").getInt(5),
+            node.node("freeze-behind").getBoolean(true)
+        )
+    } ?: LevelOfDetailConfig.DEFAULT
+    private val deltaSuppression = yaml.node("delta-suppression")?.let { node ->
+        DeltaSuppressionConfig(
+            node.node("enabled").getBoolean(true),
+            node.node("position").getFloat(0.002F),
+            node.node("scale").getFloat(0.002F),
+            node.node("rotation").getFloat(0.25F)
+        )
+    } ?: DeltaSuppressionConfig.DEFAULT
+    private val nametag = yaml.node("nametag")?.let { node ->
+        NametagConfig(
+            node.node("position-threshold").getFloat(0.01F),
+            node.node("visibility-interval").getInt(5).coerceAtLeast(1)
+        )
+    } ?: NametagConfig.DEFAULT
     private val sightTrace = yaml.node("sight-trace").getBoolean(true)
     private val mergeWithExternalResources = yaml.node("merge-with-external-resources").getBoolean(false)
     private val itemModel = yaml.node("item").getString("leather_horse_armor")
@@ -80,12 +120,20 @@ class NaturalModelsConfigImpl(yaml: ConfigurationNode) : NaturalModelsConfig {
     private val cancelPlayerModelInventory = yaml.node("cancel-player-model-inventory").getBoolean(false)
     private val playerHideDelay = yaml.node("player-hide-delay").getLong(3L).coerceAtLeast(1L)
     private val packetBundlingSize = yaml.node("packet-bundling-size").getInt(16)
+    private val packetBroadcast = yaml.node("packet-broadcast").getBoolean(false)
     private val enableStrictLoading = yaml.node("enable-strict-loading").getBoolean(false)
+    private val blueprintCache = yaml.node("blueprint-cache").getBoolean(true)
+    private val virtualHitBox = yaml.node("virtual-hitbox").getBoolean(false)
+    private val skinCache = yaml.node("skin-cache").getBoolean(true)
 
     override fun debug(): DebugConfig = debug
     override fun indicator(): IndicatorConfig = indicator
     override fun module(): ModuleConfig = module
     override fun pack(): PackConfig = pack
+    override fun texture(): TextureConfig = texture
+    override fun levelOfDetail(): LevelOfDetailConfig = levelOfDetail
+    override fun deltaSuppression(): DeltaSuppressionConfig = deltaSuppression
+    override fun nametag(): NametagConfig = nametag
     override fun item(): Supplier<PlatformItemStack> = item
     override fun itemModel(): String = itemModel
     override fun itemNamespace(): String = itemNamespace
@@ -105,7 +153,11 @@ class NaturalModelsConfigImpl(yaml: ConfigurationNode) : NaturalModelsConfig {
     override fun cancelPlayerModelInventory(): Boolean = cancelPlayerModelInventory
     override fun playerHideDelay(): Long = playerHideDelay
     override fun packetBundlingSize(): Int = packetBundlingSize
+    override fun packetBroadcast(): Boolean = packetBroadcast
     override fun enableStrictLoading(): Boolean = enableStrictLoading
+    override fun blueprintCache(): Boolean = blueprintCache
+    override fun virtualHitBox(): Boolean = virtualHitBox
+    override fun skinCache(): Boolean = skinCache
 }
 
 
@@ -6,9 +6,11 @@
  */
 package id.naturalsmp.naturalmodels.impl.fabric.entity
 
+import id.naturalsmp.naturalmodels.api.entity.EntitySnapshot
 import id.naturalsmp.naturalmodels.api.fabric.entity.BaseFabricEntity
 import id.naturalsmp.naturalmodels.api.platform.PlatformEntity
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import id.naturalsmp.naturalmodels.api.util.FunctionUtil
 import id.naturalsmp.naturalmodels.api.util.TransformedItemStack
 import id.naturalsmp.naturalmodels.impl.fabric.*
 import id.naturalsmp.naturalmodels.impl.fabric.chat.asAdventure
@@ -20,9 +22,14 @@ import net.minecraft.world.entity.LivingEntity
 import net.minecraft.world.entity.ai.attributes.Attributes
 import org.joml.Vector3f
 import java.util.*
+import java.util.function.Supplier
 import java.util.stream.Stream
 
 class BaseFabricEntityImpl(private var entity: Entity) : BaseFabricEntity {
+    @Volatile
+    private var snapshot: EntitySnapshot? = null
+    private val fallbackSnapshot = FunctionUtil.throttleTick(Supplier { EntitySnapshot.capture(this) })
+
     override fun entity(entity: Entity) {
         this.entity = entity
     }
@@ -104,6 +111,12 @@ class BaseFabricEntityImpl(private var entity: Entity) : BaseFabricEntity {
 
     override fun passengerPosition(dest: Vector3f): Vector3f = entity.passengerPosition(dest)
 
+    override fun snapshot(): EntitySnapshot = snapshot ?: fallbackSnapshot.get() ?: EntitySnapshot.capture(this)
+
+    override fun captureSnapshot() {
+        snapshot = EntitySnapshot.capture(this)
+    }
+
     override fun trackedBy(): Stream<PlatformPlayer> = entity.seenBy.stream().map {
         it.wrap()
     }
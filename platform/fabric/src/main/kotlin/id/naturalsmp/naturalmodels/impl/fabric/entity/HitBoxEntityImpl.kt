@@ -20,6 +20,7 @@ import id.naturalsmp.naturalmodels.api.nms.HitBoxListener
 import id.naturalsmp.naturalmodels.api.nms.ModelInteractionHand
 import id.naturalsmp.naturalmodels.api.platform.PlatformEntity
 import id.naturalsmp.naturalmodels.api.platform.PlatformPlayer
+import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry
 import id.naturalsmp.naturalmodels.impl.fabric.*
 import id.naturalsmp.naturalmodels.impl.fabric.world.damagesource.ModelDamageSourceImpl
 import id.naturalsmp.naturalmodels.util.CONFIG
@@ -87,6 +88,7 @@ class HitBoxEntityImpl(
         isInvisible = true
         isSilent = true
         initialized = true
+        EntityTrackerRegistry.hitBoxIds().add(id)
         level().addFreshEntity(this)
 
         interaction.snapTo(delegate.position())
@@ -375,6 +377,7 @@ class HitBoxEntityImpl(
 
     override fun remove(reason: RemovalReason) {
         initialSetup()
+        EntityTrackerRegistry.hitBoxIds().remove(id)
 
         listener.remove(this)
         interaction.remove(reason)
@@ -75,13 +75,14 @@ class ModelDisplayEntityImpl(
     }
 
     override fun syncEntity(entity: BaseEntity) {
-        display.setOnGround(entity.ground())
+        val snapshot = entity.snapshot()
+        display.setOnGround(snapshot.ground)
 
         val beforeInvisible = display.isInvisible
-        val afterInvisible = entity.invisible()
+        val afterInvisible = snapshot.invisible
 
         entityDataLock.accessToLock {
-            display.setGlowingTag(entity.glow() || forceGlow.get())
+            display.setGlowingTag(snapshot.glow || forceGlow.get())
             if (CONFIG.followMobInvisibility() && beforeInvisible != afterInvisible) {
                 display.isInvisible = afterInvisible
                 entityData.markDirty(ItemDisplayAccessor.`NaturalModels$getDataItemStackId`())
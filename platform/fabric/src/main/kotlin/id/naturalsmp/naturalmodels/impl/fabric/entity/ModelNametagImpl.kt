@@ -27,6 +27,7 @@ import net.minecraft.network.protocol.game.ClientboundAddEntityPacket
 import net.minecraft.network.protocol.game.ClientboundEntityPositionSyncPacket
 import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket
 import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket
+import net.minecraft.network.syncher.SynchedEntityData
 import net.minecraft.world.entity.Display
 import net.minecraft.world.entity.EntityType
 import net.minecraft.world.entity.PositionMoveRotation
@@ -48,7 +49,7 @@ class ModelNametagImpl(
         )
     }
 
-    private val viewedPlayer = ConcurrentHashMap.newKeySet<UUID>()
+    private val viewedPlayer = ConcurrentHashMap<UUID, Vec3>()
     private val display = Display.TextDisplay(
         EntityType.TEXT_DISPLAY,
         (PLATFORM as NaturalModelsFabric).server().overworld()
@@ -59,6 +60,9 @@ class ModelNametagImpl(
     }
     private var alwaysVisible = false
     private var location = NaturalModels.platform().adapter().zero()
+    private var lastTick = -1L
+    private var globalPosition: Vec3? = null
+    private var dirtyData: List<SynchedEntityData.DataValue<*>>? = null
 
     override fun component(component: net.kyori.adventure.text.Component?) {
         display.text = component?.asVanilla() ?: Component.empty()
@@ -72,38 +76,74 @@ class ModelNametagImpl(
         this.alwaysVisible = alwaysVisible
     }
 
-    override fun send(player: PlatformPlayer) {
+    override fun moveDuration(duration: Int) {
+        display.entityData[DisplayAccessor.`NaturalModels$getDataPosRotInterpolationDurationId`()] = duration
+    }
+
+    override fun send(player: PlatformPlayer, tick: Long) {
         if (display.text == Component.empty()) return
+        val uuid = player.uuid()
+        if (tick < 0 || tick != lastTick) {
+            lastTick = tick
+            globalPosition = null
+            dirtyData = display.entityData.packDirty()
+        }
+        val position = if (bone.hasPerPlayerState(uuid)) position(uuid) else globalPosition ?: position(null).also {
+            globalPosition = it
+        }
+        display.snapTo(position)
+        val config = NaturalModels.config().nametag()
+        val last = viewedPlayer[uuid]
+        val inPoint = when {
+            alwaysVisible -> true
+            config.shouldCheckVisibility(tick, uuid.hashCode()) -> EntityUtil.isCustomNameVisible(player.location(), location)
+            else -> last != null
+        }
+        when {
+            !inPoint -> if (viewedPlayer.remove(uuid) != null) bundlerOf(removePacket) else null
+            last == null -> {
+                viewedPlayer[uuid] = position
+                bundlerOfNotNull(
+                    addPacket,
+                    display.entityData.pack()?.let {
+                        ClientboundSetEntityDataPacket(display.id, it)
+                    }
+                )
+            }
+            else -> {
+                val threshold = config.positionThreshold().toDouble()
+                val moved = last.distanceToSqr(position) > threshold * threshold
+                if (moved) viewedPlayer[uuid] = position
+                if (moved || dirtyData != null) bundlerOfNotNull(
+                    if (moved) ClientboundEntityPositionSyncPacket(display.id, PositionMoveRotation.of(display), false) else null,
+                    dirtyData?.let {
+                        ClientboundSetEntityDataPacket(display.id, it)
+                    }
+                ) else null
+            }
+        }?.send(player)
+    }
+
+    private fun position(uuid: UUID?): Vec3 {
         val hb = bone.group.hitBox?.centerPoint() ?: emptyVector
-        val pos = bone.worldPosition(hb, emptyVector, player.uuid())
-        display.snapTo(Vec3(
+        val pos = bone.worldPosition(hb, emptyVector, uuid)
+        return Vec3(
             location.x() + pos.x,
             location.y() + pos.y,
             location.z() + pos.z
-        ))
-        val inPoint = alwaysVisible || EntityUtil.isCustomNameVisible(player.location(), location)
-        when {
-            inPoint && viewedPlayer.add(player.uuid()) -> bundlerOfNotNull(
-                addPacket,
-                display.entityData.pack()?.let {
-                    ClientboundSetEntityDataPacket(display.id, it)
-                }
-            )
-            inPoint -> bundlerOfNotNull(
-                ClientboundEntityPositionSyncPacket(display.id, PositionMoveRotation.of(display), false),
-                display.entityData.packDirty()?.let {
-                    ClientboundSetEntityDataPacket(display.id, it)
-                }
-            )
-            viewedPlayer.remove(player.uuid()) -> bundlerOf(removePacket)
-            else -> null
-        }?.send(player)
+        )
     }
 
     override fun remove(bundler: PacketBundler) {
+        viewedPlayer.clear()
+        lastTick = -1L
         bundler += removePacket
     }
 
+    override fun remove(player: PlatformPlayer, bundler: PacketBundler) {
+        if (viewedPlayer.remove(player.uuid()) != null) bundler += removePacket
+    }
+
     private val addPacket get() = ClientboundAddEntityPacket(
         display.id,
         display.uuid,
@@ -14,6 +14,8 @@ import id.naturalsmp.naturalmodels.api.entity.BasePlayer
 import id.naturalsmp.naturalmodels.api.fabric.NaturalModelsFabric
 import id.naturalsmp.naturalmodels.api.nms.HitBox
 import id.naturalsmp.naturalmodels.api.nms.PlayerChannelHandler
+import id.naturalsmp.naturalmodels.api.profiler.ModelProfiler
+import id.naturalsmp.naturalmodels.api.tracker.EntityIdSet
 import id.naturalsmp.naturalmodels.api.tracker.EntityTrackerRegistry
 import id.naturalsmp.naturalmodels.api.tracker.TrackerUpdateAction
 import id.naturalsmp.naturalmodels.impl.fabric.network.*
@@ -41,6 +43,7 @@ class PlayerChannelHandlerImpl(
     private val uuid = player.uuid
 
     private val basePlayer = PLATFORM.nms().adapt(connection.wrap())
+    private val modelledEntityIds = EntityIdSet()
 
     init {
         val pipeline = connection.player.connection.connection.channel.pipeline()
@@ -55,6 +58,9 @@ class PlayerChannelHandlerImpl(
     }
 
     override fun base(): BasePlayer = basePlayer
+    override fun modelledEntityIds(): EntityIdSet = modelledEntityIds
+
+    private fun Int.isModelled() = modelledEntityIds.contains(this) || EntityTrackerRegistry.hitBoxIds().contains(this)
 
     private val playerModel get() = connection.player.id.toRegistry()
 
@@ -124,6 +130,7 @@ class PlayerChannelHandlerImpl(
             is ClientboundRemoveEntitiesPacket -> {
                 entityIds
                     .asSequence()
+                    .filter { it.isModelled() }
                     .mapNotNull map@{
                         it.toRegistry {
                             return@map null
@@ -134,7 +141,7 @@ class PlayerChannelHandlerImpl(
                     }
             }
 
-            is ClientboundSetPassengersPacket -> {
+            is ClientboundSetPassengersPacket if vehicle.isModelled() -> {
                 vehicle.toRegistry()?.let { registry ->
                     return registry.mountPacket(
                         entity = registry.entity().handle() as? Entity ?: return this,
@@ -143,14 +150,14 @@ class PlayerChannelHandlerImpl(
                 }
             }
 
-            is ClientboundUpdateAttributesPacket if getPlayerEntity(entityId) is HitBox -> return null
-            is ClientboundSetEntityDataPacket -> id.toRegistry {
+            is ClientboundUpdateAttributesPacket if entityId.isModelled() && getPlayerEntity(entityId) is HitBox -> return null
+            is ClientboundSetEntityDataPacket if id.isModelled() -> id.toRegistry {
                 return ClientboundSetEntityDataPacket(id, hitBoxData)
             }?.let { registry ->
                 return toRegistryDataPacket(uuid, registry)
             }
 
-            is ClientboundSetEquipmentPacket -> entity.toRegistry {
+            is ClientboundSetEquipmentPacket if entity.isModelled() -> entity.toRegistry {
                 return null
             }?.let { registry ->
                 if (registry.hideOption(uuid).equipment()) {
@@ -186,7 +193,11 @@ class PlayerChannelHandlerImpl(
     }
 
     override fun write(ctx: ChannelHandlerContext, msg: Any, promise: ChannelPromise) {
-        super.write(ctx, if (msg is Packet<*>) msg.handle() ?: return else msg, promise)
+        if (msg !is Packet<*>) return super.write(ctx, msg, promise)
+        val start = System.nanoTime()
+        val handled = msg.handle()
+        ModelProfiler.channelHandled(System.nanoTime() - start)
+        super.write(ctx, handled ?: return, promise)
     }
 
     override fun channelRead(ctx: ChannelHandlerContext, msg: Any) {
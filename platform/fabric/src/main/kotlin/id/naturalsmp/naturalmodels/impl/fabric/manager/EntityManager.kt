@@ -23,10 +23,14 @@ import id.naturalsmp.naturalmodels.impl.fabric.wrap
 import id.naturalsmp.naturalmodels.manager.GlobalManager
 import id.naturalsmp.naturalmodels.manager.ReloadPipeline
 import id.naturalsmp.naturalmodels.util.PLATFORM
+import id.naturalsmp.naturalmodels.util.info
+import id.naturalsmp.naturalmodels.util.toComponent
+import id.naturalsmp.naturalmodels.util.withComma
 import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents
 import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents
 import net.fabricmc.fabric.api.event.player.UseEntityCallback
 import net.minecraft.server.level.ServerPlayer
 import net.minecraft.world.InteractionHand
@@ -37,9 +41,8 @@ import org.joml.Vector3f
 
 object EntityManager : GlobalManager {
     override fun reload(pipeline: ReloadPipeline, zipper: PackZipper) {
-        EntityTrackerRegistry.registries { registry ->
-            registry.reload()
-        }
+        val result = EntityTrackerRegistry.reloadAll()
+        if (result.total() > 0) info("Trackers are reloaded. (kept: ${result.kept.withComma()}, rebound: ${result.rebound.withComma()}, respawned: ${result.respawned.withComma()})".toComponent())
     }
 
     override fun end() {
@@ -113,6 +116,11 @@ object EntityManager : GlobalManager {
     }
 
     private fun registerLifecycleEvents() {
+        // publishes the entity snapshots read by trackers
+        ServerTickEvents.END_SERVER_TICK.register {
+            EntityTrackerRegistry.captureSnapshots()
+        }
+
         ServerEntityWorldChangeEvents.AFTER_ENTITY_CHANGE_WORLD.register { oldEntity, newEntity, _, _ ->
             NaturalModels.registryOrNull(oldEntity.uuid)?.let { registry ->
                 (registry.entity() as BaseFabricEntity).entity(newEntity)
@@ -59,5 +59,6 @@ include(
     "nms:v1_21_R7",
 
     //test
-    "test-plugin"
+    "test-plugin",
+    "benchmark"
 )